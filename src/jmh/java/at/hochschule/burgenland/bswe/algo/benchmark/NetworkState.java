@@ -0,0 +1,79 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * NetworkState.java Package: at.hochschule.burgenland.bswe.algo.benchmark Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import at.hochschule.burgenland.bswe.algo.model.Airport;
+import at.hochschule.burgenland.bswe.algo.model.Flight;
+import at.hochschule.burgenland.bswe.algo.structure.Graph;
+import at.hochschule.burgenland.bswe.algo.util.ScheduleGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared benchmark state: a flight graph from {@link ScheduleGenerator} and a fixed list of queries
+ * on it.
+ *
+ * <p>The network size, hub structure and departure-time distribution are JMH parameters and can be
+ * overridden on the command line, e.g. {@code -p airportCount=5000 -p departureProfile=UNIFORM}.
+ */
+@State(Scope.Benchmark)
+public class NetworkState {
+
+  /** Number of queries cycled through by the benchmarks. */
+  static final int QUERY_COUNT = 256;
+
+  @Param({"100", "1000"})
+  int airportCount;
+
+  @Param({"10"})
+  int hubCount;
+
+  @Param({"20"})
+  int flightsPerAirport;
+
+  @Param({"DIURNAL", "BANKED", "UNIFORM"})
+  ScheduleGenerator.DepartureProfile departureProfile;
+
+  @Param({"42"})
+  long seed;
+
+  Graph graph;
+  String[] origins;
+  String[] destinations;
+
+  /** Builds the graph and draws the queries. */
+  @Setup(org.openjdk.jmh.annotations.Level.Trial)
+  public void setUp() {
+    // Unreachable queries would otherwise log a warning on every invocation
+    Configurator.setRootLevel(Level.ERROR);
+
+    ScheduleGenerator generator =
+        new ScheduleGenerator(
+            seed, airportCount, hubCount, airportCount * flightsPerAirport, departureProfile);
+    List<Airport> airports = generator.generateAirports();
+    List<Flight> flights = new ArrayList<>();
+    generator.generateFlights(airports, flights::add);
+    graph = new Graph(airports, flights);
+
+    Random random = new Random(seed + 1);
+    origins = new String[QUERY_COUNT];
+    destinations = new String[QUERY_COUNT];
+    for (int i = 0; i < QUERY_COUNT; i++) {
+      int origin = random.nextInt(airports.size());
+      int destination = (origin + 1 + random.nextInt(airports.size() - 1)) % airports.size();
+      origins[i] = airports.get(origin).getIata();
+      destinations[i] = airports.get(destination).getIata();
+    }
+  }
+}
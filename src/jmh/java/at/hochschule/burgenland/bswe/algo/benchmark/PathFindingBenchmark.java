@@ -0,0 +1,59 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * PathFindingBenchmark.java Package: at.hochschule.burgenland.bswe.algo.benchmark Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.path.BreadthFirstSearchAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.path.DijkstraAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.structure.Edge;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the path-finding engines on a synthetic network, one query per invocation.
+ *
+ * <p>Reports throughput and average latency; run with {@code -prof gc} for the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathFindingBenchmark {
+
+  private final DijkstraAlgorithm dijkstra = new DijkstraAlgorithm();
+  private final BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+
+  @Benchmark
+  public Route dijkstraByPrice(NetworkState network, QueryCursor cursor) {
+    int query = cursor.next();
+    return dijkstra.findRoute(
+        network.graph, network.origins[query], network.destinations[query], Edge::getPrice);
+  }
+
+  @Benchmark
+  public Route dijkstraByDuration(NetworkState network, QueryCursor cursor) {
+    int query = cursor.next();
+    return dijkstra.findRoute(
+        network.graph, network.origins[query], network.destinations[query], Edge::getDuration);
+  }
+
+  @Benchmark
+  public Route breadthFirstSearch(NetworkState network, QueryCursor cursor) {
+    int query = cursor.next();
+    return bfs.findRoute(network.graph, network.origins[query], network.destinations[query]);
+  }
+}
@@ -0,0 +1,28 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * QueryCursor.java Package: at.hochschule.burgenland.bswe.algo.benchmark Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/** Per-thread position in the query list of {@link NetworkState}. */
+@State(Scope.Thread)
+public class QueryCursor {
+
+  private int next;
+
+  /**
+   * Returns the index of the next query.
+   *
+   * @return index in {@code [0, NetworkState.QUERY_COUNT)}
+   */
+  int next() {
+    int index = next;
+    next = (next + 1) % NetworkState.QUERY_COUNT;
+    return index;
+  }
+}
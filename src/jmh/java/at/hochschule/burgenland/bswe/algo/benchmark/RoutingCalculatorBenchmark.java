@@ -0,0 +1,49 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RoutingCalculatorBenchmark.java Package: at.hochschule.burgenland.bswe.algo.benchmark Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.RoutingCalculator;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.enums.RouteType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link RoutingCalculator#findRoute} for every {@link RouteType} on a synthetic
+ * network, one query per invocation.
+ *
+ * <p>Reports throughput and average latency; run with {@code -prof gc} for the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutingCalculatorBenchmark {
+
+  @Param({"CHEAPEST", "FASTEST", "FEWEST_STOPOVERS", "SLOWEST"})
+  RouteType routeType;
+
+  private final RoutingCalculator calculator = new RoutingCalculator();
+
+  @Benchmark
+  public Route findRoute(NetworkState network, QueryCursor cursor) {
+    int query = cursor.next();
+    return calculator.findRoute(
+        network.graph, network.origins[query], network.destinations[query], routeType);
+  }
+}
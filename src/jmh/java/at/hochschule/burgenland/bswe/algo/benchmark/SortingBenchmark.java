@@ -0,0 +1,229 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * SortingBenchmark.java Package: at.hochschule.burgenland.bswe.algo.benchmark Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.AdaptiveMergeSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.MergeSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.ParallelMergeSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.ParallelQuickSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.QuickSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.RadixSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.enums.RouteSortCriterion;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the route sorters against {@link List#sort} for every {@link RouteSortCriterion} on
+ * route lists of different sizes and shapes.
+ *
+ * <p>Every invocation sorts a fresh copy of the input list; the copy costs the same for all sorters
+ * and is included in the times. Before a trial starts, the input is sorted once and the result is
+ * checked: it must be in order, and for sorters claimed to be stable, routes with equal keys must
+ * keep their input order. A violation fails the trial.
+ *
+ * <p>The default parameters cover {@code MergeSortAlgorithm}, {@code QuickSortAlgorithm} and
+ * {@code List.sort}; the other sorters can be selected with e.g. {@code -p sorter=RADIX_SORT}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SortingBenchmark {
+
+  /** Sorters under test. */
+  public enum Sorter {
+    MERGE_SORT(true) {
+      @Override
+      void sort(List<Route> routes, Comparator<Route> comparator) {
+        new MergeSortAlgorithm().sort(routes, comparator);
+      }
+    },
+    QUICK_SORT(false) {
+      @Override
+      void sort(List<Route> routes, Comparator<Route> comparator) {
+        new QuickSortAlgorithm().sort(routes, comparator);
+      }
+    },
+    LIST_SORT(true) {
+      @Override
+      void sort(List<Route> routes, Comparator<Route> comparator) {
+        routes.sort(comparator);
+      }
+    },
+    ADAPTIVE_MERGE_SORT(true) {
+      @Override
+      void sort(List<Route> routes, Comparator<Route> comparator) {
+        new AdaptiveMergeSortAlgorithm().sort(routes, comparator);
+      }
+    },
+    PARALLEL_MERGE_SORT(true) {
+      @Override
+      void sort(List<Route> routes, Comparator<Route> comparator) {
+        new ParallelMergeSortAlgorithm().sort(routes, comparator);
+      }
+    },
+    PARALLEL_QUICK_SORT(false) {
+      @Override
+      void sort(List<Route> routes, Comparator<Route> comparator) {
+        new ParallelQuickSortAlgorithm().sort(routes, comparator);
+      }
+    },
+    RADIX_SORT(true) {
+      @Override
+      void sort(List<Route> routes, Comparator<Route> comparator) {
+        new RadixSortAlgorithm().sort(routes, comparator);
+      }
+    };
+
+    private final boolean stable;
+
+    Sorter(boolean stable) {
+      this.stable = stable;
+    }
+
+    /**
+     * Sorts a list in place.
+     *
+     * @param routes the list to sort
+     * @param comparator the comparator to determine the order
+     */
+    abstract void sort(List<Route> routes, Comparator<Route> comparator);
+
+    /**
+     * Returns whether the sorter is claimed to keep equal routes in input order.
+     *
+     * @return true for stable sorters
+     */
+    boolean isStable() {
+      return stable;
+    }
+  }
+
+  /** Shapes of the input list. */
+  public enum Distribution {
+    /** Independent random values. */
+    RANDOM,
+
+    /** Random values already sorted by the benchmarked comparator. */
+    SORTED,
+
+    /** Random values sorted by the benchmarked comparator, then reversed. */
+    REVERSE_SORTED,
+
+    /** Every field takes one of only a few values, so most routes compare equal. */
+    FEW_UNIQUE,
+
+    /** Random durations and stopovers, but only a handful of distinct prices. */
+    EQUAL_PRICES
+  }
+
+  @Param({"MERGE_SORT", "QUICK_SORT", "LIST_SORT"})
+  Sorter sorter;
+
+  @Param({"PRICE", "DURATION", "SLOWEST", "STOPOVERS", "COMBINED"})
+  RouteSortCriterion criterion;
+
+  @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "FEW_UNIQUE", "EQUAL_PRICES"})
+  Distribution distribution;
+
+  @Param({"10", "1000", "100000", "10000000"})
+  int size;
+
+  @Param({"42"})
+  long seed;
+
+  private Route[] input;
+
+  /** Generates the input and checks the sorter's result on it. */
+  @Setup(Level.Trial)
+  public void setUp() {
+    input = generate(distribution, size, criterion.getComparator(), new Random(seed));
+    verify();
+  }
+
+  @Benchmark
+  public List<Route> sort() {
+    List<Route> routes = new ArrayList<>(Arrays.asList(input));
+    sorter.sort(routes, criterion.getComparator());
+    return routes;
+  }
+
+  /**
+   * Sorts the input once and checks order and, if claimed, stability. Route IDs are the input
+   * positions.
+   *
+   * @throws IllegalStateException if the result is not sorted or not stable
+   */
+  private void verify() {
+    Comparator<Route> comparator = criterion.getComparator();
+    List<Route> routes = sort();
+    for (int i = 1; i < routes.size(); i++) {
+      Route previous = routes.get(i - 1);
+      Route current = routes.get(i);
+      int order = comparator.compare(previous, current);
+      if (order > 0) {
+        throw new IllegalStateException(sorter + " did not sort by " + criterion + " at " + i);
+      }
+      if (order == 0 && sorter.isStable() && previous.getId() > current.getId()) {
+        throw new IllegalStateException(sorter + " is not stable for " + criterion + " at " + i);
+      }
+    }
+  }
+
+  /**
+   * Generates an input list; the ID of each route is its position.
+   *
+   * @param distribution the shape of the list
+   * @param size number of routes
+   * @param comparator the benchmarked comparator, used for the sorted shapes
+   * @param random random generator
+   * @return the routes
+   */
+  private static Route[] generate(
+      Distribution distribution, int size, Comparator<Route> comparator, Random random) {
+    Route[] routes = new Route[size];
+    for (int i = 0; i < size; i++) {
+      int duration = 30 + random.nextInt(1200);
+      double price = Math.round(random.nextDouble() * 200000) / 100.0;
+      int stopovers = random.nextInt(4);
+      if (distribution == Distribution.FEW_UNIQUE) {
+        duration = 60 * (1 + random.nextInt(4));
+        price = 100.0 * (1 + random.nextInt(4));
+        stopovers = random.nextInt(2);
+      } else if (distribution == Distribution.EQUAL_PRICES) {
+        price = 99.0 + 100.0 * random.nextInt(5);
+      }
+      routes[i] = new Route(0, null, duration, price, stopovers);
+    }
+    if (distribution == Distribution.SORTED || distribution == Distribution.REVERSE_SORTED) {
+      Arrays.sort(routes, distribution == Distribution.SORTED ? comparator : comparator.reversed());
+    }
+    for (int i = 0; i < size; i++) {
+      routes[i].setId(i);
+    }
+    return routes;
+  }
+}
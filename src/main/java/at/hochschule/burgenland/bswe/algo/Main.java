@@ -6,7 +6,9 @@
  */
 package at.hochschule.burgenland.bswe.algo;
 
+import at.hochschule.burgenland.bswe.algo.metrics.Metrics;
 import at.hochschule.burgenland.bswe.algo.util.ConsoleMenu;
+import java.io.Closeable;
 import lombok.extern.log4j.Log4j2;
 
 /** Main class to demonstrate route calculation. */
@@ -14,7 +16,7 @@ import lombok.extern.log4j.Log4j2;
 public class Main {
 
   public static void main(String[] args) {
-    try {
+    try (Closeable metricsExporters = Metrics.startExporters()) {
 
       ConsoleMenu consoleMenu = new ConsoleMenu();
       consoleMenu.startMenu();
@@ -0,0 +1,72 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * CachingRoutingCalculator.java Package: at.hochschule.burgenland.bswe.algo.algorithm Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.cache.NegativeRouteCache;
+import at.hochschule.burgenland.bswe.algo.algorithm.cache.RouteCache;
+import at.hochschule.burgenland.bswe.algo.algorithm.cache.RouteCacheKey;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.enums.RouteType;
+import at.hochschule.burgenland.bswe.algo.structure.Graph;
+import lombok.Getter;
+
+/**
+ * {@link RoutingCalculator} that answers repeated queries from a {@link RouteCache}.
+ *
+ * <p>Results are keyed by origin, destination, {@link RouteType} and {@link Graph#getVersion()}, so
+ * a rebuilt graph never serves routes calculated on an older snapshot. Queries without a route are
+ * remembered in a separate {@link NegativeRouteCache} and rejected without calculation.
+ */
+public class CachingRoutingCalculator extends RoutingCalculator {
+
+  /** Default number of cached routes. */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  /** Cache holding the calculated routes and its hit/miss/eviction counters. */
+  @Getter private final RouteCache cache;
+
+  /** Cache of queries known to have no route. */
+  @Getter private final NegativeRouteCache negativeCache;
+
+  /** Creates a calculator with a cache of {@link #DEFAULT_CAPACITY} routes. */
+  public CachingRoutingCalculator() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a calculator with a cache of the given capacity.
+   *
+   * @param capacity maximum number of cached routes
+   */
+  public CachingRoutingCalculator(int capacity) {
+    this.cache = new RouteCache(capacity);
+    this.negativeCache = new NegativeRouteCache(capacity);
+  }
+
+  /**
+   * Returns the cached route for the query, calculating it on a cache miss.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origin IATA code of the starting airport
+   * @param destination IATA code of the destination airport
+   * @param type the route optimization strategy
+   * @return the calculated {@link Route}, or {@code null} if no route exists
+   */
+  @Override
+  public Route findRoute(Graph graph, String origin, String destination, RouteType type) {
+    RouteCacheKey key = new RouteCacheKey(origin, destination, type, graph.getVersion());
+    if (negativeCache.contains(key)) {
+      return null;
+    }
+
+    Route route = cache.get(key, () -> super.findRoute(graph, origin, destination, type));
+    if (route == null) {
+      negativeCache.add(key);
+    }
+    return route;
+  }
+}
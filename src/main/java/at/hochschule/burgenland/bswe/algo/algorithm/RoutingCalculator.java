@@ -8,10 +8,28 @@ package at.hochschule.burgenland.bswe.algo.algorithm;
 
 import at.hochschule.burgenland.bswe.algo.algorithm.path.BreadthFirstSearchAlgorithm;
 import at.hochschule.burgenland.bswe.algo.algorithm.path.DijkstraAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.path.ItineraryEnumerator;
+import at.hochschule.burgenland.bswe.algo.algorithm.path.KShortestPathsAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.path.SearchStatistics;
+import at.hochschule.burgenland.bswe.algo.algorithm.path.base.PathFindingAlgorithm;
+import at.hochschule.burgenland.bswe.algo.metrics.Counter;
+import at.hochschule.burgenland.bswe.algo.metrics.LatencyHistogram;
+import at.hochschule.burgenland.bswe.algo.metrics.Metrics;
+import at.hochschule.burgenland.bswe.algo.model.Airport;
 import at.hochschule.burgenland.bswe.algo.model.Route;
 import at.hochschule.burgenland.bswe.algo.model.enums.RouteType;
+import at.hochschule.burgenland.bswe.algo.structure.AirportSpatialIndex;
 import at.hochschule.burgenland.bswe.algo.structure.Edge;
 import at.hochschule.burgenland.bswe.algo.structure.Graph;
+import at.hochschule.burgenland.bswe.algo.structure.ReachabilityIndex;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -21,8 +39,25 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class RoutingCalculator {
 
+  /** Latency of {@link #findRoute} per route type, e.g. {@code routing.cheapest.latency}. */
+  private static final Map<RouteType, LatencyHistogram> LATENCY = new EnumMap<>(RouteType.class);
+
+  private static final Counter UNREACHABLE = Metrics.counter("routing.unreachable");
+
+  static {
+    for (RouteType type : RouteType.values()) {
+      LATENCY.put(
+          type, Metrics.histogram("routing." + type.name().toLowerCase(Locale.ROOT) + ".latency"));
+    }
+  }
+
   private final DijkstraAlgorithm dijkstra = new DijkstraAlgorithm();
   private final BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+  private final KShortestPathsAlgorithm kShortestPaths = new KShortestPathsAlgorithm();
+  private final ItineraryEnumerator itineraryEnumerator = new ItineraryEnumerator();
+
+  /** Reachability index of the most recently queried graph, rebuilt when the graph changes. */
+  private volatile ReachabilityIndex reachabilityIndex;
 
   /**
    * Delegates to the correct algorithm based on {@link RouteType}.
@@ -34,11 +69,195 @@ public class RoutingCalculator {
    * @return the calculated {@link Route}, or {@code null} if no route exists
    */
   public Route findRoute(Graph graph, String origin, String destination, RouteType type) {
+    return calculate(graph, origin, destination, type, null);
+  }
+
+  /**
+   * Delegates to the correct algorithm based on {@link RouteType} and reports the effort of the
+   * search next to the route.
+   *
+   * <p>Meant for analyzing slow queries: the search always runs, also in a {@link
+   * CachingRoutingCalculator}, and queries rejected by the reachability index report no effort.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origin IATA code of the starting airport
+   * @param destination IATA code of the destination airport
+   * @param type the route optimization strategy
+   * @return the calculated route, {@code null} if no route exists, and the search statistics
+   */
+  public RoutingResult findRouteWithStatistics(
+      Graph graph, String origin, String destination, RouteType type) {
+    SearchStatistics statistics = new SearchStatistics();
+    Route route = calculate(graph, origin, destination, type, statistics);
+    return new RoutingResult(route, statistics);
+  }
+
+  /**
+   * Calculates the best route to a destination starting from the requested airport or any airport
+   * within {@code radiusKm} of it.
+   *
+   * <p>The nearby airports are looked up in the spatial index, and airports that provably cannot
+   * reach the destination are dropped. A single multi-source search then runs from the rest.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param spatialIndex spatial index over the airports of the graph
+   * @param origin IATA code of the requested starting airport
+   * @param destination IATA code of the destination airport
+   * @param type the route optimization strategy
+   * @param radiusKm maximum distance of an alternative origin from the requested one
+   * @return the calculated {@link Route}, or {@code null} if no route exists
+   */
+  public Route findRouteFromNearby(
+      Graph graph,
+      AirportSpatialIndex spatialIndex,
+      String origin,
+      String destination,
+      RouteType type,
+      double radiusKm) {
+    Airport center = spatialIndex.getAirport(origin);
+    if (center == null) {
+      log.warn("Origin {} not found in spatial index", origin);
+      return null;
+    }
+
+    List<String> origins = new ArrayList<>();
+    for (Airport airport : spatialIndex.findWithinRadius(center, radiusKm)) {
+      if (!isProvablyUnreachable(graph, airport.getIata(), destination)) {
+        origins.add(airport.getIata());
+      }
+    }
+    log.info(
+        "Calculating {} route to {} from {} airports within {} km of {}",
+        type,
+        destination,
+        origins.size(),
+        radiusKm,
+        origin);
+
+    if (type == RouteType.FEWEST_STOPOVERS) {
+      return bfs.findRouteFromAny(graph, origins, destination);
+    }
+    return dijkstra.findRouteFromAny(graph, origins, destination, weightFunction(type));
+  }
+
+  /**
+   * Calculates up to {@code k} alternative routes for the given {@link RouteType}, best first.
+   *
+   * <p>All route types are handled by Yen's k-shortest paths algorithm; fewest stopovers counts
+   * every flight with a weight of one.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origin IATA code of the starting airport
+   * @param destination IATA code of the destination airport
+   * @param type the route optimization strategy
+   * @param k maximum number of routes to return
+   * @return list of at most {@code k} routes, or an empty list if no route exists
+   */
+  public List<Route> findRoutes(
+      Graph graph, String origin, String destination, RouteType type, int k) {
+    log.info("Calculating {} {} routes from {} to {}", k, type, origin, destination);
+    if (isProvablyUnreachable(graph, origin, destination)) {
+      return Collections.emptyList();
+    }
+    return kShortestPaths.findRoutes(graph, origin, destination, weightFunction(type), k);
+  }
+
+  /**
+   * Lazily enumerates every valid itinerary between two airports.
+   *
+   * <p>The returned stream can be made parallel and is typically collected and sorted with one of
+   * the {@code model.comparator} comparators.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origin IATA code of the starting airport
+   * @param destination IATA code of the destination airport
+   * @return stream of all valid routes, empty if none exists
+   */
+  public Stream<Route> findAllRoutes(Graph graph, String origin, String destination) {
+    log.info("Enumerating all routes from {} to {}", origin, destination);
+    if (isProvablyUnreachable(graph, origin, destination)) {
+      return Stream.empty();
+    }
+    return itineraryEnumerator.enumerate(graph, origin, destination);
+  }
+
+  /**
+   * Calculates a route with the algorithm matching the {@link RouteType}.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origin IATA code of the starting airport
+   * @param destination IATA code of the destination airport
+   * @param type the route optimization strategy
+   * @param statistics receives the search effort, or {@code null} to skip collecting it
+   * @return the calculated {@link Route}, or {@code null} if no route exists
+   */
+  private Route calculate(
+      Graph graph,
+      String origin,
+      String destination,
+      RouteType type,
+      SearchStatistics statistics) {
+    long startNanos = Metrics.ENABLED ? System.nanoTime() : 0;
+    Route route =
+        isProvablyUnreachable(graph, origin, destination)
+            ? null
+            : switch (type) {
+              case CHEAPEST -> findCheapestRoute(graph, origin, destination, statistics);
+              case FASTEST -> findFastestRoute(graph, origin, destination, statistics);
+              case FEWEST_STOPOVERS -> findFewestStopovers(graph, origin, destination, statistics);
+              case SLOWEST -> findSlowestRoute(graph, origin, destination, statistics);
+            };
+    if (Metrics.ENABLED) {
+      LATENCY.get(type).recordSince(startNanos);
+    }
+    return route;
+  }
+
+  /**
+   * Checks the hop-bounded reachability index before a search is started.
+   *
+   * <p>Unknown airports and identical origin and destination are left to the algorithms, which
+   * report them as before. The index is built on the first query against a graph and reused until a
+   * graph with a different version is queried.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origin IATA code of the starting airport
+   * @param destination IATA code of the destination airport
+   * @return true if no route with at most {@link PathFindingAlgorithm#MAX_FLIGHTS} flights can
+   *     exist
+   */
+  private boolean isProvablyUnreachable(Graph graph, String origin, String destination) {
+    ReachabilityIndex index = reachabilityIndex;
+    if (index == null || index.getGraphVersion() != graph.getVersion()) {
+      index = new ReachabilityIndex(graph, PathFindingAlgorithm.MAX_FLIGHTS);
+      reachabilityIndex = index;
+    }
+
+    if (!index.contains(origin) || !index.contains(destination) || origin.equals(destination)) {
+      return false;
+    }
+    if (index.canReach(origin, destination)) {
+      return false;
+    }
+    if (Metrics.ENABLED) {
+      UNREACHABLE.increment();
+    }
+    log.info("No route from {} to {}: rejected by reachability index", origin, destination);
+    return true;
+  }
+
+  /**
+   * Returns the edge weight that corresponds to the given {@link RouteType}.
+   *
+   * @param type the route optimization strategy
+   * @return weight function for Dijkstra-based searches
+   */
+  private ToDoubleFunction<Edge> weightFunction(RouteType type) {
     return switch (type) {
-      case CHEAPEST -> findCheapestRoute(graph, origin, destination);
-      case FASTEST -> findFastestRoute(graph, origin, destination);
-      case FEWEST_STOPOVERS -> findFewestStopovers(graph, origin, destination);
-      case SLOWEST -> findSlowestRoute(graph, origin, destination);
+      case CHEAPEST -> Edge::getPrice;
+      case FASTEST -> Edge::getDuration;
+      case FEWEST_STOPOVERS -> edge -> 1.0;
+      case SLOWEST -> edge -> -edge.getDuration();
     };
   }
 
@@ -48,11 +267,13 @@ public class RoutingCalculator {
    * @param graph the flight graph containing all airports and flights
    * @param origin IATA code of the starting airport
    * @param destination IATA code of the destination airport
+   * @param statistics receives the search effort, or {@code null} to skip collecting it
    * @return the cheapest {@link Route} between the two airports, or {@code null} if none exists
    */
-  private Route findCheapestRoute(Graph graph, String origin, String destination) {
+  private Route findCheapestRoute(
+      Graph graph, String origin, String destination, SearchStatistics statistics) {
     log.info("Calculating cheapest route from {} to {}", origin, destination);
-    return dijkstra.findRoute(graph, origin, destination, Edge::getPrice);
+    return dijkstra.findRoute(graph, origin, destination, Edge::getPrice, statistics);
   }
 
   /**
@@ -61,11 +282,13 @@ public class RoutingCalculator {
    * @param graph the flight graph containing all airports and flights
    * @param origin IATA code of the starting airport
    * @param destination IATA code of the destination airport
+   * @param statistics receives the search effort, or {@code null} to skip collecting it
    * @return the fastest {@link Route} between the two airports, or {@code null} if none exists
    */
-  private Route findFastestRoute(Graph graph, String origin, String destination) {
+  private Route findFastestRoute(
+      Graph graph, String origin, String destination, SearchStatistics statistics) {
     log.info("Calculating fastest route from {} to {}", origin, destination);
-    return dijkstra.findRoute(graph, origin, destination, Edge::getDuration);
+    return dijkstra.findRoute(graph, origin, destination, Edge::getDuration, statistics);
   }
 
   /**
@@ -74,11 +297,13 @@ public class RoutingCalculator {
    * @param graph the flight graph containing all airports and flights
    * @param origin IATA code of the starting airport
    * @param destination IATA code of the destination airport
+   * @param statistics receives the search effort, or {@code null} to skip collecting it
    * @return the {@link Route} with the fewest stopovers, or {@code null} if none exists
    */
-  private Route findFewestStopovers(Graph graph, String origin, String destination) {
+  private Route findFewestStopovers(
+      Graph graph, String origin, String destination, SearchStatistics statistics) {
     log.info("Calculating route with fewest stopovers from {} to {}", origin, destination);
-    return bfs.findRoute(graph, origin, destination);
+    return bfs.findRoute(graph, origin, destination, statistics);
   }
 
   /**
@@ -91,11 +316,13 @@ public class RoutingCalculator {
    * @param graph the flight graph containing all airports and flights
    * @param origin IATA code of the starting airport
    * @param destination IATA code of the destination airport
+   * @param statistics receives the search effort, or {@code null} to skip collecting it
    * @return the slowest {@link Route} between the two airports, or {@code null} if none exists
    */
-  private Route findSlowestRoute(Graph graph, String origin, String destination) {
+  private Route findSlowestRoute(
+      Graph graph, String origin, String destination, SearchStatistics statistics) {
     log.info("Calculating slowest route from {} to {}", origin, destination);
     // Use negated duration to find the longest path (Dijkstra finds shortest, so negating finds longest)
-    return dijkstra.findRoute(graph, origin, destination, edge -> -edge.getDuration());
+    return dijkstra.findRoute(graph, origin, destination, edge -> -edge.getDuration(), statistics);
   }
 }
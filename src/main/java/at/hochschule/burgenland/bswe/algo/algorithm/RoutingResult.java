@@ -0,0 +1,22 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RoutingResult.java Package: at.hochschule.burgenland.bswe.algo.algorithm Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.path.SearchStatistics;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import lombok.Data;
+
+/** A calculated route together with the effort of the search that found it. */
+@Data
+public class RoutingResult {
+
+  /** The calculated route, or {@code null} if no route exists. */
+  private final Route route;
+
+  /** Effort of the search; all zero if the query was answered without searching. */
+  private final SearchStatistics statistics;
+}
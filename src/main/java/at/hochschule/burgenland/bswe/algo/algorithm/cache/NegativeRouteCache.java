@@ -0,0 +1,116 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * NegativeRouteCache.java Package: at.hochschule.burgenland.bswe.algo.algorithm.cache Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.cache;
+
+import at.hochschule.burgenland.bswe.algo.metrics.Counter;
+import at.hochschule.burgenland.bswe.algo.metrics.Metrics;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU set of queries that are known to have no route.
+ *
+ * <p>It is kept apart from {@link RouteCache} so that floods of impossible queries cannot push real
+ * routes out of the route cache. Like the route cache it only holds keys of the newest graph
+ * version it has seen.
+ */
+public class NegativeRouteCache {
+
+  /** Hits and misses summed over all negative caches. */
+  private static final Counter TOTAL_HITS = Metrics.counter("negativecache.hits");
+
+  private static final Counter TOTAL_MISSES = Metrics.counter("negativecache.misses");
+
+  static {
+    Metrics.gauge("negativecache.hit.rate", () -> Metrics.hitRate(TOTAL_HITS, TOTAL_MISSES));
+  }
+
+  private final int capacity;
+
+  /** Keys in access order; guarded by {@code this}. */
+  private final LinkedHashMap<RouteCacheKey, Boolean> entries;
+
+  /** Graph version of the cached keys; guarded by {@code this}. */
+  private long currentVersion = Long.MIN_VALUE;
+
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * Creates a cache holding at most {@code capacity} keys.
+   *
+   * @param capacity maximum number of cached keys, at least 1
+   * @throws IllegalArgumentException if the capacity is smaller than 1
+   */
+  public NegativeRouteCache(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Cache capacity must be at least 1: " + capacity);
+    }
+    this.capacity = capacity;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<RouteCacheKey, Boolean> eldest) {
+            return size() > NegativeRouteCache.this.capacity;
+          }
+        };
+  }
+
+  /**
+   * Checks whether a query is known to have no route.
+   *
+   * @param key the query key
+   * @return true if the query was recorded as having no route
+   */
+  public synchronized boolean contains(RouteCacheKey key) {
+    if (entries.get(key) == null) {
+      if (Metrics.ENABLED) {
+        TOTAL_MISSES.increment();
+      }
+      return false;
+    }
+    hits.increment();
+    if (Metrics.ENABLED) {
+      TOTAL_HITS.increment();
+    }
+    return true;
+  }
+
+  /**
+   * Records that a query has no route.
+   *
+   * @param key the query key
+   */
+  public synchronized void add(RouteCacheKey key) {
+    if (key.getGraphVersion() < currentVersion) {
+      return;
+    }
+    if (key.getGraphVersion() > currentVersion) {
+      entries.clear();
+      currentVersion = key.getGraphVersion();
+    }
+    entries.put(key, Boolean.TRUE);
+  }
+
+  /**
+   * Returns the number of cached keys.
+   *
+   * @return number of entries
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns how many queries were rejected by this cache.
+   *
+   * @return number of hits
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+}
@@ -0,0 +1,315 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteCache.java Package: at.hochschule.burgenland.bswe.algo.algorithm.cache Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.cache;
+
+import at.hochschule.burgenland.bswe.algo.metrics.Counter;
+import at.hochschule.burgenland.bswe.algo.metrics.Metrics;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Bounded in-process cache for calculated routes using a segmented LRU policy.
+ *
+ * <p>New entries enter the probation segment. A second hit promotes an entry to the protected
+ * segment, which holds 80% of the capacity. Entries demoted from the protected segment go back to
+ * probation, and only probation entries are evicted. One-off queries therefore never displace the
+ * small set of hot city pairs that make up most of the traffic.
+ *
+ * <p>Keys carry the graph version. As soon as a key with a newer version is stored, all entries of
+ * older snapshots are dropped. Concurrent misses for the same key are coalesced: only one thread
+ * runs the loader while the others wait for its result. Those waits are counted separately from
+ * hits and misses, since they neither come from the cache nor run the loader.
+ *
+ * <p>Cached routes are copied on the way in and out, so callers may modify the returned objects.
+ */
+@Log4j2
+public class RouteCache {
+
+  /** Share of the capacity reserved for the protected segment. */
+  private static final double PROTECTED_RATIO = 0.8;
+
+  /** Hits, misses, coalesced lookups and evictions summed over all route caches. */
+  private static final Counter TOTAL_HITS = Metrics.counter("routecache.hits");
+
+  private static final Counter TOTAL_MISSES = Metrics.counter("routecache.misses");
+  private static final Counter TOTAL_COALESCED = Metrics.counter("routecache.coalesced");
+  private static final Counter TOTAL_EVICTIONS = Metrics.counter("routecache.evictions");
+
+  static {
+    Metrics.gauge(
+        "routecache.hit.rate",
+        () -> Metrics.hitRate(TOTAL_HITS, TOTAL_MISSES, TOTAL_COALESCED));
+  }
+
+  private final int probationCapacity;
+  private final int protectedCapacity;
+
+  /** Segments in access order; guarded by {@code this}. */
+  private final LinkedHashMap<RouteCacheKey, Route> probation =
+      new LinkedHashMap<>(16, 0.75f, true);
+
+  private final LinkedHashMap<RouteCacheKey, Route> protectedSegment =
+      new LinkedHashMap<>(16, 0.75f, true);
+
+  /** Graph version of the cached entries; guarded by {@code this}. */
+  private long currentVersion = Long.MIN_VALUE;
+
+  /** Loads that are currently running, used to coalesce concurrent misses. */
+  private final Map<RouteCacheKey, CompletableFuture<Route>> inFlight = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a cache holding at most {@code capacity} routes.
+   *
+   * @param capacity maximum number of cached routes, at least 2
+   * @throws IllegalArgumentException if the capacity is smaller than 2
+   */
+  public RouteCache(int capacity) {
+    if (capacity < 2) {
+      throw new IllegalArgumentException("Cache capacity must be at least 2: " + capacity);
+    }
+    this.protectedCapacity = (int) (capacity * PROTECTED_RATIO);
+    this.probationCapacity = capacity - protectedCapacity;
+  }
+
+  /**
+   * Returns the cached route for a key, or calculates it with {@code loader} on a miss.
+   *
+   * <p>{@code null} results are passed through without being cached.
+   *
+   * @param key the query key
+   * @param loader calculates the route on a miss
+   * @return copy of the cached or calculated route, or {@code null}
+   */
+  public Route get(RouteCacheKey key, Supplier<Route> loader) {
+    Route cached = lookup(key);
+    if (cached != null) {
+      recordHit();
+      return copy(cached);
+    }
+
+    CompletableFuture<Route> load = new CompletableFuture<>();
+    CompletableFuture<Route> running = inFlight.putIfAbsent(key, load);
+    if (running != null) {
+      // Another thread is already calculating this key
+      coalesced.increment();
+      if (Metrics.ENABLED) {
+        TOTAL_COALESCED.increment();
+      }
+      return copy(await(running));
+    }
+
+    try {
+      // The key may have been stored between the lookup and claiming the load
+      Route route = lookup(key);
+      if (route != null) {
+        recordHit();
+      } else {
+        misses.increment();
+        if (Metrics.ENABLED) {
+          TOTAL_MISSES.increment();
+        }
+        route = loader.get();
+        if (route != null) {
+          store(key, copy(route));
+        }
+      }
+      load.complete(route);
+      return copy(route);
+    } catch (RuntimeException e) {
+      load.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, load);
+    }
+  }
+
+  /**
+   * Looks up a key and promotes it to the protected segment on a probation hit.
+   *
+   * @param key the query key
+   * @return the cached route, or {@code null}
+   */
+  private synchronized Route lookup(RouteCacheKey key) {
+    Route route = protectedSegment.get(key);
+    if (route != null) {
+      return route;
+    }
+    route = probation.remove(key);
+    if (route != null) {
+      protectedSegment.put(key, route);
+      if (protectedSegment.size() > protectedCapacity) {
+        // Demote the least recently used protected entry
+        Iterator<Map.Entry<RouteCacheKey, Route>> eldest = protectedSegment.entrySet().iterator();
+        Map.Entry<RouteCacheKey, Route> demoted = eldest.next();
+        eldest.remove();
+        insertProbation(demoted.getKey(), demoted.getValue());
+      }
+    }
+    return route;
+  }
+
+  /**
+   * Stores a calculated route in the probation segment.
+   *
+   * @param key the query key
+   * @param route the route to cache
+   */
+  private synchronized void store(RouteCacheKey key, Route route) {
+    if (key.getGraphVersion() < currentVersion) {
+      return;
+    }
+    if (key.getGraphVersion() > currentVersion) {
+      int stale = probation.size() + protectedSegment.size();
+      if (stale > 0) {
+        log.debug(
+            "Graph version changed to {}, dropping {} cached routes", key.getGraphVersion(), stale);
+      }
+      probation.clear();
+      protectedSegment.clear();
+      currentVersion = key.getGraphVersion();
+    }
+    insertProbation(key, route);
+  }
+
+  /**
+   * Inserts an entry into probation and evicts the least recently used entry on overflow.
+   *
+   * @param key the query key
+   * @param route the route to cache
+   */
+  private void insertProbation(RouteCacheKey key, Route route) {
+    probation.put(key, route);
+    if (probation.size() > probationCapacity) {
+      Iterator<RouteCacheKey> eldest = probation.keySet().iterator();
+      eldest.next();
+      eldest.remove();
+      evictions.increment();
+      if (Metrics.ENABLED) {
+        TOTAL_EVICTIONS.increment();
+      }
+    }
+  }
+
+  /** Counts a hit of this cache and, if enabled, in the application-wide metrics. */
+  private void recordHit() {
+    hits.increment();
+    if (Metrics.ENABLED) {
+      TOTAL_HITS.increment();
+    }
+  }
+
+  /**
+   * Waits for a load started by another thread.
+   *
+   * @param running the running load
+   * @return the loaded route, or {@code null}
+   */
+  private Route await(CompletableFuture<Route> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Creates a detached copy of a route.
+   *
+   * @param route the route to copy, may be {@code null}
+   * @return the copy, or {@code null}
+   */
+  private Route copy(Route route) {
+    if (route == null) {
+      return null;
+    }
+    return new Route(
+        route.getId(),
+        route.getFlights(),
+        route.getTotalDuration(),
+        route.getTotalPrice(),
+        route.getStopovers());
+  }
+
+  /** Removes all cached routes. Counters are kept. */
+  public synchronized void clear() {
+    probation.clear();
+    protectedSegment.clear();
+  }
+
+  /**
+   * Returns the number of cached routes.
+   *
+   * @return number of entries in both segments
+   */
+  public synchronized int size() {
+    return probation.size() + protectedSegment.size();
+  }
+
+  /**
+   * Returns how many lookups were answered from the cache.
+   *
+   * @return number of hits
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns how many lookups had to run the loader.
+   *
+   * @return number of misses
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns how many lookups waited for the loader run by another thread.
+   *
+   * @return number of coalesced lookups
+   */
+  public long getCoalescedCount() {
+    return coalesced.sum();
+  }
+
+  /**
+   * Returns how many entries were evicted because the cache was full.
+   *
+   * @return number of evictions
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Returns the share of lookups that were hits. Coalesced lookups count as lookups but not as
+   * hits.
+   *
+   * @return hit rate between 0 and 1, or 0 if there were no lookups
+   */
+  public double getHitRate() {
+    long hitCount = hits.sum();
+    long total = hitCount + misses.sum() + coalesced.sum();
+    return total == 0 ? 0.0 : (double) hitCount / total;
+  }
+}
@@ -0,0 +1,27 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteCacheKey.java Package: at.hochschule.burgenland.bswe.algo.algorithm.cache Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.cache;
+
+import at.hochschule.burgenland.bswe.algo.model.enums.RouteType;
+import lombok.Data;
+
+/** Identifies one route query against one graph snapshot. */
+@Data
+public class RouteCacheKey {
+
+  /** IATA code of the origin airport. */
+  private final String origin;
+
+  /** IATA code of the destination airport. */
+  private final String destination;
+
+  /** Optimization strategy of the query. */
+  private final RouteType type;
+
+  /** Version of the graph the route was calculated on. */
+  private final long graphVersion;
+}
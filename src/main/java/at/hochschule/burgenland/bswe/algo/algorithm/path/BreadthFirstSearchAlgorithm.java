@@ -7,6 +7,10 @@
 package at.hochschule.burgenland.bswe.algo.algorithm.path;
 
 import at.hochschule.burgenland.bswe.algo.algorithm.path.base.PathFindingAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.path.base.RouteEventLog;
+import at.hochschule.burgenland.bswe.algo.metrics.Counter;
+import at.hochschule.burgenland.bswe.algo.metrics.LatencyHistogram;
+import at.hochschule.burgenland.bswe.algo.metrics.Metrics;
 import at.hochschule.burgenland.bswe.algo.model.Route;
 import at.hochschule.burgenland.bswe.algo.structure.Edge;
 import at.hochschule.burgenland.bswe.algo.structure.Graph;
@@ -16,6 +20,16 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class BreadthFirstSearchAlgorithm extends PathFindingAlgorithm {
 
+  /** Name of this search in routing events. */
+  private static final String EVENT_NAME = "bfs";
+
+  private static final LatencyHistogram LATENCY = Metrics.histogram("bfs.latency");
+  private static final Counter SEARCHES = Metrics.counter("bfs.searches");
+  private static final Counter NODES_SETTLED = Metrics.counter("bfs.nodes.settled");
+  private static final Counter EDGES_SCANNED = Metrics.counter("bfs.edges.scanned");
+  private static final Counter QUEUE_PUSHES = Metrics.counter("bfs.queue.pushes");
+  private static final Counter QUEUE_POLLS = Metrics.counter("bfs.queue.polls");
+
   /**
    * Finds the route between two airports with the fewest stopovers.
    *
@@ -26,26 +40,93 @@ public class BreadthFirstSearchAlgorithm extends PathFindingAlgorithm {
    *     route exists
    */
   public Route findRoute(Graph graph, String origin, String destination) {
+    return findRoute(graph, origin, destination, null);
+  }
+
+  /**
+   * Finds the route between two airports with the fewest stopovers and adds the effort of the
+   * search to {@code statistics}. Queue pushes are reported as heap pushes.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origin IATA code of the origin airport
+   * @param destination IATA code of the destination airport
+   * @param statistics receives the search effort, or {@code null} to skip collecting it
+   * @return a Route object representing the path with the fewest stopovers, or {@code null} if no
+   *     route exists
+   */
+  public Route findRoute(
+      Graph graph, String origin, String destination, SearchStatistics statistics) {
     if (!validateNodes(graph, origin, destination)) {
       return null;
     }
+    return search(graph, Set.of(origin), destination, statistics);
+  }
+
+  /**
+   * Finds the route with the fewest stopovers to a destination starting from any of several
+   * airports. All origins form the first BFS level, so one search covers every origin. Unknown
+   * origins and the destination itself are ignored.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origins IATA codes of the airports the route may start from
+   * @param destination IATA code of the destination airport
+   * @return a Route object representing the path with the fewest stopovers, or {@code null} if no
+   *     route exists
+   */
+  public Route findRouteFromAny(Graph graph, Collection<String> origins, String destination) {
+    Set<String> validOrigins = new LinkedHashSet<>();
+    for (String origin : origins) {
+      if (!origin.equals(destination) && validateNodes(graph, origin, destination)) {
+        validOrigins.add(origin);
+      }
+    }
+    if (validOrigins.isEmpty()) {
+      return null;
+    }
+    return search(graph, validOrigins, destination, null);
+  }
+
+  /**
+   * Runs the breadth-first search from all origins at once.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origins IATA codes of the start airports
+   * @param destination IATA code of the destination airport
+   * @param statistics receives the search effort, or {@code null} to skip collecting it
+   * @return the route with the fewest stopovers, or {@code null} if no route exists
+   */
+  private Route search(
+      Graph graph, Set<String> origins, String destination, SearchStatistics statistics) {
+    long startNanos = Metrics.ENABLED || statistics != null ? System.nanoTime() : 0;
+    int nodesSettled = 0;
+    int edgesScanned = 0;
+    int queuePushes = 0;
+    int queuePolls = 0;
+    int flightCountRejects = 0;
+    int connectionRejects = 0;
 
     Queue<List<Edge>> queue = new LinkedList<>();
 
-    // Initialize queue with direct flights from origin
-    for (Edge edge : graph.getOutgoingEdges(origin)) {
-      List<Edge> path = Collections.singletonList(edge);
-      // Validate single flight
-      if (isValidFlightCount(path)) {
-        queue.add(path);
+    // Initialize queue with direct flights from the origins
+    for (String start : origins) {
+      for (Edge edge : graph.getOutgoingEdges(start)) {
+        edgesScanned++;
+        List<Edge> path = Collections.singletonList(edge);
+        // Validate single flight
+        if (isValidFlightCount(path)) {
+          queue.add(path);
+          queuePushes++;
+        } else {
+          flightCountRejects++;
+        }
       }
     }
 
-    Set<String> visited = new HashSet<>();
-    visited.add(origin);
+    Set<String> visited = new HashSet<>(origins);
 
     while (!queue.isEmpty()) {
       List<Edge> path = queue.poll();
+      queuePolls++;
       Edge lastEdge = path.get(path.size() - 1);
       String currentAirport = lastEdge.getDestinationIata();
 
@@ -53,25 +134,34 @@ public class BreadthFirstSearchAlgorithm extends PathFindingAlgorithm {
         // Final validation before returning
         if (areAllConnectionsValid(path)) {
           Route route = buildRouteFromEdges(path);
-          log.info(
-              "Route found from {} to {} | Stops: {}, Duration: {} min, Price: €{}",
-              origin,
-              destination,
-              route.getStopovers(),
-              route.getTotalDuration(),
-              route.getTotalPrice());
+          if (Metrics.ENABLED || statistics != null) {
+            recordSearch(
+                statistics,
+                startNanos,
+                nodesSettled,
+                edgesScanned,
+                flightCountRejects,
+                connectionRejects,
+                queuePushes,
+                queuePolls);
+          }
+          RouteEventLog.routeFound(
+              EVENT_NAME, path.get(0).getFlight().getOrigin(), destination, route);
           return route;
         }
       }
 
       // Check if we've exceeded max flights
       if (!isValidFlightCount(path)) {
+        flightCountRejects++;
         continue;
       }
 
       if (!visited.contains(currentAirport)) {
         visited.add(currentAirport);
+        nodesSettled++;
         for (Edge nextEdge : graph.getOutgoingEdges(currentAirport)) {
+          edgesScanned++;
           if (visited.contains(nextEdge.getDestinationIata())) continue;
 
           List<Edge> newPath = new ArrayList<>(path);
@@ -79,19 +169,77 @@ public class BreadthFirstSearchAlgorithm extends PathFindingAlgorithm {
 
           // Validate: check flight count and connection times
           if (!isValidFlightCount(newPath)) {
+            flightCountRejects++;
             continue; // Skip if too many flights
           }
 
           if (!areAllConnectionsValid(newPath)) {
+            connectionRejects++;
             continue; // Skip if connection times are invalid
           }
 
           queue.add(newPath);
+          queuePushes++;
         }
       }
     }
 
+    if (Metrics.ENABLED || statistics != null) {
+      recordSearch(
+          statistics,
+          startNanos,
+          nodesSettled,
+          edgesScanned,
+          flightCountRejects,
+          connectionRejects,
+          queuePushes,
+          queuePolls);
+    }
+    // Log the single origin as before without joining the codes into a new string
+    Object origin = origins.size() == 1 ? origins.iterator().next() : origins;
     log.warn("No route found from {} to {}", origin, destination);
+    RouteEventLog.routeNotFound(EVENT_NAME, origin, destination);
     return null;
   }
+
+  /**
+   * Adds the work of one search to the metrics, if enabled, and to the statistics, if given.
+   *
+   * @param statistics receives the search effort, or {@code null}
+   * @param startNanos start time of the search
+   * @param nodesSettled airports whose flights were expanded
+   * @param edgesScanned flights looked at
+   * @param flightCountRejects paths rejected by the flight count check
+   * @param connectionRejects paths rejected by the connection time check
+   * @param queuePushes paths added to the queue
+   * @param queuePolls paths taken from the queue
+   */
+  private static void recordSearch(
+      SearchStatistics statistics,
+      long startNanos,
+      int nodesSettled,
+      int edgesScanned,
+      int flightCountRejects,
+      int connectionRejects,
+      int queuePushes,
+      int queuePolls) {
+    long elapsedNanos = System.nanoTime() - startNanos;
+    if (Metrics.ENABLED) {
+      SEARCHES.increment();
+      NODES_SETTLED.add(nodesSettled);
+      EDGES_SCANNED.add(edgesScanned);
+      QUEUE_PUSHES.add(queuePushes);
+      QUEUE_POLLS.add(queuePolls);
+      LATENCY.record(elapsedNanos);
+    }
+    if (statistics != null) {
+      statistics.record(
+          nodesSettled,
+          edgesScanned,
+          flightCountRejects,
+          connectionRejects,
+          queuePushes,
+          elapsedNanos);
+    }
+  }
 }
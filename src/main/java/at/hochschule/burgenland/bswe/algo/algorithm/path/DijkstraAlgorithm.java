@@ -7,6 +7,10 @@
 package at.hochschule.burgenland.bswe.algo.algorithm.path;
 
 import at.hochschule.burgenland.bswe.algo.algorithm.path.base.PathFindingAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.path.base.RouteEventLog;
+import at.hochschule.burgenland.bswe.algo.metrics.Counter;
+import at.hochschule.burgenland.bswe.algo.metrics.LatencyHistogram;
+import at.hochschule.burgenland.bswe.algo.metrics.Metrics;
 import at.hochschule.burgenland.bswe.algo.model.Route;
 import at.hochschule.burgenland.bswe.algo.structure.Edge;
 import at.hochschule.burgenland.bswe.algo.structure.Graph;
@@ -17,6 +21,17 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class DijkstraAlgorithm extends PathFindingAlgorithm {
 
+  /** Name of this search in routing events. */
+  private static final String EVENT_NAME = "dijkstra";
+
+  private static final LatencyHistogram LATENCY = Metrics.histogram("dijkstra.latency");
+  private static final Counter SEARCHES = Metrics.counter("dijkstra.searches");
+  private static final Counter NODES_SETTLED = Metrics.counter("dijkstra.nodes.settled");
+  private static final Counter EDGES_SCANNED = Metrics.counter("dijkstra.edges.scanned");
+  private static final Counter EDGES_RELAXED = Metrics.counter("dijkstra.edges.relaxed");
+  private static final Counter HEAP_PUSHES = Metrics.counter("dijkstra.heap.pushes");
+  private static final Counter HEAP_POLLS = Metrics.counter("dijkstra.heap.polls");
+
   /**
    * Calculates the shortest path between two airports.
    *
@@ -28,11 +43,180 @@ public class DijkstraAlgorithm extends PathFindingAlgorithm {
    */
   public Route findRoute(
       Graph graph, String origin, String destination, ToDoubleFunction<Edge> weightFunc) {
+    return findRoute(graph, origin, destination, weightFunc, null);
+  }
+
+  /**
+   * Calculates the shortest path between two airports and adds the effort of the search to {@code
+   * statistics}.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origin IATA code of the origin airport
+   * @param destination IATA code of the destination airport
+   * @param weightFunc function to determine the weight of each edge (e.g. {@code Edge::getPrice})
+   * @param statistics receives the search effort, or {@code null} to skip collecting it
+   * @return a Route object representing the optimal path, or {@code null} if no route exists
+   */
+  public Route findRoute(
+      Graph graph,
+      String origin,
+      String destination,
+      ToDoubleFunction<Edge> weightFunc,
+      SearchStatistics statistics) {
 
     if (!validateNodes(graph, origin, destination)) {
       return null;
     }
 
+    List<Edge> finalPath =
+        findPath(
+            graph,
+            origin,
+            destination,
+            weightFunc,
+            Collections.emptyList(),
+            Collections.emptySet(),
+            Collections.emptySet(),
+            statistics);
+
+    // Check if we found a path
+    if (finalPath == null || finalPath.isEmpty()) {
+      if (!origin.equals(destination)) {
+        log.warn("No Route found from {} to {}", origin, destination);
+        RouteEventLog.routeNotFound(EVENT_NAME, origin, destination);
+      }
+      return null;
+    }
+
+    Route route = buildRouteFromEdges(finalPath);
+    RouteEventLog.routeFound(EVENT_NAME, origin, destination, route);
+    return route;
+  }
+
+  /**
+   * Calculates the best path to a destination starting from any of several airports.
+   *
+   * <p>All origins are seeded with a distance of zero, so a single search finds the best route
+   * over all of them instead of running one search per origin. Unknown origins and the destination
+   * itself are ignored.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origins IATA codes of the airports the route may start from
+   * @param destination IATA code of the destination airport
+   * @param weightFunc function to determine the weight of each edge (e.g. {@code Edge::getPrice})
+   * @return a Route object representing the optimal path, or {@code null} if no route exists
+   */
+  public Route findRouteFromAny(
+      Graph graph,
+      Collection<String> origins,
+      String destination,
+      ToDoubleFunction<Edge> weightFunc) {
+    Set<String> validOrigins = new LinkedHashSet<>();
+    for (String origin : origins) {
+      if (!origin.equals(destination) && validateNodes(graph, origin, destination)) {
+        validOrigins.add(origin);
+      }
+    }
+    if (validOrigins.isEmpty()) {
+      return null;
+    }
+
+    List<Edge> finalPath =
+        findPath(
+            graph,
+            validOrigins,
+            destination,
+            weightFunc,
+            Collections.emptyList(),
+            Collections.emptySet(),
+            Collections.emptySet(),
+            null);
+    if (finalPath.isEmpty()) {
+      log.warn("No Route found from any of {} to {}", validOrigins, destination);
+      RouteEventLog.routeNotFound(EVENT_NAME, validOrigins, destination);
+      return null;
+    }
+
+    Route route = buildRouteFromEdges(finalPath);
+    RouteEventLog.routeFound(
+        EVENT_NAME, finalPath.get(0).getFlight().getOrigin(), destination, route);
+    return route;
+  }
+
+  /**
+   * Runs the constrained Dijkstra search from {@code origin} and returns the edges of the best path
+   * to {@code destination}, prefixed by {@code rootPath}.
+   *
+   * <p>The root path is treated as already flown: its flights count towards {@link #MAX_FLIGHTS}
+   * and the first spur flight must respect the connection time after its last flight. Blocked
+   * flights and airports are never relaxed, which is what spur searches of the k-shortest paths
+   * algorithm need.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origin IATA code of the airport the search starts from
+   * @param destination IATA code of the destination airport
+   * @param weightFunc function to determine the weight of each edge
+   * @param rootPath flights already taken before reaching {@code origin}
+   * @param blockedFlightIds IDs of flights that must not be used
+   * @param blockedAirports IATA codes of airports that must not be entered
+   * @param statistics receives the search effort, or {@code null} to skip collecting it
+   * @return root path plus the best spur path, or an empty list if the destination is unreachable
+   */
+  List<Edge> findPath(
+      Graph graph,
+      String origin,
+      String destination,
+      ToDoubleFunction<Edge> weightFunc,
+      List<Edge> rootPath,
+      Set<Integer> blockedFlightIds,
+      Set<String> blockedAirports,
+      SearchStatistics statistics) {
+    if (origin.equals(destination)) {
+      return Collections.emptyList();
+    }
+    return findPath(
+        graph,
+        Set.of(origin),
+        destination,
+        weightFunc,
+        rootPath,
+        blockedFlightIds,
+        blockedAirports,
+        statistics);
+  }
+
+  /**
+   * Runs the constrained Dijkstra search from all {@code origins} at once and returns the edges of
+   * the best path to {@code destination}, prefixed by {@code rootPath}.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origins IATA codes of the airports the search starts from, each with distance zero
+   * @param destination IATA code of the destination airport
+   * @param weightFunc function to determine the weight of each edge
+   * @param rootPath flights already taken before reaching the origins
+   * @param blockedFlightIds IDs of flights that must not be used
+   * @param blockedAirports IATA codes of airports that must not be entered
+   * @param statistics receives the search effort, or {@code null} to skip collecting it
+   * @return root path plus the best spur path, or an empty list if the destination is unreachable
+   */
+  private List<Edge> findPath(
+      Graph graph,
+      Set<String> origins,
+      String destination,
+      ToDoubleFunction<Edge> weightFunc,
+      List<Edge> rootPath,
+      Set<Integer> blockedFlightIds,
+      Set<String> blockedAirports,
+      SearchStatistics statistics) {
+    long startNanos = Metrics.ENABLED || statistics != null ? System.nanoTime() : 0;
+    int nodesSettled = 0;
+    int edgesScanned = 0;
+    int edgesRelaxed = 0;
+    int heapPushes = 0;
+    int heapPolls = 0;
+    int flightCountRejects = 0;
+    int connectionRejects = 0;
+
     // Store the path to each node for validation
     Map<String, List<Edge>> paths = new HashMap<>();
     Map<String, Double> distance = new HashMap<>();
@@ -41,19 +225,22 @@ public class DijkstraAlgorithm extends PathFindingAlgorithm {
     // Initialize distances and paths
     for (String iata : graph.getNodes().keySet()) {
       distance.put(iata, Double.POSITIVE_INFINITY);
-      paths.put(iata, new ArrayList<>());
     }
-    distance.put(origin, 0.0);
-    paths.put(origin, new ArrayList<>());
-
     PriorityQueue<String> queue =
         new PriorityQueue<>(Comparator.comparingDouble(distance::get));
-    queue.add(origin);
+    for (String origin : origins) {
+      distance.put(origin, 0.0);
+      paths.put(origin, new ArrayList<>(rootPath));
+      queue.add(origin);
+      heapPushes++;
+    }
 
     while (!queue.isEmpty()) {
       String current = queue.poll();
+      heapPolls++;
       if (visited.contains(current)) continue;
       visited.add(current);
+      nodesSettled++;
 
       // Stop early if destination reached
       if (current.equals(destination)) break;
@@ -62,12 +249,16 @@ public class DijkstraAlgorithm extends PathFindingAlgorithm {
 
       // Check if we've exceeded max flights
       if (!isValidFlightCount(currentPath)) {
+        flightCountRejects++;
         continue;
       }
 
       for (Edge edge : graph.getOutgoingEdges(current)) {
+        edgesScanned++;
         String neighbor = edge.getDestinationIata();
         if (visited.contains(neighbor)) continue;
+        if (blockedAirports.contains(neighbor)) continue;
+        if (blockedFlightIds.contains(edge.getFlight().getId())) continue;
 
         // Build new path with this edge
         List<Edge> newPath = new ArrayList<>(currentPath);
@@ -75,39 +266,49 @@ public class DijkstraAlgorithm extends PathFindingAlgorithm {
 
         // Validate: check flight count and connection times
         if (!isValidFlightCount(newPath)) {
+          flightCountRejects++;
           continue; // Skip if too many flights
         }
 
         if (!areAllConnectionsValid(newPath)) {
+          connectionRejects++;
           continue; // Skip if connection times are invalid
         }
 
         double newDist = distance.get(current) + weightFunc.applyAsDouble(edge);
-        if (newDist < distance.get(neighbor)) {
+        if (newDist < distance.getOrDefault(neighbor, Double.POSITIVE_INFINITY)) {
           distance.put(neighbor, newDist);
           paths.put(neighbor, newPath);
           queue.add(neighbor);
+          edgesRelaxed++;
+          heapPushes++;
         }
       }
     }
 
-    // Check if we found a path
-    List<Edge> finalPath = paths.get(destination);
-    if (finalPath == null || finalPath.isEmpty()) {
-      if (!origin.equals(destination)) {
-        log.warn("No Route found from {} to {}", origin, destination);
-      }
-      return null;
+    if (Metrics.ENABLED) {
+      SEARCHES.increment();
+      NODES_SETTLED.add(nodesSettled);
+      EDGES_SCANNED.add(edgesScanned);
+      EDGES_RELAXED.add(edgesRelaxed);
+      HEAP_PUSHES.add(heapPushes);
+      HEAP_POLLS.add(heapPolls);
+      LATENCY.recordSince(startNanos);
+    }
+    if (statistics != null) {
+      statistics.record(
+          nodesSettled,
+          edgesScanned,
+          flightCountRejects,
+          connectionRejects,
+          heapPushes,
+          System.nanoTime() - startNanos);
     }
 
-    Route route = buildRouteFromEdges(finalPath);
-    log.info(
-        "Route found from {} to {} | Stops: {}, Duration: {} min, Price: €{}",
-        origin,
-        destination,
-        route != null ? route.getStopovers() : "-",
-        route != null ? route.getTotalDuration() : "-",
-        route != null ? route.getTotalPrice() : "-");
-    return route;
+    if (origins.contains(destination)
+        || distance.getOrDefault(destination, Double.POSITIVE_INFINITY).isInfinite()) {
+      return Collections.emptyList();
+    }
+    return paths.get(destination);
   }
 }
@@ -0,0 +1,176 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * ItineraryEnumerator.java Package: at.hochschule.burgenland.bswe.algo.algorithm.path Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.path;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.path.base.PathFindingAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.structure.Edge;
+import at.hochschule.burgenland.bswe.algo.structure.Graph;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Enumerates every valid itinerary between two airports.
+ *
+ * <p>An itinerary is valid if it has at most {@link #MAX_FLIGHTS} flights, never visits an airport
+ * twice and every connection leaves at least {@link #MIN_CONNECTION_TIME_MINUTES} minutes. The
+ * search is a depth-bounded DFS with explicit frames instead of recursion, and a branch is cut as
+ * soon as one of its connections is invalid.
+ *
+ * <p>Results are produced lazily by a {@link Spliterator}: nothing is materialized beyond the
+ * current path. When the stream is parallel, the spliterator splits on the first-leg flights of the
+ * origin, so every worker walks its own subtrees.
+ */
+@Log4j2
+public class ItineraryEnumerator extends PathFindingAlgorithm {
+
+  /**
+   * Returns a lazy stream of all valid itineraries between two airports.
+   *
+   * <p>The stream is sequential; call {@link Stream#parallel()} to enumerate first-leg subtrees in
+   * parallel. The order of the routes is unspecified.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origin IATA code of the origin airport
+   * @param destination IATA code of the destination airport
+   * @return stream of routes, empty if the airports are invalid or identical
+   */
+  public Stream<Route> enumerate(Graph graph, String origin, String destination) {
+    if (!validateNodes(graph, origin, destination) || origin.equals(destination)) {
+      return Stream.empty();
+    }
+
+    List<Edge> firstLegs = graph.getOutgoingEdges(origin);
+    log.debug(
+        "Enumerating itineraries from {} to {} over {} first legs",
+        origin,
+        destination,
+        firstLegs.size());
+    return StreamSupport.stream(
+        new ItinerarySpliterator(graph, origin, destination, firstLegs, 0, firstLegs.size()),
+        false);
+  }
+
+  /**
+   * Depth-first spliterator over the itineraries that start with the first-leg flights in {@code
+   * [firstLegFrom, firstLegTo)}.
+   */
+  private final class ItinerarySpliterator implements Spliterator<Route> {
+
+    /** Minimum number of untouched first legs required to split. */
+    private static final int MIN_SPLIT_SIZE = 2;
+
+    private final Graph graph;
+    private final String origin;
+    private final String destination;
+    private final List<Edge> firstLegs;
+    private int firstLegTo;
+
+    /** Flights of the current path; {@code path[0..depth)} are taken. */
+    private final Edge[] path = new Edge[MAX_FLIGHTS];
+
+    /** Next outgoing edge to try for each frame. */
+    private final int[] cursor = new int[MAX_FLIGHTS];
+
+    /** Number of flights on the current path. */
+    private int depth;
+
+    private ItinerarySpliterator(
+        Graph graph,
+        String origin,
+        String destination,
+        List<Edge> firstLegs,
+        int firstLegFrom,
+        int firstLegTo) {
+      this.graph = graph;
+      this.origin = origin;
+      this.destination = destination;
+      this.firstLegs = firstLegs;
+      this.firstLegTo = firstLegTo;
+      this.cursor[0] = firstLegFrom;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Route> action) {
+      while (depth >= 0) {
+        List<Edge> candidates =
+            depth == 0 ? firstLegs : graph.getOutgoingEdges(path[depth - 1].getDestinationIata());
+        int limit = depth == 0 ? firstLegTo : candidates.size();
+
+        if (cursor[depth] >= limit) {
+          // Frame exhausted: backtrack to the previous flight
+          depth--;
+          continue;
+        }
+
+        Edge edge = candidates.get(cursor[depth]++);
+        if (!canAppend(edge)) {
+          continue;
+        }
+
+        path[depth] = edge;
+        if (edge.getDestinationIata().equals(destination)) {
+          action.accept(buildRouteFromEdges(Arrays.asList(Arrays.copyOf(path, depth + 1))));
+          return true;
+        }
+        if (depth + 1 < MAX_FLIGHTS) {
+          depth++;
+          cursor[depth] = 0;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Checks whether a flight can extend the current path.
+     *
+     * @param edge the candidate flight
+     * @return true if it neither revisits an airport nor breaks the connection time
+     */
+    private boolean canAppend(Edge edge) {
+      String next = edge.getDestinationIata();
+      if (next.equals(origin)) {
+        return false;
+      }
+      for (int i = 0; i < depth; i++) {
+        if (path[i].getDestinationIata().equals(next)) {
+          return false;
+        }
+      }
+      return depth == 0 || isValidConnection(path[depth - 1], edge);
+    }
+
+    @Override
+    public Spliterator<Route> trySplit() {
+      // Only first legs that have not been entered yet can be handed off
+      int remaining = firstLegTo - cursor[0];
+      if (depth < 0 || remaining < MIN_SPLIT_SIZE) {
+        return null;
+      }
+      int middle = cursor[0] + remaining / 2;
+      ItinerarySpliterator split =
+          new ItinerarySpliterator(graph, origin, destination, firstLegs, middle, firstLegTo);
+      firstLegTo = middle;
+      return split;
+    }
+
+    @Override
+    public long estimateSize() {
+      return depth < 0 ? 0 : Math.max(1, firstLegTo - cursor[0]);
+    }
+
+    @Override
+    public int characteristics() {
+      return NONNULL;
+    }
+  }
+}
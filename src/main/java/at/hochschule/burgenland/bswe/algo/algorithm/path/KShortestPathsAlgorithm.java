@@ -0,0 +1,210 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * KShortestPathsAlgorithm.java Package: at.hochschule.burgenland.bswe.algo.algorithm.path Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.path;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.path.base.PathFindingAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.structure.Edge;
+import at.hochschule.burgenland.bswe.algo.structure.Graph;
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Finds the k best loopless routes between two airports using Yen's algorithm on top of {@link
+ * DijkstraAlgorithm}.
+ *
+ * <p>Every accepted path remembers the index at which it deviated from its parent path. Spur
+ * searches for the next path only start at or after that index (Lawler's refinement), because all
+ * earlier spur nodes were already explored for the parent and their candidates are still queued.
+ * Root path costs are taken from the accepted path instead of being recomputed, and spur results
+ * are memoized per root path and blocked flight set, so repeated spur searches are not run twice.
+ *
+ * <p><strong>Time Complexity:</strong> O(k · L · D), where L is the route length (at most {@link
+ * #MAX_FLIGHTS}) and D the cost of a single Dijkstra search
+ */
+@Log4j2
+public class KShortestPathsAlgorithm extends PathFindingAlgorithm {
+
+  private final DijkstraAlgorithm dijkstra = new DijkstraAlgorithm();
+
+  /**
+   * Calculates up to {@code k} routes between two airports, ordered by ascending total weight.
+   *
+   * @param graph the flight graph containing all airports and flights
+   * @param origin IATA code of the origin airport
+   * @param destination IATA code of the destination airport
+   * @param weightFunc function to determine the weight of each edge (e.g. {@code Edge::getPrice})
+   * @param k maximum number of routes to return
+   * @return list of at most {@code k} routes, best first; empty if no route exists
+   */
+  public List<Route> findRoutes(
+      Graph graph, String origin, String destination, ToDoubleFunction<Edge> weightFunc, int k) {
+    if (k <= 0 || !validateNodes(graph, origin, destination) || origin.equals(destination)) {
+      return Collections.emptyList();
+    }
+
+    List<CandidatePath> accepted = new ArrayList<>();
+    PriorityQueue<CandidatePath> candidates =
+        new PriorityQueue<>(
+            Comparator.comparingDouble(CandidatePath::getCost)
+                .thenComparingInt(candidate -> candidate.getEdges().size()));
+    Set<String> knownPaths = new HashSet<>();
+    Map<String, List<Edge>> spurCache = new HashMap<>();
+
+    List<Edge> shortest =
+        dijkstra.findPath(
+            graph,
+            origin,
+            destination,
+            weightFunc,
+            Collections.emptyList(),
+            Collections.emptySet(),
+            Collections.emptySet(),
+            null);
+    if (shortest.isEmpty()) {
+      log.warn("No Route found from {} to {}", origin, destination);
+      return Collections.emptyList();
+    }
+    CandidatePath first = new CandidatePath(shortest, prefixCosts(shortest, weightFunc), 0);
+    accepted.add(first);
+    knownPaths.add(pathKey(shortest));
+
+    while (accepted.size() < k) {
+      CandidatePath previous = accepted.get(accepted.size() - 1);
+      List<Edge> previousEdges = previous.getEdges();
+
+      for (int spurIndex = previous.getDeviationIndex();
+          spurIndex < previousEdges.size();
+          spurIndex++) {
+        List<Edge> rootPath = previousEdges.subList(0, spurIndex);
+        String spurAirport =
+            spurIndex == 0 ? origin : previousEdges.get(spurIndex - 1).getDestinationIata();
+
+        // Block the next flight of every accepted path sharing this root
+        Set<Integer> blockedFlights = new HashSet<>();
+        for (CandidatePath path : accepted) {
+          List<Edge> edges = path.getEdges();
+          if (edges.size() > spurIndex && sharesRoot(edges, rootPath)) {
+            blockedFlights.add(edges.get(spurIndex).getFlight().getId());
+          }
+        }
+
+        // Keep routes loopless by blocking every airport of the root path
+        Set<String> blockedAirports = new HashSet<>();
+        blockedAirports.add(origin);
+        for (Edge edge : rootPath) {
+          blockedAirports.add(edge.getDestinationIata());
+        }
+        blockedAirports.remove(spurAirport);
+
+        String cacheKey = pathKey(rootPath) + "|" + new TreeSet<>(blockedFlights);
+        List<Edge> fullPath =
+            spurCache.computeIfAbsent(
+                cacheKey,
+                key ->
+                    dijkstra.findPath(
+                        graph,
+                        spurAirport,
+                        destination,
+                        weightFunc,
+                        rootPath,
+                        blockedFlights,
+                        blockedAirports,
+                        null));
+        if (fullPath.isEmpty() || !knownPaths.add(pathKey(fullPath))) {
+          continue;
+        }
+
+        double[] costs = new double[fullPath.size() + 1];
+        System.arraycopy(previous.getPrefixCosts(), 0, costs, 0, spurIndex + 1);
+        for (int i = spurIndex; i < fullPath.size(); i++) {
+          costs[i + 1] = costs[i] + weightFunc.applyAsDouble(fullPath.get(i));
+        }
+        candidates.add(new CandidatePath(fullPath, costs, spurIndex));
+      }
+
+      if (candidates.isEmpty()) {
+        break;
+      }
+      accepted.add(candidates.poll());
+    }
+
+    List<Route> routes = new ArrayList<>(accepted.size());
+    for (CandidatePath path : accepted) {
+      routes.add(buildRouteFromEdges(path.getEdges()));
+    }
+    log.info("Found {} of {} requested routes from {} to {}", routes.size(), k, origin, destination);
+    return routes;
+  }
+
+  /**
+   * Checks whether a path starts with the given root path.
+   *
+   * @param edges the path to check
+   * @param rootPath the expected prefix
+   * @return true if both share the same flights up to the length of the root path
+   */
+  private boolean sharesRoot(List<Edge> edges, List<Edge> rootPath) {
+    for (int i = 0; i < rootPath.size(); i++) {
+      if (edges.get(i).getFlight().getId() != rootPath.get(i).getFlight().getId()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Calculates the cumulative weight of every prefix of a path.
+   *
+   * @param edges the path
+   * @param weightFunc function to determine the weight of each edge
+   * @return array where index {@code i} holds the weight of the first {@code i} edges
+   */
+  private double[] prefixCosts(List<Edge> edges, ToDoubleFunction<Edge> weightFunc) {
+    double[] costs = new double[edges.size() + 1];
+    for (int i = 0; i < edges.size(); i++) {
+      costs[i + 1] = costs[i] + weightFunc.applyAsDouble(edges.get(i));
+    }
+    return costs;
+  }
+
+  /**
+   * Builds a unique key for a path from its flight IDs.
+   *
+   * @param edges the path
+   * @return dash-separated flight IDs
+   */
+  private String pathKey(List<Edge> edges) {
+    StringBuilder key = new StringBuilder();
+    for (Edge edge : edges) {
+      key.append(edge.getFlight().getId()).append('-');
+    }
+    return key.toString();
+  }
+
+  /** A path found by the algorithm together with its prefix costs and deviation index. */
+  @Getter
+  @AllArgsConstructor
+  private static final class CandidatePath {
+
+    /** Flights of the path in travel order. */
+    private final List<Edge> edges;
+
+    /** Cumulative weights; index {@code i} holds the weight of the first {@code i} edges. */
+    private final double[] prefixCosts;
+
+    /** Index of the first edge that differs from the parent path. */
+    private final int deviationIndex;
+
+    private double getCost() {
+      return prefixCosts[prefixCosts.length - 1];
+    }
+  }
+}
@@ -0,0 +1,70 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * SearchStatistics.java Package: at.hochschule.burgenland.bswe.algo.algorithm.path Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.path;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Effort spent by route searches, for telling a cheap query from an expensive one.
+ *
+ * <p>The searches count in local variables and add their totals once when they finish, so the
+ * loops neither allocate nor write to shared memory. Searches called without statistics skip the
+ * totals, and the JIT then drops the unused local counters. Statistics passed to several searches
+ * accumulate; an instance is not thread-safe.
+ */
+@Getter
+@ToString
+public class SearchStatistics {
+
+  /** Number of searches that added to these statistics. */
+  private int searches;
+
+  /** Airports whose outgoing flights were expanded. */
+  private long nodesSettled;
+
+  /** Flights looked at while expanding airports. */
+  private long edgesScanned;
+
+  /** Paths rejected because they exceed the maximum number of flights. */
+  private long flightCountRejects;
+
+  /** Paths rejected because a connection is shorter than the minimum connection time. */
+  private long connectionRejects;
+
+  /** Entries added to the priority queue of Dijkstra or the queue of the breadth-first search. */
+  private long heapPushes;
+
+  /** Wall-clock time spent in the searches, in nanoseconds. */
+  private long elapsedNanos;
+
+  /**
+   * Adds the totals of one finished search.
+   *
+   * @param nodesSettled airports expanded
+   * @param edgesScanned flights looked at
+   * @param flightCountRejects paths rejected by the flight count check
+   * @param connectionRejects paths rejected by the connection time check
+   * @param heapPushes queue entries added
+   * @param elapsedNanos duration of the search
+   */
+  void record(
+      long nodesSettled,
+      long edgesScanned,
+      long flightCountRejects,
+      long connectionRejects,
+      long heapPushes,
+      long elapsedNanos) {
+    this.searches++;
+    this.nodesSettled += nodesSettled;
+    this.edgesScanned += edgesScanned;
+    this.flightCountRejects += flightCountRejects;
+    this.connectionRejects += connectionRejects;
+    this.heapPushes += heapPushes;
+    this.elapsedNanos += elapsedNanos;
+  }
+}
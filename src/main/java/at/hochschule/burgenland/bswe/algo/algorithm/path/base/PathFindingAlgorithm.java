@@ -62,12 +62,15 @@ public abstract class PathFindingAlgorithm {
     route.setTotalDuration(totalDuration);
     route.setStopovers(Math.max(0, edges.size() - 1));
 
-    log.debug(
-        "Built route [{}] | Stops: {}, Duration: {} min, Price: €{}",
-        route.getFlights(),
-        route.getStopovers(),
-        totalDuration,
-        totalPrice);
+    // Guarded: boxing the numbers would allocate even with debug logging off
+    if (log.isDebugEnabled()) {
+      log.debug(
+          "Built route [{}] | Stops: {}, Duration: {} min, Price: €{}",
+          route.getFlights(),
+          route.getStopovers(),
+          totalDuration,
+          totalPrice);
+    }
 
     return route;
   }
@@ -86,7 +89,7 @@ public abstract class PathFindingAlgorithm {
    * Maximum number of stopovers allowed (3 stopovers = 4 flights maximum).
    */
   protected static final int MAX_STOPOVERS = 3;
-  protected static final int MAX_FLIGHTS = MAX_STOPOVERS + 1;
+  public static final int MAX_FLIGHTS = MAX_STOPOVERS + 1;
 
   /**
    * Minimum connection time required for a stopover in minutes.
@@ -156,13 +159,17 @@ public abstract class PathFindingAlgorithm {
       Edge nextFlight = edges.get(i + 1);
 
       if (!isValidConnection(currentFlight, nextFlight)) {
-        log.debug(
-            "Invalid connection: Flight {} arrives at {} but flight {} departs at {} (requires at least {} minutes)",
-            currentFlight.getFlight().getId(),
-            calculateArrivalTime(currentFlight),
-            nextFlight.getFlight().getId(),
-            nextFlight.getFlight().getDepartureTime(),
-            MIN_CONNECTION_TIME_MINUTES);
+        // Called for every relaxed edge; only compute the arrival time if it is logged
+        if (log.isDebugEnabled()) {
+          log.debug(
+              "Invalid connection: Flight {} arrives at {} but flight {} departs at {}"
+                  + " (requires at least {} minutes)",
+              currentFlight.getFlight().getId(),
+              calculateArrivalTime(currentFlight),
+              nextFlight.getFlight().getId(),
+              nextFlight.getFlight().getDepartureTime(),
+              MIN_CONNECTION_TIME_MINUTES);
+        }
         return false;
       }
     }
@@ -0,0 +1,87 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteEventLog.java Package: at.hochschule.burgenland.bswe.algo.algorithm.path.base Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.path.base;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.util.Unbox;
+
+/**
+ * Structured, sampled events of the route searches, logged to the logger {@code routing.events}.
+ *
+ * <p>Every event is one line of {@code key=value} pairs, e.g. {@code event=route_found
+ * algorithm=dijkstra origin=VIE destination=JFK ...}. {@code log4j2.xml} routes the logger to an
+ * asynchronous logger with a garbage-free layout, so searches do not wait for the console.
+ *
+ * <p>When the logger is disabled an event costs one level check. When it is enabled, only about
+ * one in {@code -Drouting.events.sampleRate=<n>} events is logged (default: every event). Numbers
+ * are boxed with {@link Unbox} and at most ten parameters are passed, so Log4j2 can format an event
+ * without allocating.
+ */
+@Log4j2(topic = "routing.events")
+public final class RouteEventLog {
+
+  /** Log about one in this many events. */
+  private static final int SAMPLE_RATE =
+      Math.max(1, Integer.getInteger("routing.events.sampleRate", 1));
+
+  private RouteEventLog() {}
+
+  /**
+   * Records a route found by a search.
+   *
+   * @param algorithm short name of the search, e.g. {@code dijkstra}
+   * @param origin IATA code of the airport the route starts at
+   * @param destination IATA code of the destination airport
+   * @param route the found route
+   */
+  public static void routeFound(String algorithm, String origin, String destination, Route route) {
+    if (!log.isInfoEnabled() || !isSampled(SAMPLE_RATE)) {
+      return;
+    }
+    log.info(
+        "event=route_found algorithm={} origin={} destination={} flights={} stops={}"
+            + " durationMin={} price={}",
+        algorithm,
+        origin,
+        destination,
+        route.getFlights(),
+        Unbox.box(route.getStopovers()),
+        Unbox.box(route.getTotalDuration()),
+        Unbox.box(route.getTotalPrice()));
+  }
+
+  /**
+   * Records a search that found no route.
+   *
+   * @param algorithm short name of the search, e.g. {@code dijkstra}
+   * @param origin IATA code of the origin airport, or the collection of origin codes of a
+   *     multi-source search; formatted only if the event is logged
+   * @param destination IATA code of the destination airport
+   */
+  public static void routeNotFound(String algorithm, Object origin, String destination) {
+    if (!log.isInfoEnabled() || !isSampled(SAMPLE_RATE)) {
+      return;
+    }
+    log.info(
+        "event=route_not_found algorithm={} origin={} destination={}",
+        algorithm,
+        origin,
+        destination);
+  }
+
+  /**
+   * Decides at random whether an event is logged.
+   *
+   * @param rate log about one in this many events
+   * @return true if the event is logged
+   */
+  static boolean isSampled(int rate) {
+    return rate <= 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+  }
+}
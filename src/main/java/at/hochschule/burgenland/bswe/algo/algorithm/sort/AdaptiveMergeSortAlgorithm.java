@@ -0,0 +1,556 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * AdaptiveMergeSortAlgorithm.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort
+ * Authors: Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.base.SortingAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import java.util.Comparator;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Stable sorting algorithm implementation using a natural merge sort in the style of TimSort.
+ *
+ * <p>Instead of splitting the input blindly, the algorithm scans it for runs that are already
+ * ascending (or strictly descending, which are reversed in place). Short runs are extended to a
+ * minimum length with binary insertion sort. The runs are kept on a stack and merged so that
+ * neighbouring runs have similar lengths:
+ *
+ * <ul>
+ *   <li>Before a merge, elements that are already in their final position at the start of the left
+ *       run and at the end of the right run are skipped by binary search.
+ *   <li>The shorter run is copied into a single merge buffer that is reused and only grown when
+ *       needed.
+ *   <li>When one run wins many comparisons in a row, the merge switches to galloping mode and
+ *       copies whole blocks found by exponential search.
+ * </ul>
+ *
+ * <p>A list that is already sorted is a single run and is sorted with n - 1 comparisons; a sorted
+ * list with an unsorted tail costs little more than sorting the tail.
+ *
+ * <p><strong>Stability:</strong> Stable - maintains the relative order of equal elements
+ *
+ * <p><strong>Time Complexity:</strong> O(n) for presorted input, O(n log n) in the worst case
+ *
+ * <p><strong>Space Complexity:</strong> O(n) in the worst case - one buffer of at most half the
+ * input
+ */
+@Log4j2
+public class AdaptiveMergeSortAlgorithm extends SortingAlgorithm {
+
+  /** Inputs shorter than this are sorted with binary insertion sort only. */
+  private static final int MIN_MERGE = 32;
+
+  /** Number of consecutive wins of one run before switching to galloping mode. */
+  private static final int MIN_GALLOP = 7;
+
+  /** Initial size of the merge buffer. */
+  private static final int INITIAL_BUFFER_SIZE = 256;
+
+  /**
+   * Sorts a slice of a route array using adaptive merge sort.
+   *
+   * @param routes the array containing the slice (will be modified)
+   * @param from first index of the slice, inclusive
+   * @param to last index of the slice, exclusive
+   * @param comparator the comparator to determine the sort order
+   */
+  @Override
+  protected void sortRange(Route[] routes, int from, int to, Comparator<Route> comparator) {
+    log.debug("Starting adaptive Merge Sort on {} routes", to - from);
+    int remaining = to - from;
+    if (remaining < MIN_MERGE) {
+      int runLength = countRunAndMakeAscending(routes, from, to, comparator);
+      binaryInsertionSort(routes, from, to, from + runLength, comparator);
+      log.debug("Adaptive Merge Sort completed with insertion sort");
+      return;
+    }
+
+    MergeState state = new MergeState(routes, comparator, remaining);
+    int minRun = minRunLength(remaining);
+    int low = from;
+    do {
+      int runLength = countRunAndMakeAscending(routes, low, to, comparator);
+      if (runLength < minRun) {
+        int forced = Math.min(remaining, minRun);
+        binaryInsertionSort(routes, low, low + forced, low + runLength, comparator);
+        runLength = forced;
+      }
+      state.pushRun(low, runLength);
+      state.mergeCollapse();
+      low += runLength;
+      remaining -= runLength;
+    } while (remaining != 0);
+    state.mergeForceCollapse();
+    log.debug("Adaptive Merge Sort completed with {} initial runs", state.runCount);
+  }
+
+  /**
+   * Returns the minimum run length: a value between {@code MIN_MERGE / 2} and {@code MIN_MERGE}
+   * such that {@code length / minRun} is a power of two or slightly less, which keeps the final
+   * merges balanced.
+   *
+   * @param length number of elements to sort
+   * @return the minimum run length
+   */
+  private static int minRunLength(int length) {
+    int remainder = 0;
+    while (length >= MIN_MERGE) {
+      remainder |= length & 1;
+      length >>= 1;
+    }
+    return length + remainder;
+  }
+
+  /**
+   * Returns the length of the run starting at {@code from}, reversing it first if it is strictly
+   * descending. Only strictly descending runs are reversed, so equal elements keep their order.
+   *
+   * @param routes the array
+   * @param from first index of the run
+   * @param to end of the slice, exclusive
+   * @param comparator the comparator for ordering
+   * @return length of the now ascending run
+   */
+  private static int countRunAndMakeAscending(
+      Route[] routes, int from, int to, Comparator<Route> comparator) {
+    int runEnd = from + 1;
+    if (runEnd == to) {
+      return 1;
+    }
+    if (comparator.compare(routes[runEnd++], routes[from]) < 0) {
+      while (runEnd < to && comparator.compare(routes[runEnd], routes[runEnd - 1]) < 0) {
+        runEnd++;
+      }
+      reverse(routes, from, runEnd);
+    } else {
+      while (runEnd < to && comparator.compare(routes[runEnd], routes[runEnd - 1]) >= 0) {
+        runEnd++;
+      }
+    }
+    return runEnd - from;
+  }
+
+  /**
+   * Reverses a range in place.
+   *
+   * @param routes the array
+   * @param from first index, inclusive
+   * @param to last index, exclusive
+   */
+  private static void reverse(Route[] routes, int from, int to) {
+    for (int low = from, high = to - 1; low < high; low++, high--) {
+      swap(routes, low, high);
+    }
+  }
+
+  /**
+   * Sorts a range whose prefix {@code [from, start)} is already sorted with binary insertion sort.
+   * Each element is inserted behind all equal elements, which keeps the sort stable.
+   *
+   * @param routes the array
+   * @param from first index, inclusive
+   * @param to last index, exclusive
+   * @param start first index that is not yet sorted
+   * @param comparator the comparator for ordering
+   */
+  private static void binaryInsertionSort(
+      Route[] routes, int from, int to, int start, Comparator<Route> comparator) {
+    for (int i = start; i < to; i++) {
+      Route pivot = routes[i];
+      int insertAt = from + gallopRight(pivot, routes, from, i - from, true, comparator);
+      System.arraycopy(routes, insertAt, routes, insertAt + 1, i - insertAt);
+      routes[insertAt] = pivot;
+    }
+  }
+
+  /**
+   * Counts the elements of a sorted range that are less than or equal to a key. The search
+   * starts at one end of the range with exponentially growing steps and finishes with a binary
+   * search, so it is fast when the answer is close to that end.
+   *
+   * @param key the key
+   * @param routes the array holding the sorted range
+   * @param base first index of the range
+   * @param length length of the range
+   * @param fromEnd whether to start at the end of the range instead of the start
+   * @param comparator the comparator for ordering
+   * @return number of elements not greater than the key
+   */
+  private static int gallopRight(
+      Route key,
+      Route[] routes,
+      int base,
+      int length,
+      boolean fromEnd,
+      Comparator<Route> comparator) {
+    int low;
+    int high;
+    int offset = 1;
+    int lastOffset = 0;
+    if (!fromEnd) {
+      while (offset < length && comparator.compare(key, routes[base + offset - 1]) >= 0) {
+        lastOffset = offset;
+        offset = nextOffset(offset, length);
+      }
+      low = lastOffset;
+      high = Math.min(offset, length);
+    } else {
+      while (offset < length && comparator.compare(key, routes[base + length - offset]) < 0) {
+        lastOffset = offset;
+        offset = nextOffset(offset, length);
+      }
+      low = Math.max(0, length - offset);
+      high = length - lastOffset;
+    }
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (comparator.compare(key, routes[base + middle]) >= 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Counts the elements of a sorted range that are strictly less than a key, searching like
+   * {@link #gallopRight}.
+   *
+   * @param key the key
+   * @param routes the array holding the sorted range
+   * @param base first index of the range
+   * @param length length of the range
+   * @param fromEnd whether to start at the end of the range instead of the start
+   * @param comparator the comparator for ordering
+   * @return number of elements less than the key
+   */
+  private static int gallopLeft(
+      Route key,
+      Route[] routes,
+      int base,
+      int length,
+      boolean fromEnd,
+      Comparator<Route> comparator) {
+    int low;
+    int high;
+    int offset = 1;
+    int lastOffset = 0;
+    if (!fromEnd) {
+      while (offset < length && comparator.compare(key, routes[base + offset - 1]) > 0) {
+        lastOffset = offset;
+        offset = nextOffset(offset, length);
+      }
+      low = lastOffset;
+      high = Math.min(offset, length);
+    } else {
+      while (offset < length && comparator.compare(key, routes[base + length - offset]) <= 0) {
+        lastOffset = offset;
+        offset = nextOffset(offset, length);
+      }
+      low = Math.max(0, length - offset);
+      high = length - lastOffset;
+    }
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (comparator.compare(key, routes[base + middle]) > 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the next offset of an exponential search, capped at the range length.
+   *
+   * @param offset the current offset
+   * @param length length of the searched range
+   * @return the next offset
+   */
+  private static int nextOffset(int offset, int length) {
+    int next = (offset << 1) + 1;
+    return next <= 0 || next > length ? length : next;
+  }
+
+  /** Run stack, merge buffer and galloping threshold of one sort call. */
+  private static final class MergeState {
+
+    private final Route[] routes;
+    private final Comparator<Route> comparator;
+    private final int maxBufferSize;
+    private Route[] buffer;
+    private int minGallop = MIN_GALLOP;
+
+    // Enough for any int length, since run lengths on the stack grow at least like Fibonacci
+    private final int[] runBase = new int[49];
+    private final int[] runLength = new int[49];
+    private int stackSize;
+    private int runCount;
+
+    /**
+     * Creates the state for sorting a slice.
+     *
+     * @param routes the array to sort
+     * @param comparator the comparator for ordering
+     * @param length length of the slice
+     */
+    MergeState(Route[] routes, Comparator<Route> comparator, int length) {
+      this.routes = routes;
+      this.comparator = comparator;
+      this.maxBufferSize = length / 2 + 1;
+      this.buffer = new Route[Math.min(INITIAL_BUFFER_SIZE, maxBufferSize)];
+    }
+
+    /**
+     * Pushes a run onto the stack.
+     *
+     * @param base first index of the run
+     * @param length length of the run
+     */
+    void pushRun(int base, int length) {
+      runBase[stackSize] = base;
+      runLength[stackSize] = length;
+      stackSize++;
+      runCount++;
+    }
+
+    /**
+     * Merges runs until the lengths on the stack shrink at least like the Fibonacci numbers from
+     * bottom to top: {@code len[i - 2] > len[i - 1] + len[i]} and {@code len[i - 1] > len[i]}.
+     */
+    void mergeCollapse() {
+      while (stackSize > 1) {
+        int n = stackSize - 2;
+        if ((n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1])
+            || (n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1])) {
+          if (runLength[n - 1] < runLength[n + 1]) {
+            n--;
+          }
+        } else if (runLength[n] > runLength[n + 1]) {
+          break;
+        }
+        mergeAt(n);
+      }
+    }
+
+    /** Merges all remaining runs. */
+    void mergeForceCollapse() {
+      while (stackSize > 1) {
+        int n = stackSize - 2;
+        if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+          n--;
+        }
+        mergeAt(n);
+      }
+    }
+
+    /**
+     * Merges the runs at stack positions {@code i} and {@code i + 1}.
+     *
+     * @param i stack position of the left run
+     */
+    private void mergeAt(int i) {
+      int base1 = runBase[i];
+      int length1 = runLength[i];
+      int base2 = runBase[i + 1];
+      int length2 = runLength[i + 1];
+
+      runLength[i] = length1 + length2;
+      if (i == stackSize - 3) {
+        runBase[i + 1] = runBase[i + 2];
+        runLength[i + 1] = runLength[i + 2];
+      }
+      stackSize--;
+
+      // Elements of the left run not greater than the first right element are already in place
+      int skipped = gallopRight(routes[base2], routes, base1, length1, false, comparator);
+      base1 += skipped;
+      length1 -= skipped;
+      if (length1 == 0) {
+        return;
+      }
+      // Elements of the right run not less than the last left element are already in place
+      length2 = gallopLeft(routes[base1 + length1 - 1], routes, base2, length2, true, comparator);
+      if (length2 == 0) {
+        return;
+      }
+
+      if (length1 <= length2) {
+        mergeLow(base1, length1, base2, length2);
+      } else {
+        mergeHigh(base1, length1, base2, length2);
+      }
+    }
+
+    /**
+     * Merges two adjacent runs front to back, buffering the shorter left run.
+     *
+     * @param base1 first index of the left run
+     * @param length1 length of the left run
+     * @param base2 first index of the right run
+     * @param length2 length of the right run
+     */
+    private void mergeLow(int base1, int length1, int base2, int length2) {
+      Route[] left = ensureBuffer(length1);
+      System.arraycopy(routes, base1, left, 0, length1);
+      int cursor1 = 0;
+      int cursor2 = base2;
+      int end2 = base2 + length2;
+      int target = base1;
+
+      merge:
+      while (true) {
+        // One element at a time until one run keeps winning
+        int wins1 = 0;
+        int wins2 = 0;
+        while ((wins1 | wins2) < minGallop) {
+          if (comparator.compare(routes[cursor2], left[cursor1]) < 0) {
+            routes[target++] = routes[cursor2++];
+            wins2++;
+            wins1 = 0;
+            if (cursor2 == end2) {
+              break merge;
+            }
+          } else {
+            routes[target++] = left[cursor1++];
+            wins1++;
+            wins2 = 0;
+            if (cursor1 == length1) {
+              break merge;
+            }
+          }
+        }
+
+        // Galloping: copy whole blocks while they stay long
+        do {
+          wins1 = gallopRight(routes[cursor2], left, cursor1, length1 - cursor1, false, comparator);
+          System.arraycopy(left, cursor1, routes, target, wins1);
+          cursor1 += wins1;
+          target += wins1;
+          if (cursor1 == length1) {
+            break merge;
+          }
+          routes[target++] = routes[cursor2++];
+          if (cursor2 == end2) {
+            break merge;
+          }
+
+          wins2 = gallopLeft(left[cursor1], routes, cursor2, end2 - cursor2, false, comparator);
+          System.arraycopy(routes, cursor2, routes, target, wins2);
+          cursor2 += wins2;
+          target += wins2;
+          if (cursor2 == end2) {
+            break merge;
+          }
+          routes[target++] = left[cursor1++];
+          if (cursor1 == length1) {
+            break merge;
+          }
+          minGallop--;
+        } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+        // Leaving galloping mode makes it harder to enter again
+        minGallop = Math.max(minGallop, 0) + 2;
+      }
+
+      // The rest of the right run is already in place
+      System.arraycopy(left, cursor1, routes, target, length1 - cursor1);
+    }
+
+    /**
+     * Merges two adjacent runs back to front, buffering the shorter right run.
+     *
+     * @param base1 first index of the left run
+     * @param length1 length of the left run
+     * @param base2 first index of the right run
+     * @param length2 length of the right run
+     */
+    private void mergeHigh(int base1, int length1, int base2, int length2) {
+      Route[] right = ensureBuffer(length2);
+      System.arraycopy(routes, base2, right, 0, length2);
+      int cursor1 = base1 + length1 - 1;
+      int cursor2 = length2 - 1;
+      int target = base2 + length2 - 1;
+
+      merge:
+      while (true) {
+        // One element at a time until one run keeps winning; on ties the right element goes last
+        int wins1 = 0;
+        int wins2 = 0;
+        while ((wins1 | wins2) < minGallop) {
+          if (comparator.compare(right[cursor2], routes[cursor1]) < 0) {
+            routes[target--] = routes[cursor1--];
+            wins1++;
+            wins2 = 0;
+            if (cursor1 < base1) {
+              break merge;
+            }
+          } else {
+            routes[target--] = right[cursor2--];
+            wins2++;
+            wins1 = 0;
+            if (cursor2 < 0) {
+              break merge;
+            }
+          }
+        }
+
+        // Galloping: copy whole blocks while they stay long
+        do {
+          int leftRemaining = cursor1 - base1 + 1;
+          wins1 =
+              leftRemaining
+                  - gallopRight(right[cursor2], routes, base1, leftRemaining, true, comparator);
+          System.arraycopy(routes, cursor1 - wins1 + 1, routes, target - wins1 + 1, wins1);
+          cursor1 -= wins1;
+          target -= wins1;
+          if (cursor1 < base1) {
+            break merge;
+          }
+          routes[target--] = right[cursor2--];
+          if (cursor2 < 0) {
+            break merge;
+          }
+
+          wins2 =
+              cursor2 + 1 - gallopLeft(routes[cursor1], right, 0, cursor2 + 1, true, comparator);
+          System.arraycopy(right, cursor2 - wins2 + 1, routes, target - wins2 + 1, wins2);
+          cursor2 -= wins2;
+          target -= wins2;
+          if (cursor2 < 0) {
+            break merge;
+          }
+          routes[target--] = routes[cursor1--];
+          if (cursor1 < base1) {
+            break merge;
+          }
+          minGallop--;
+        } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+        // Leaving galloping mode makes it harder to enter again
+        minGallop = Math.max(minGallop, 0) + 2;
+      }
+
+      // The rest of the left run is already in place
+      System.arraycopy(right, 0, routes, target - cursor2, cursor2 + 1);
+    }
+
+    /**
+     * Returns the merge buffer, growing it if it is smaller than needed.
+     *
+     * @param capacity required number of elements
+     * @return the buffer
+     */
+    private Route[] ensureBuffer(int capacity) {
+      if (buffer.length < capacity) {
+        int grown = Math.max(capacity, Math.min(buffer.length * 2, maxBufferSize));
+        buffer = new Route[grown];
+      }
+      return buffer;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * CombinedRouteKeyEncoder.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteCombinedComparator;
+
+/**
+ * Packs price, duration and stopovers of routes into one {@code long} key per route whose
+ * unsigned order equals the order of {@link RouteCombinedComparator}.
+ *
+ * <p>The price is stored in cents, followed by the duration and the stopover count, each relative
+ * to the smallest value of the batch and with just as many bits as the largest difference needs.
+ * Packing only succeeds if every price is exactly a whole number of cents, so that no two
+ * different prices share a key, and if all three fields fit into 64 bits together. Otherwise
+ * {@link #encode} returns {@code null} and the caller has to compare routes directly.
+ */
+public final class CombinedRouteKeyEncoder {
+
+  /** Largest absolute cent value that is exactly representable as {@code double}. */
+  private static final long MAX_CENTS = 1L << 53;
+
+  private CombinedRouteKeyEncoder() {}
+
+  /**
+   * Packs the keys of a slice of routes.
+   *
+   * @param routes the array containing the routes, none of them {@code null} in the slice
+   * @param from first index, inclusive
+   * @param to last index, exclusive
+   * @return the packed keys in slice order, or {@code null} if the routes cannot be packed
+   */
+  public static PackedKeys encode(Route[] routes, int from, int to) {
+    int count = to - from;
+    long[] cents = new long[count];
+    long minCents = Long.MAX_VALUE;
+    long maxCents = Long.MIN_VALUE;
+    long minDuration = Long.MAX_VALUE;
+    long maxDuration = Long.MIN_VALUE;
+    long minStopovers = Long.MAX_VALUE;
+    long maxStopovers = Long.MIN_VALUE;
+
+    for (int i = 0; i < count; i++) {
+      Route route = routes[from + i];
+      double price = route.getTotalPrice();
+      long priceCents = Math.round(price * 100);
+      if (Math.abs(priceCents) > MAX_CENTS
+          || Double.doubleToLongBits(priceCents / 100.0) != Double.doubleToLongBits(price)) {
+        // Fractional cents, -0.0, NaN or infinity
+        return null;
+      }
+      cents[i] = priceCents;
+      minCents = Math.min(minCents, priceCents);
+      maxCents = Math.max(maxCents, priceCents);
+      minDuration = Math.min(minDuration, route.getTotalDuration());
+      maxDuration = Math.max(maxDuration, route.getTotalDuration());
+      minStopovers = Math.min(minStopovers, route.getStopovers());
+      maxStopovers = Math.max(maxStopovers, route.getStopovers());
+    }
+
+    int durationBits = bitsFor(maxDuration - minDuration);
+    int stopoverBits = bitsFor(maxStopovers - minStopovers);
+    int totalBits = bitsFor(maxCents - minCents) + durationBits + stopoverBits;
+    if (totalBits > Long.SIZE) {
+      return null;
+    }
+
+    long[] keys = new long[count];
+    for (int i = 0; i < count; i++) {
+      Route route = routes[from + i];
+      keys[i] =
+          ((cents[i] - minCents) << durationBits << stopoverBits)
+              | ((route.getTotalDuration() - minDuration) << stopoverBits)
+              | (route.getStopovers() - minStopovers);
+    }
+    return new PackedKeys(keys, (totalBits + Byte.SIZE - 1) / Byte.SIZE);
+  }
+
+  /**
+   * Returns the number of bits needed to store a non-negative value.
+   *
+   * @param range the value
+   * @return number of significant bits
+   */
+  private static int bitsFor(long range) {
+    return Long.SIZE - Long.numberOfLeadingZeros(range);
+  }
+
+  /**
+   * Packed keys of a batch of routes.
+   *
+   * @param keys one key per route, compared unsigned
+   * @param keyBytes number of significant low-order bytes of the keys
+   */
+  public record PackedKeys(long[] keys, int keyBytes) {}
+}
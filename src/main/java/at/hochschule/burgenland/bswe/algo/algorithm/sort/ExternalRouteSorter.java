@@ -0,0 +1,396 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * ExternalRouteSorter.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.base.SortingAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.repository.RouteRepository;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Sorts route CSV files that do not fit into memory with an external merge sort.
+ *
+ * <p>The input is read in chunks of at most {@code chunkSize} routes. Each chunk is sorted in
+ * memory with the configured {@link SortingAlgorithm} and written to a temporary binary run file.
+ * The runs are then merged with a priority queue holding the current head of every run and the
+ * result is streamed to the output CSV. If there are more runs than {@code maxFanIn}, neighbouring
+ * runs are first merged into larger runs, so the number of open files stays bounded.
+ *
+ * <p>Runs are merged in input order and ties go to the earlier run, so the result is stable if the
+ * chunk sorter is stable. Input that fits into a single chunk is written directly without runs.
+ *
+ * <p><strong>Memory:</strong> O(chunkSize + maxFanIn) routes
+ *
+ * <p><strong>I/O:</strong> every route is written and read once per merge level, that is
+ * {@code ceil(log_maxFanIn(n / chunkSize))} times
+ */
+@Log4j2
+public class ExternalRouteSorter {
+
+  /** Default number of routes sorted in memory at once. */
+  public static final int DEFAULT_CHUNK_SIZE = 100_000;
+
+  /** Default number of runs merged at once. */
+  public static final int DEFAULT_MAX_FAN_IN = 64;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final RouteRepository repository;
+  private final SortingAlgorithm chunkSorter;
+  private final int chunkSize;
+  private final int maxFanIn;
+  private final Path temporaryDirectory;
+
+  /**
+   * Creates a sorter with default chunk size and fan-in, sorting chunks with {@link
+   * RadixSortAlgorithm} and spilling runs to the default temporary directory.
+   */
+  public ExternalRouteSorter() {
+    this(new RadixSortAlgorithm(), DEFAULT_CHUNK_SIZE, DEFAULT_MAX_FAN_IN, null);
+  }
+
+  /**
+   * Creates a sorter with custom settings.
+   *
+   * @param chunkSorter in-memory algorithm for the chunks; must be stable for a stable result
+   * @param chunkSize maximum number of routes held in memory at once
+   * @param maxFanIn maximum number of runs merged at once, at least 2
+   * @param temporaryDirectory directory for run files, or {@code null} for the system default
+   * @throws IllegalArgumentException if chunk size or fan-in are too small
+   */
+  public ExternalRouteSorter(
+      SortingAlgorithm chunkSorter, int chunkSize, int maxFanIn, Path temporaryDirectory) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+    }
+    if (maxFanIn < 2) {
+      throw new IllegalArgumentException("Fan-in must be at least 2: " + maxFanIn);
+    }
+    this.repository = new RouteRepository();
+    this.chunkSorter = chunkSorter;
+    this.chunkSize = chunkSize;
+    this.maxFanIn = maxFanIn;
+    this.temporaryDirectory = temporaryDirectory;
+  }
+
+  /**
+   * Sorts the routes of a CSV file into another CSV file.
+   *
+   * @param input the CSV file to sort
+   * @param output the CSV file receiving the sorted routes; may be the input file
+   * @param comparator the comparator to determine the sort order
+   * @return number of sorted routes
+   * @throws IOException if reading, spilling or writing fails
+   * @throws IllegalStateException if the input cannot be parsed
+   */
+  public long sort(Path input, Path output, Comparator<Route> comparator) throws IOException {
+    Path runDirectory =
+        temporaryDirectory == null
+            ? Files.createTempDirectory("route-runs")
+            : Files.createTempDirectory(temporaryDirectory, "route-runs");
+    List<Run> runs = new ArrayList<>();
+    try {
+      List<Route> chunk = new ArrayList<>();
+      long count;
+      try {
+        count =
+            repository.forEachRoute(
+                input,
+                route -> {
+                  chunk.add(route);
+                  if (chunk.size() >= chunkSize) {
+                    runs.add(spill(chunk, comparator, runDirectory, runs.size()));
+                    chunk.clear();
+                  }
+                });
+      } catch (UncheckedIOException spillException) {
+        throw spillException.getCause();
+      }
+
+      if (runs.isEmpty()) {
+        // Everything fits into one chunk
+        chunkSorter.sort(chunk, comparator);
+        repository.writeRoutes(output, chunk);
+        return count;
+      }
+      if (!chunk.isEmpty()) {
+        runs.add(spill(chunk, comparator, runDirectory, runs.size()));
+        chunk.clear();
+      }
+      log.info("Sorting {} routes from {} in {} runs", count, input, runs.size());
+
+      List<Run> level = runs;
+      int nextRunNumber = runs.size();
+      while (level.size() > maxFanIn) {
+        List<Run> merged = new ArrayList<>();
+        for (int start = 0; start < level.size(); start += maxFanIn) {
+          List<Run> group = level.subList(start, Math.min(start + maxFanIn, level.size()));
+          merged.add(mergeToRun(group, comparator, runDirectory, nextRunNumber++));
+        }
+        level = merged;
+      }
+
+      try (RunMerger merger = new RunMerger(level, comparator)) {
+        repository.writeRoutes(output, merger);
+      }
+      log.info("Sorted {} routes into {}", count, output);
+      return count;
+    } finally {
+      deleteRunDirectory(runDirectory);
+    }
+  }
+
+  /**
+   * Sorts a chunk and writes it to a new run file.
+   *
+   * @param chunk the routes to spill
+   * @param comparator the comparator to determine the sort order
+   * @param runDirectory directory for the run file
+   * @param runNumber number used in the file name
+   * @return the written run
+   * @throws UncheckedIOException if the run cannot be written, since this runs inside a callback;
+   *     {@link #sort} unwraps it
+   */
+  private Run spill(
+      List<Route> chunk, Comparator<Route> comparator, Path runDirectory, int runNumber) {
+    chunkSorter.sort(chunk, comparator);
+    try {
+      return writeRun(chunk.iterator(), runDirectory, runNumber);
+    } catch (IOException spillException) {
+      throw new UncheckedIOException(spillException);
+    }
+  }
+
+  /**
+   * Merges several runs into a new run file and deletes the merged runs.
+   *
+   * @param group the runs to merge, in input order
+   * @param comparator the comparator to determine the sort order
+   * @param runDirectory directory for the run file
+   * @param runNumber number used in the file name
+   * @return the merged run
+   * @throws IOException if reading or writing fails
+   */
+  private Run mergeToRun(
+      List<Run> group, Comparator<Route> comparator, Path runDirectory, int runNumber)
+      throws IOException {
+    Run merged;
+    try (RunMerger merger = new RunMerger(group, comparator)) {
+      merged = writeRun(merger, runDirectory, runNumber);
+    } catch (UncheckedIOException readException) {
+      throw readException.getCause();
+    }
+    for (Run run : group) {
+      Files.deleteIfExists(run.file());
+    }
+    return merged;
+  }
+
+  /**
+   * Writes routes to a binary run file. The flights are stored as UTF-8 bytes behind their length,
+   * or as length -1 if missing, so that strings of any length fit.
+   *
+   * @param routes the sorted routes
+   * @param runDirectory directory for the run file
+   * @param runNumber number used in the file name
+   * @return the written run
+   * @throws IOException if writing fails
+   */
+  private static Run writeRun(Iterator<Route> routes, Path runDirectory, int runNumber)
+      throws IOException {
+    Path file = runDirectory.resolve("run-" + runNumber + ".bin");
+    long count = 0;
+    try (DataOutputStream output =
+        new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE))) {
+      while (routes.hasNext()) {
+        Route route = routes.next();
+        output.writeInt(route.getId());
+        if (route.getFlights() == null) {
+          output.writeInt(-1);
+        } else {
+          byte[] flights = route.getFlights().getBytes(StandardCharsets.UTF_8);
+          output.writeInt(flights.length);
+          output.write(flights);
+        }
+        output.writeInt(route.getTotalDuration());
+        output.writeDouble(route.getTotalPrice());
+        output.writeInt(route.getStopovers());
+        count++;
+      }
+    }
+    log.debug("Wrote run {} with {} routes", file, count);
+    return new Run(file, count);
+  }
+
+  /**
+   * Deletes the run directory and any runs left in it.
+   *
+   * @param runDirectory the directory
+   */
+  private static void deleteRunDirectory(Path runDirectory) {
+    try (Stream<Path> files = Files.list(runDirectory)) {
+      for (Path file : files.toList()) {
+        Files.deleteIfExists(file);
+      }
+      Files.deleteIfExists(runDirectory);
+    } catch (IOException deleteException) {
+      log.warn("Failed to delete run directory {}: {}", runDirectory, deleteException.getMessage());
+    }
+  }
+
+  /**
+   * A sorted run file.
+   *
+   * @param file path of the run file
+   * @param count number of routes in the run
+   */
+  private record Run(Path file, long count) {}
+
+  /** Sequential reader for one run file. */
+  private static final class RunReader implements Closeable {
+
+    private final DataInputStream input;
+    private final int runIndex;
+    private long remaining;
+    private Route head;
+
+    /**
+     * Opens a run and reads its first route.
+     *
+     * @param run the run
+     * @param runIndex position of the run in input order, used to break ties
+     * @throws IOException if the run cannot be read
+     */
+    RunReader(Run run, int runIndex) throws IOException {
+      this.input =
+          new DataInputStream(
+              new BufferedInputStream(Files.newInputStream(run.file()), BUFFER_SIZE));
+      this.runIndex = runIndex;
+      this.remaining = run.count();
+      advance();
+    }
+
+    /**
+     * Reads the next route into {@link #head}, or sets it to {@code null} at the end of the run.
+     *
+     * @throws IOException if the run cannot be read
+     */
+    void advance() throws IOException {
+      if (remaining == 0) {
+        head = null;
+        return;
+      }
+      int id = input.readInt();
+      String flights = null;
+      int flightsLength = input.readInt();
+      if (flightsLength >= 0) {
+        byte[] bytes = new byte[flightsLength];
+        input.readFully(bytes);
+        flights = new String(bytes, StandardCharsets.UTF_8);
+      }
+      int totalDuration = input.readInt();
+      double totalPrice = input.readDouble();
+      int stopovers = input.readInt();
+      head = new Route(id, flights, totalDuration, totalPrice, stopovers);
+      remaining--;
+    }
+
+    @Override
+    public void close() throws IOException {
+      input.close();
+    }
+  }
+
+  /** Iterator merging several runs with a priority queue of their heads. */
+  private static final class RunMerger implements Iterator<Route>, Closeable {
+
+    private final List<RunReader> readers = new ArrayList<>();
+    private final PriorityQueue<RunReader> queue;
+
+    /**
+     * Opens all runs of a group.
+     *
+     * @param runs the runs, in input order
+     * @param comparator the comparator to determine the sort order
+     * @throws IOException if a run cannot be opened
+     */
+    RunMerger(List<Run> runs, Comparator<Route> comparator) throws IOException {
+      Comparator<RunReader> byHead =
+          (first, second) -> comparator.compare(first.head, second.head);
+      this.queue =
+          new PriorityQueue<>(
+              Math.max(1, runs.size()),
+              byHead.thenComparingInt(reader -> reader.runIndex));
+      try {
+        for (int i = 0; i < runs.size(); i++) {
+          RunReader reader = new RunReader(runs.get(i), i);
+          readers.add(reader);
+          if (reader.head != null) {
+            queue.add(reader);
+          }
+        }
+      } catch (IOException openException) {
+        close();
+        throw openException;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !queue.isEmpty();
+    }
+
+    /**
+     * Returns the smallest head and advances its run.
+     *
+     * @return the next route in sort order
+     * @throws UncheckedIOException if a run cannot be read
+     */
+    @Override
+    public Route next() {
+      RunReader reader = queue.poll();
+      if (reader == null) {
+        throw new NoSuchElementException();
+      }
+      Route route = reader.head;
+      try {
+        reader.advance();
+      } catch (IOException readException) {
+        throw new UncheckedIOException(readException);
+      }
+      if (reader.head != null) {
+        queue.add(reader);
+      }
+      return route;
+    }
+
+    @Override
+    public void close() throws IOException {
+      for (RunReader reader : readers) {
+        reader.close();
+      }
+    }
+  }
+}
@@ -8,9 +8,7 @@ package at.hochschule.burgenland.bswe.algo.algorithm.sort;
 
 import at.hochschule.burgenland.bswe.algo.algorithm.sort.base.SortingAlgorithm;
 import at.hochschule.burgenland.bswe.algo.model.Route;
-import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.List;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -28,7 +26,7 @@ import lombok.extern.log4j.Log4j2;
  *
  * <p><strong>Time Complexity:</strong> O(n log n) in all cases (best, average, worst)
  *
- * <p><strong>Space Complexity:</strong> O(n) - requires additional space for merging
+ * <p><strong>Space Complexity:</strong> O(n) - one buffer of half the size, reused by every merge
  *
  * <p><strong>Why Merge Sort:</strong> Chosen for stability and predictable O(n log n) performance.
  * Ideal when preserving the relative order of equal routes is important.
@@ -37,86 +35,82 @@ import lombok.extern.log4j.Log4j2;
 public class MergeSortAlgorithm extends SortingAlgorithm {
 
   /**
-   * Sorts a list of routes using Merge Sort algorithm.
+   * Sorts a slice of a route array using Merge Sort algorithm.
    *
-   * @param routes the list of routes to sort (will be modified)
+   * @param routes the array containing the slice (will be modified)
+   * @param from first index of the slice, inclusive
+   * @param to last index of the slice, exclusive
    * @param comparator the comparator to determine the sort order
    */
   @Override
-  public void sort(List<Route> routes, Comparator<Route> comparator) {
-    if (routes == null || routes.size() <= 1) {
-      return;
-    }
-
-    log.debug("Starting Merge Sort on {} routes", routes.size());
-    mergeSort(routes, 0, routes.size() - 1, comparator);
+  protected void sortRange(Route[] routes, int from, int to, Comparator<Route> comparator) {
+    log.debug("Starting Merge Sort on {} routes", to - from);
+    // One buffer for all merges, large enough for the left half of the whole slice
+    Route[] buffer = new Route[(to - from + 1) / 2];
+    mergeSort(routes, buffer, from, to - 1, comparator);
     log.debug("Merge Sort completed");
   }
 
   /**
-   * Recursively sorts the list using merge sort.
+   * Recursively sorts the array using merge sort.
    *
-   * @param routes the list to sort
+   * @param routes the array to sort
+   * @param buffer scratch space for the left half of each merge
    * @param left the left index (inclusive)
    * @param right the right index (inclusive)
    * @param comparator the comparator for ordering
    */
-  private void mergeSort(List<Route> routes, int left, int right, Comparator<Route> comparator) {
+  private void mergeSort(
+      Route[] routes, Route[] buffer, int left, int right, Comparator<Route> comparator) {
     if (left < right) {
       int middle = left + (right - left) / 2;
 
       // Recursively sort both halves
-      mergeSort(routes, left, middle, comparator);
-      mergeSort(routes, middle + 1, right, comparator);
+      mergeSort(routes, buffer, left, middle, comparator);
+      mergeSort(routes, buffer, middle + 1, right, comparator);
 
       // Merge the sorted halves
-      merge(routes, left, middle, right, comparator);
+      merge(routes, buffer, left, middle, right, comparator);
     }
   }
 
   /**
    * Merges two sorted subarrays into a single sorted array.
    *
-   * @param routes the list containing both subarrays
+   * <p>Only the left half is copied into the buffer; the right half is merged in place, since the
+   * write position never overtakes the read position of the right half.
+   *
+   * @param routes the array containing both subarrays
+   * @param buffer scratch space for the left half
    * @param left the left index of the first subarray
    * @param middle the end index of the first subarray
    * @param right the end index of the second subarray
    * @param comparator the comparator for ordering
    */
   private void merge(
-      List<Route> routes, int left, int middle, int right, Comparator<Route> comparator) {
-    // Create temporary arrays for both halves
-    List<Route> leftHalf = new ArrayList<>(routes.subList(left, middle + 1));
-    List<Route> rightHalf = new ArrayList<>(routes.subList(middle + 1, right + 1));
+      Route[] routes,
+      Route[] buffer,
+      int left,
+      int middle,
+      int right,
+      Comparator<Route> comparator) {
+    int leftHalfSize = middle - left + 1;
+    System.arraycopy(routes, left, buffer, 0, leftHalfSize);
 
     int leftHalfIndex = 0;
-    int rightHalfIndex = 0;
+    int rightHalfIndex = middle + 1;
     int targetIndex = left;
 
-    // Merge the temporary arrays back into the original list
-    while (leftHalfIndex < leftHalf.size() && rightHalfIndex < rightHalf.size()) {
-      if (comparator.compare(leftHalf.get(leftHalfIndex), rightHalf.get(rightHalfIndex)) <= 0) {
-        routes.set(targetIndex, leftHalf.get(leftHalfIndex));
-        leftHalfIndex++;
+    // Merge the buffered left half and the right half back into the array
+    while (leftHalfIndex < leftHalfSize && rightHalfIndex <= right) {
+      if (comparator.compare(buffer[leftHalfIndex], routes[rightHalfIndex]) <= 0) {
+        routes[targetIndex++] = buffer[leftHalfIndex++];
       } else {
-        routes.set(targetIndex, rightHalf.get(rightHalfIndex));
-        rightHalfIndex++;
+        routes[targetIndex++] = routes[rightHalfIndex++];
       }
-      targetIndex++;
     }
 
-    // Copy remaining elements from left half
-    while (leftHalfIndex < leftHalf.size()) {
-      routes.set(targetIndex, leftHalf.get(leftHalfIndex));
-      leftHalfIndex++;
-      targetIndex++;
-    }
-
-    // Copy remaining elements from right half
-    while (rightHalfIndex < rightHalf.size()) {
-      routes.set(targetIndex, rightHalf.get(rightHalfIndex));
-      rightHalfIndex++;
-      targetIndex++;
-    }
+    // Copy remaining elements from left half; remaining right elements are already in place
+    System.arraycopy(buffer, leftHalfIndex, routes, targetIndex, leftHalfSize - leftHalfIndex);
   }
 }
@@ -0,0 +1,205 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * ParallelMergeSortAlgorithm.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort
+ * Authors: Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.base.SortingAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Stable sorting algorithm implementation using a parallel Merge Sort on the fork-join
+ * framework.
+ *
+ * <p>A merge buffer with the same content as the slice is allocated once; it holds only the
+ * slice, so sorting {@code [from, to)} allocates {@code to - from} elements. Each recursion level
+ * sorts its halves into one array and merges them into the other, swapping the roles of the two
+ * arrays on the way down, so no copy is made per merge. Ranges are given as indices into the
+ * route array; every array is passed with the offset to subtract from such an index.
+ * Ranges above {@link #DEFAULT_PARALLEL_THRESHOLD} are split into {@link RecursiveAction} tasks;
+ * ranges up to {@link #INSERTION_SORT_THRESHOLD} elements are sorted with insertion sort.
+ *
+ * <p><strong>Stability:</strong> Stable - maintains the relative order of equal elements
+ *
+ * <p><strong>Time Complexity:</strong> O(n log n) work, O(n) span because the merges themselves
+ * run sequentially
+ *
+ * <p><strong>Space Complexity:</strong> O(n) - one merge buffer
+ */
+@Log4j2
+public class ParallelMergeSortAlgorithm extends SortingAlgorithm {
+
+  /** Ranges with more elements than this are sorted by parallel tasks. */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
+  /** Ranges with at most this many elements are sorted with insertion sort. */
+  static final int INSERTION_SORT_THRESHOLD = 32;
+
+  private final ForkJoinPool pool;
+  private final int parallelThreshold;
+
+  /** Creates a sorter running on the common fork-join pool. */
+  public ParallelMergeSortAlgorithm() {
+    this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  /**
+   * Creates a sorter running on the given pool.
+   *
+   * @param pool the pool executing the sort tasks
+   * @param parallelThreshold minimum range size that is split into parallel tasks
+   */
+  public ParallelMergeSortAlgorithm(ForkJoinPool pool, int parallelThreshold) {
+    this.pool = pool;
+    this.parallelThreshold = Math.max(parallelThreshold, INSERTION_SORT_THRESHOLD);
+  }
+
+  /**
+   * Sorts a slice of a route array using parallel Merge Sort.
+   *
+   * @param routes the array containing the slice (will be modified)
+   * @param from first index of the slice, inclusive
+   * @param to last index of the slice, exclusive
+   * @param comparator the comparator to determine the sort order
+   */
+  @Override
+  protected void sortRange(Route[] routes, int from, int to, Comparator<Route> comparator) {
+    log.debug("Starting parallel Merge Sort on {} routes", to - from);
+    Route[] buffer = new Route[to - from];
+    System.arraycopy(routes, from, buffer, 0, to - from);
+    pool.invoke(new MergeSortTask(buffer, from, routes, 0, from, to, comparator));
+    log.debug("Parallel Merge Sort completed");
+  }
+
+  /**
+   * Sorts a range sequentially, leaving the result in {@code target}. Both arrays must hold the
+   * same elements in the range when called.
+   *
+   * @param source scratch array holding the same elements as {@code target}
+   * @param sourceOffset offset of {@code source}
+   * @param target array receiving the sorted range
+   * @param targetOffset offset of {@code target}
+   * @param from first index, inclusive
+   * @param to last index, exclusive
+   * @param comparator the comparator for ordering
+   */
+  private static void sortInto(
+      Route[] source,
+      int sourceOffset,
+      Route[] target,
+      int targetOffset,
+      int from,
+      int to,
+      Comparator<Route> comparator) {
+    if (to - from <= INSERTION_SORT_THRESHOLD) {
+      insertionSort(target, from - targetOffset, to - targetOffset, comparator);
+      return;
+    }
+    int middle = (from + to) >>> 1;
+    sortInto(target, targetOffset, source, sourceOffset, from, middle, comparator);
+    sortInto(target, targetOffset, source, sourceOffset, middle, to, comparator);
+    merge(source, sourceOffset, target, targetOffset, from, middle, to, comparator);
+  }
+
+  /**
+   * Merges the sorted ranges {@code [from, middle)} and {@code [middle, to)} of {@code source} into
+   * {@code target}. On ties the element of the left range comes first.
+   *
+   * @param source array holding both sorted ranges
+   * @param sourceOffset offset of {@code source}
+   * @param target array receiving the merged range
+   * @param targetOffset offset of {@code target}
+   * @param from start of the left range
+   * @param middle start of the right range
+   * @param to end of the right range, exclusive
+   * @param comparator the comparator for ordering
+   */
+  private static void merge(
+      Route[] source,
+      int sourceOffset,
+      Route[] target,
+      int targetOffset,
+      int from,
+      int middle,
+      int to,
+      Comparator<Route> comparator) {
+    int leftEnd = middle - sourceOffset;
+    int rightEnd = to - sourceOffset;
+    if (comparator.compare(source[leftEnd - 1], source[leftEnd]) <= 0) {
+      // Already in order
+      System.arraycopy(source, from - sourceOffset, target, from - targetOffset, to - from);
+      return;
+    }
+
+    int left = from - sourceOffset;
+    int right = leftEnd;
+    int end = to - targetOffset;
+    for (int index = from - targetOffset; index < end; index++) {
+      if (right >= rightEnd
+          || (left < leftEnd && comparator.compare(source[left], source[right]) <= 0)) {
+        target[index] = source[left++];
+      } else {
+        target[index] = source[right++];
+      }
+    }
+  }
+
+  /** Fork-join task sorting one range into its target array. */
+  private final class MergeSortTask extends RecursiveAction {
+
+    private final Route[] source;
+    private final int sourceOffset;
+    private final Route[] target;
+    private final int targetOffset;
+    private final int from;
+    private final int to;
+    private final Comparator<Route> comparator;
+
+    /**
+     * Creates a task for a range.
+     *
+     * @param source scratch array holding the same elements as {@code target}
+     * @param sourceOffset offset of {@code source}
+     * @param target array receiving the sorted range
+     * @param targetOffset offset of {@code target}
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     * @param comparator the comparator for ordering
+     */
+    MergeSortTask(
+        Route[] source,
+        int sourceOffset,
+        Route[] target,
+        int targetOffset,
+        int from,
+        int to,
+        Comparator<Route> comparator) {
+      this.source = source;
+      this.sourceOffset = sourceOffset;
+      this.target = target;
+      this.targetOffset = targetOffset;
+      this.from = from;
+      this.to = to;
+      this.comparator = comparator;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= parallelThreshold) {
+        sortInto(source, sourceOffset, target, targetOffset, from, to, comparator);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new MergeSortTask(target, targetOffset, source, sourceOffset, from, middle, comparator),
+          new MergeSortTask(target, targetOffset, source, sourceOffset, middle, to, comparator));
+      merge(source, sourceOffset, target, targetOffset, from, middle, to, comparator);
+    }
+  }
+}
@@ -0,0 +1,290 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * ParallelQuickSortAlgorithm.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort
+ * Authors: Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.base.SortingAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Unstable sorting algorithm implementation using a parallel introspective Quick Sort with 3-way
+ * partitioning on the fork-join framework.
+ *
+ * <p>Each partitioning step splits a range into elements smaller than, equal to and greater than
+ * the pivot (median of three, or of nine for large ranges). Elements equal to the pivot are never
+ * touched again, so lists with many duplicate prices or stopover counts shrink quickly instead of
+ * degrading to quadratic time.
+ *
+ * <p>The smaller side is handled by recursion and the larger one by the loop, which bounds the
+ * stack depth by O(log n). A larger side above the parallel threshold is forked as a separate task
+ * instead. If a range needs more than {@code 2 * log2(n)} partitioning steps, it is finished with
+ * heap sort, which guarantees O(n log n) in the worst case. Small ranges use insertion sort.
+ *
+ * <p><strong>Stability:</strong> Unstable - may change the relative order of equal elements
+ *
+ * <p><strong>Time Complexity:</strong> O(n log n) in all cases; O(n) if all elements are equal
+ *
+ * <p><strong>Space Complexity:</strong> O(log n) stack per task
+ */
+@Log4j2
+public class ParallelQuickSortAlgorithm extends SortingAlgorithm {
+
+  /** Ranges with more elements than this are partitioned by parallel tasks. */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
+  /** Ranges with at most this many elements are sorted with insertion sort. */
+  static final int INSERTION_SORT_THRESHOLD = 32;
+
+  /** Ranges with more elements than this use the median of nine as pivot. */
+  private static final int NINTHER_THRESHOLD = 128;
+
+  private final ForkJoinPool pool;
+  private final int parallelThreshold;
+
+  /** Creates a sorter running on the common fork-join pool. */
+  public ParallelQuickSortAlgorithm() {
+    this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  /**
+   * Creates a sorter running on the given pool.
+   *
+   * @param pool the pool executing the sort tasks
+   * @param parallelThreshold minimum range size that is partitioned by a parallel task
+   */
+  public ParallelQuickSortAlgorithm(ForkJoinPool pool, int parallelThreshold) {
+    this.pool = pool;
+    this.parallelThreshold = Math.max(parallelThreshold, INSERTION_SORT_THRESHOLD);
+  }
+
+  /**
+   * Sorts a slice of a route array using parallel introspective Quick Sort.
+   *
+   * @param routes the array containing the slice (will be modified)
+   * @param from first index of the slice, inclusive
+   * @param to last index of the slice, exclusive
+   * @param comparator the comparator to determine the sort order
+   */
+  @Override
+  protected void sortRange(Route[] routes, int from, int to, Comparator<Route> comparator) {
+    log.debug("Starting parallel Quick Sort on {} routes", to - from);
+    int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(to - from));
+    pool.invoke(new QuickSortTask(routes, from, to, depthLimit, comparator));
+    log.debug("Parallel Quick Sort completed");
+  }
+
+  /** Fork-join task sorting one range in place. */
+  private final class QuickSortTask extends RecursiveAction {
+
+    private final Route[] routes;
+    private final int from;
+    private final int to;
+    private final int depthLimit;
+    private final Comparator<Route> comparator;
+
+    /**
+     * Creates a task for a range.
+     *
+     * @param routes the array to sort
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     * @param depthLimit partitioning steps left before switching to heap sort
+     * @param comparator the comparator for ordering
+     */
+    QuickSortTask(
+        Route[] routes, int from, int to, int depthLimit, Comparator<Route> comparator) {
+      this.routes = routes;
+      this.from = from;
+      this.to = to;
+      this.depthLimit = depthLimit;
+      this.comparator = comparator;
+    }
+
+    @Override
+    protected void compute() {
+      List<QuickSortTask> forked = new ArrayList<>();
+      quickSort(routes, from, to, depthLimit, comparator, forked);
+      for (QuickSortTask task : forked) {
+        task.join();
+      }
+    }
+
+    /**
+     * Sorts a range, forking large sides as separate tasks.
+     *
+     * @param routes the array to sort
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     * @param depthLimit partitioning steps left before switching to heap sort
+     * @param comparator the comparator for ordering
+     * @param forked collects the forked tasks that must be joined
+     */
+    private void quickSort(
+        Route[] routes,
+        int from,
+        int to,
+        int depthLimit,
+        Comparator<Route> comparator,
+        List<QuickSortTask> forked) {
+      while (to - from > INSERTION_SORT_THRESHOLD) {
+        if (depthLimit-- == 0) {
+          heapSort(routes, from, to, comparator);
+          return;
+        }
+
+        long bounds = partition(routes, from, to, comparator);
+        int lessEnd = (int) (bounds >>> 32);
+        int greaterStart = (int) bounds;
+
+        // Continue with the smaller side, hand the larger one to a task or the loop
+        boolean leftSmaller = lessEnd - from < to - greaterStart;
+        int smallFrom = leftSmaller ? from : greaterStart;
+        int smallTo = leftSmaller ? lessEnd : to;
+        int largeFrom = leftSmaller ? greaterStart : from;
+        int largeTo = leftSmaller ? to : lessEnd;
+
+        if (largeTo - largeFrom > parallelThreshold) {
+          QuickSortTask task =
+              new QuickSortTask(routes, largeFrom, largeTo, depthLimit, comparator);
+          task.fork();
+          forked.add(task);
+          from = smallFrom;
+          to = smallTo;
+        } else {
+          quickSort(routes, smallFrom, smallTo, depthLimit, comparator, forked);
+          from = largeFrom;
+          to = largeTo;
+        }
+      }
+      insertionSort(routes, from, to, comparator);
+    }
+  }
+
+  /**
+   * Partitions a range into elements smaller than, equal to and greater than the pivot.
+   *
+   * @param routes the array to partition
+   * @param from first index, inclusive
+   * @param to last index, exclusive
+   * @param comparator the comparator for ordering
+   * @return end of the smaller elements in the upper 32 bits and start of the greater elements in
+   *     the lower 32 bits
+   */
+  static long partition(Route[] routes, int from, int to, Comparator<Route> comparator) {
+    Route pivot = routes[choosePivot(routes, from, to, comparator)];
+    int less = from;
+    int current = from;
+    int greater = to - 1;
+    while (current <= greater) {
+      int comparison = comparator.compare(routes[current], pivot);
+      if (comparison < 0) {
+        swap(routes, less++, current++);
+      } else if (comparison > 0) {
+        swap(routes, current, greater--);
+      } else {
+        current++;
+      }
+    }
+    return ((long) less << 32) | (greater + 1);
+  }
+
+  /**
+   * Chooses the pivot as median of three, or median of three medians for large ranges.
+   *
+   * @param routes the array
+   * @param from first index, inclusive
+   * @param to last index, exclusive
+   * @param comparator the comparator for ordering
+   * @return index of the pivot element
+   */
+  private static int choosePivot(Route[] routes, int from, int to, Comparator<Route> comparator) {
+    int last = to - 1;
+    int middle = (from + to) >>> 1;
+    if (to - from > NINTHER_THRESHOLD) {
+      int step = (to - from) / 8;
+      int first = median(routes, from, from + step, from + 2 * step, comparator);
+      int second = median(routes, middle - step, middle, middle + step, comparator);
+      int third = median(routes, last - 2 * step, last - step, last, comparator);
+      return median(routes, first, second, third, comparator);
+    }
+    return median(routes, from, middle, last, comparator);
+  }
+
+  /**
+   * Returns the index of the median of three elements.
+   *
+   * @param routes the array
+   * @param a index of the first element
+   * @param b index of the second element
+   * @param c index of the third element
+   * @param comparator the comparator for ordering
+   * @return index of the median element
+   */
+  private static int median(Route[] routes, int a, int b, int c, Comparator<Route> comparator) {
+    if (comparator.compare(routes[a], routes[b]) < 0) {
+      if (comparator.compare(routes[b], routes[c]) < 0) {
+        return b;
+      }
+      return comparator.compare(routes[a], routes[c]) < 0 ? c : a;
+    }
+    if (comparator.compare(routes[a], routes[c]) < 0) {
+      return a;
+    }
+    return comparator.compare(routes[b], routes[c]) < 0 ? c : b;
+  }
+
+  /**
+   * Sorts a range in place with heap sort.
+   *
+   * @param routes the array to sort
+   * @param from first index, inclusive
+   * @param to last index, exclusive
+   * @param comparator the comparator for ordering
+   */
+  private static void heapSort(Route[] routes, int from, int to, Comparator<Route> comparator) {
+    int size = to - from;
+    for (int parent = size / 2 - 1; parent >= 0; parent--) {
+      siftDown(routes, from, parent, size, comparator);
+    }
+    for (int end = size - 1; end > 0; end--) {
+      swap(routes, from, from + end);
+      siftDown(routes, from, 0, end, comparator);
+    }
+  }
+
+  /**
+   * Restores the max-heap property below a node.
+   *
+   * @param routes the array holding the heap
+   * @param offset index of the heap root in the array
+   * @param node heap index of the node to sift down
+   * @param size number of elements in the heap
+   * @param comparator the comparator for ordering
+   */
+  private static void siftDown(
+      Route[] routes, int offset, int node, int size, Comparator<Route> comparator) {
+    Route value = routes[offset + node];
+    int child;
+    while ((child = 2 * node + 1) < size) {
+      if (child + 1 < size
+          && comparator.compare(routes[offset + child], routes[offset + child + 1]) < 0) {
+        child++;
+      }
+      if (comparator.compare(value, routes[offset + child]) >= 0) {
+        break;
+      }
+      routes[offset + node] = routes[offset + child];
+      node = child;
+    }
+    routes[offset + node] = value;
+  }
+}
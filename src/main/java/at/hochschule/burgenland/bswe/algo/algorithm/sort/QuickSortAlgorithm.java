@@ -9,7 +9,6 @@ package at.hochschule.burgenland.bswe.algo.algorithm.sort;
 import at.hochschule.burgenland.bswe.algo.algorithm.sort.base.SortingAlgorithm;
 import at.hochschule.burgenland.bswe.algo.model.Route;
 import java.util.Comparator;
-import java.util.List;
 import java.util.Random;
 import lombok.extern.log4j.Log4j2;
 
@@ -20,16 +19,20 @@ import lombok.extern.log4j.Log4j2;
  *
  * <ul>
  *   <li>Selects a pivot element
- *   <li>Partitions the list around the pivot (smaller elements to left, larger to right)
- *   <li>Recursively sorts the subarrays
+ *   <li>Partitions the list around the pivot into smaller, equal and larger elements
+ *   <li>Recursively sorts the smaller and larger parts
  * </ul>
  *
+ * <p>Elements equal to the pivot are gathered in the middle and never visited again, so lists with
+ * few distinct keys are sorted in O(n log k) for k distinct keys. The smaller part is sorted by
+ * recursion and the larger one by the loop, which bounds the recursion depth by log2(n).
+ *
  * <p><strong>Stability:</strong> Unstable - may change the relative order of equal elements
  *
  * <p><strong>Time Complexity:</strong> O(n log n) average case, O(n²) worst case (rarely occurs
  * with randomized pivot)
  *
- * <p><strong>Space Complexity:</strong> O(log n) average case for recursion stack
+ * <p><strong>Space Complexity:</strong> O(log n) for the recursion stack
  *
  * <p><strong>Why Quick Sort:</strong> Chosen for its excellent average-case performance (O(n log
  * n)) and low memory overhead. Despite being unstable, it's often faster in practice than stable
@@ -41,71 +44,73 @@ public class QuickSortAlgorithm extends SortingAlgorithm {
   private final Random random = new Random();
 
   /**
-   * Sorts a list of routes using Quick Sort algorithm.
+   * Sorts a slice of a route array using Quick Sort algorithm.
    *
-   * @param routes the list of routes to sort (will be modified)
+   * @param routes the array containing the slice (will be modified)
+   * @param from first index of the slice, inclusive
+   * @param to last index of the slice, exclusive
    * @param comparator the comparator to determine the sort order
    */
   @Override
-  public void sort(List<Route> routes, Comparator<Route> comparator) {
-    if (routes == null || routes.size() <= 1) {
-      return;
-    }
-
-    log.debug("Starting Quick Sort on {} routes", routes.size());
-    quickSort(routes, 0, routes.size() - 1, comparator);
+  protected void sortRange(Route[] routes, int from, int to, Comparator<Route> comparator) {
+    log.debug("Starting Quick Sort on {} routes", to - from);
+    quickSort(routes, from, to, comparator);
     log.debug("Quick Sort completed");
   }
 
   /**
-   * Recursively sorts the list using quick sort.
+   * Sorts a range using quick sort, recursing into the smaller part only.
    *
-   * @param routes the list to sort
-   * @param low the low index (inclusive)
-   * @param high the high index (inclusive)
+   * @param routes the array to sort
+   * @param from first index, inclusive
+   * @param to last index, exclusive
    * @param comparator the comparator for ordering
    */
-  private void quickSort(List<Route> routes, int low, int high, Comparator<Route> comparator) {
-    if (low < high) {
-      // Partition the array and get the pivot index
-      int pivotIndex = partition(routes, low, high, comparator);
+  private void quickSort(Route[] routes, int from, int to, Comparator<Route> comparator) {
+    while (to - from > 1) {
+      long bounds = partition(routes, from, to, comparator);
+      int lessEnd = (int) (bounds >>> 32);
+      int greaterStart = (int) bounds;
 
-      // Recursively sort elements before and after the partition
-      quickSort(routes, low, pivotIndex - 1, comparator);
-      quickSort(routes, pivotIndex + 1, high, comparator);
+      // Recursively sort the smaller part, continue with the larger one
+      if (lessEnd - from < to - greaterStart) {
+        quickSort(routes, from, lessEnd, comparator);
+        from = greaterStart;
+      } else {
+        quickSort(routes, greaterStart, to, comparator);
+        to = lessEnd;
+      }
     }
   }
 
   /**
-   * Partitions the array around a pivot element.
+   * Partitions a range into elements smaller than, equal to and greater than a random pivot.
    *
    * <p>Uses randomized pivot selection to avoid worst-case O(n²) performance.
    *
-   * @param routes the list to partition
-   * @param low the low index (inclusive)
-   * @param high the high index (inclusive)
+   * @param routes the array to partition
+   * @param from first index, inclusive
+   * @param to last index, exclusive
    * @param comparator the comparator for ordering
-   * @return the final position of the pivot element
+   * @return end of the smaller elements in the upper 32 bits and start of the greater elements in
+   *     the lower 32 bits
    */
-  private int partition(List<Route> routes, int low, int high, Comparator<Route> comparator) {
+  private long partition(Route[] routes, int from, int to, Comparator<Route> comparator) {
     // Randomized pivot selection to avoid worst-case scenarios
-    int randomPivotIndex = low + random.nextInt(high - low + 1);
-    swap(routes, randomPivotIndex, high);
-
-    // Use the last element as pivot (after randomization)
-    Route pivotElement = routes.get(high);
-    int partitionIndex = low - 1; // Index tracking the position of smaller elements
-
-    for (int currentIndex = low; currentIndex < high; currentIndex++) {
-      // If current element is smaller than or equal to pivot
-      if (comparator.compare(routes.get(currentIndex), pivotElement) <= 0) {
-        partitionIndex++;
-        swap(routes, partitionIndex, currentIndex);
+    Route pivotElement = routes[from + random.nextInt(to - from)];
+    int less = from;
+    int current = from;
+    int greater = to - 1;
+    while (current <= greater) {
+      int comparison = comparator.compare(routes[current], pivotElement);
+      if (comparison < 0) {
+        swap(routes, less++, current++);
+      } else if (comparison > 0) {
+        swap(routes, current, greater--);
+      } else {
+        current++;
       }
     }
-
-    // Place pivot in its correct position
-    swap(routes, partitionIndex + 1, high);
-    return partitionIndex + 1;
+    return ((long) less << 32) | (greater + 1);
   }
 }
@@ -0,0 +1,186 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RadixSortAlgorithm.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.base.SortingAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteCombinedComparator;
+import java.util.Comparator;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Stable sorting algorithm implementation using an LSD Radix Sort on primitive keys.
+ *
+ * <p>For the single-criterion comparators (see {@link RouteSortKey}) the price, duration or
+ * stopover count of every route is extracted once into a {@code long} array next to an {@code int}
+ * array of positions. Both arrays are then sorted byte by byte, least significant byte first, with
+ * one counting pass per byte, and the routes are finally reordered by the sorted positions. The
+ * comparator is never called. Bytes that are equal for all routes, such as the upper bytes of
+ * stopover counts, are skipped.
+ *
+ * <p>For {@link RouteCombinedComparator} price, duration and stopovers are packed into one key by
+ * {@link CombinedRouteKeyEncoder}, so the three chained comparisons become a single radix sort.
+ * Other comparators, and combined sorts whose values cannot be packed, are passed on to a fallback
+ * algorithm. Routes that are {@code null} are moved to the end, as the comparators do.
+ *
+ * <p><strong>Stability:</strong> Stable - maintains the relative order of equal elements
+ *
+ * <p><strong>Time Complexity:</strong> O(k * n) for keys of k bytes (at most 4 for integer and 8
+ * for price and combined keys)
+ *
+ * <p><strong>Space Complexity:</strong> O(n) - two key arrays, two position arrays and one route
+ * array
+ */
+@Log4j2
+public class RadixSortAlgorithm extends SortingAlgorithm {
+
+  private static final int RADIX = 256;
+
+  private final SortingAlgorithm fallback;
+
+  /** Creates a sorter falling back to {@link ParallelMergeSortAlgorithm}. */
+  public RadixSortAlgorithm() {
+    this(new ParallelMergeSortAlgorithm());
+  }
+
+  /**
+   * Creates a sorter with a custom fallback.
+   *
+   * @param fallback algorithm used for comparators without a primitive key; should be stable to
+   *     keep this algorithm stable
+   */
+  public RadixSortAlgorithm(SortingAlgorithm fallback) {
+    this.fallback = fallback;
+  }
+
+  /**
+   * Sorts a slice of a route array by its primitive key, or with the fallback algorithm.
+   *
+   * @param routes the array containing the slice (will be modified)
+   * @param from first index of the slice, inclusive
+   * @param to last index of the slice, exclusive
+   * @param comparator the comparator to determine the sort order
+   */
+  @Override
+  protected void sortRange(Route[] routes, int from, int to, Comparator<Route> comparator) {
+    RouteSortKey key = RouteSortKey.forComparator(comparator);
+    boolean combined = comparator instanceof RouteCombinedComparator;
+    if (key == null && !combined) {
+      log.debug("No primitive key for comparator, using fallback");
+      fallback.sort(routes, from, to, comparator);
+      return;
+    }
+
+    log.debug("Starting Radix Sort on {} routes by {}", to - from, combined ? "combined key" : key);
+    int end = moveNullsToEnd(routes, from, to);
+    int count = end - from;
+    if (count <= 1) {
+      return;
+    }
+
+    long[] keys;
+    int keyBytes;
+    if (combined) {
+      CombinedRouteKeyEncoder.PackedKeys packed = CombinedRouteKeyEncoder.encode(routes, from, end);
+      if (packed == null) {
+        log.debug("Combined key does not fit into 64 bits, using fallback");
+        fallback.sort(routes, from, end, comparator);
+        return;
+      }
+      keys = packed.keys();
+      keyBytes = packed.keyBytes();
+    } else {
+      keys = new long[count];
+      for (int i = 0; i < count; i++) {
+        keys[i] = key.extract(routes[from + i]);
+      }
+      keyBytes = key.getKeyBytes();
+    }
+    int[] positions = new int[count];
+    for (int i = 0; i < count; i++) {
+      positions[i] = i;
+    }
+
+    int[] sortedPositions = radixSort(keys, positions, keyBytes);
+    Route[] sorted = new Route[count];
+    for (int i = 0; i < count; i++) {
+      sorted[i] = routes[from + sortedPositions[i]];
+    }
+    System.arraycopy(sorted, 0, routes, from, count);
+    log.debug("Radix Sort completed");
+  }
+
+  /**
+   * Sorts positions by their keys with one stable counting pass per byte.
+   *
+   * @param keys the keys, at least one, reordered together with the positions
+   * @param positions the positions belonging to the keys
+   * @param keyBytes number of significant low-order key bytes
+   * @return the positions in key order; may be the given array or the scratch array
+   */
+  private static int[] radixSort(long[] keys, int[] positions, int keyBytes) {
+    int count = keys.length;
+    int[][] histograms = new int[keyBytes][RADIX];
+    for (long key : keys) {
+      for (int b = 0; b < keyBytes; b++) {
+        histograms[b][(int) (key >>> (b * Byte.SIZE)) & (RADIX - 1)]++;
+      }
+    }
+
+    long[] keyBuffer = new long[count];
+    int[] positionBuffer = new int[count];
+    for (int b = 0; b < keyBytes; b++) {
+      int[] histogram = histograms[b];
+      int shift = b * Byte.SIZE;
+      if (histogram[(int) (keys[0] >>> shift) & (RADIX - 1)] == count) {
+        // All keys share this byte, the pass would not move anything
+        continue;
+      }
+
+      int offset = 0;
+      for (int digit = 0; digit < RADIX; digit++) {
+        int size = histogram[digit];
+        histogram[digit] = offset;
+        offset += size;
+      }
+      for (int i = 0; i < count; i++) {
+        int target = histogram[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+        keyBuffer[target] = keys[i];
+        positionBuffer[target] = positions[i];
+      }
+
+      long[] swappedKeys = keys;
+      keys = keyBuffer;
+      keyBuffer = swappedKeys;
+      int[] swappedPositions = positions;
+      positions = positionBuffer;
+      positionBuffer = swappedPositions;
+    }
+    return positions;
+  }
+
+  /**
+   * Moves {@code null} routes behind all other routes, keeping the order of the others.
+   *
+   * @param routes the array
+   * @param from first index, inclusive
+   * @param to last index, exclusive
+   * @return end of the non-null routes, exclusive
+   */
+  private static int moveNullsToEnd(Route[] routes, int from, int to) {
+    int end = from;
+    for (int i = from; i < to; i++) {
+      if (routes[i] != null) {
+        routes[end++] = routes[i];
+      }
+    }
+    for (int i = end; i < to; i++) {
+      routes[i] = null;
+    }
+    return end;
+  }
+}
@@ -0,0 +1,102 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteSortKey.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteDurationComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RoutePriceComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteSlowestComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteStopoversComparator;
+import java.util.Comparator;
+import java.util.function.ToLongFunction;
+import lombok.Getter;
+
+/**
+ * Primitive sort keys for the single-criterion route comparators.
+ *
+ * <p>Each key maps a route to a {@code long} whose unsigned order equals the order of the matching
+ * comparator, so routes can be sorted by comparing bytes instead of calling the comparator. Integer
+ * fields use the lower four bytes with the sign bit flipped. Prices use the IEEE 754 bits, with all
+ * bits flipped for negative values and only the sign bit flipped otherwise; this gives the same
+ * order as {@link Double#compare}, including {@code -0.0} before {@code 0.0} and NaN last.
+ */
+public enum RouteSortKey {
+  /** Ascending total price, matching {@link RoutePriceComparator}. */
+  PRICE(Double.BYTES, route -> doubleKey(route.getTotalPrice())),
+
+  /** Ascending total duration, matching {@link RouteDurationComparator}. */
+  DURATION(Integer.BYTES, route -> intKey(route.getTotalDuration())),
+
+  /** Descending total duration, matching {@link RouteSlowestComparator}. */
+  DURATION_DESCENDING(Integer.BYTES, route -> intKey(~route.getTotalDuration())),
+
+  /** Ascending number of stopovers, matching {@link RouteStopoversComparator}. */
+  STOPOVERS(Integer.BYTES, route -> intKey(route.getStopovers()));
+
+  /** Number of significant low-order bytes of the key. */
+  @Getter private final int keyBytes;
+
+  private final ToLongFunction<Route> extractor;
+
+  RouteSortKey(int keyBytes, ToLongFunction<Route> extractor) {
+    this.keyBytes = keyBytes;
+    this.extractor = extractor;
+  }
+
+  /**
+   * Returns the key of a route.
+   *
+   * @param route the route, not {@code null}
+   * @return key whose unsigned order matches the comparator order
+   */
+  public long extract(Route route) {
+    return extractor.applyAsLong(route);
+  }
+
+  /**
+   * Returns the key matching a comparator.
+   *
+   * @param comparator the comparator
+   * @return the matching key, or {@code null} if the comparator has no primitive key
+   */
+  public static RouteSortKey forComparator(Comparator<Route> comparator) {
+    if (comparator instanceof RoutePriceComparator) {
+      return PRICE;
+    }
+    if (comparator instanceof RouteDurationComparator) {
+      return DURATION;
+    }
+    if (comparator instanceof RouteSlowestComparator) {
+      return DURATION_DESCENDING;
+    }
+    if (comparator instanceof RouteStopoversComparator) {
+      return STOPOVERS;
+    }
+    return null;
+  }
+
+  /**
+   * Maps an {@code int} to an unsigned key with the same order.
+   *
+   * @param value the value
+   * @return the key in the lower four bytes
+   */
+  private static long intKey(int value) {
+    return (value ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+  }
+
+  /**
+   * Maps a {@code double} to an unsigned key with the order of {@link Double#compare}.
+   *
+   * @param value the value
+   * @return the key
+   */
+  private static long doubleKey(double value) {
+    long bits = Double.doubleToLongBits(value);
+    return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+  }
+}
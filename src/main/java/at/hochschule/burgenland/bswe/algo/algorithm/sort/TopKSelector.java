@@ -0,0 +1,166 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * TopKSelector.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.base.SortingAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Selects the best {@code k} routes without sorting all of them.
+ *
+ * <p>Two strategies are available:
+ *
+ * <ul>
+ *   <li><strong>Unstable:</strong> introselect on an array copy. Repeated 3-way partitioning
+ *       narrows the range containing the k-th position until the first {@code k} elements are the
+ *       smallest ones; only those are sorted afterwards. After {@code 2 * log2(n)} steps the
+ *       remaining range is sorted instead, which bounds the worst case by O(n log n).
+ *   <li><strong>Stable:</strong> a bounded max-heap of {@code k} entries, with the input position
+ *       as tie breaker, so equal routes keep their input order. This is also used for iterators,
+ *       which are consumed once without materializing the routes.
+ * </ul>
+ *
+ * <p><strong>Time Complexity:</strong> O(n + k log k) expected for introselect, O(n log k) for the
+ * heap
+ *
+ * <p><strong>Space Complexity:</strong> O(n) for introselect, O(k) for the heap
+ */
+@Log4j2
+public class TopKSelector {
+
+  /** Ranges with at most this many elements are sorted instead of partitioned. */
+  private static final int SMALL_RANGE = 32;
+
+  private final SortingAlgorithm sorter;
+
+  /** Creates a selector sorting the selected routes with {@link ParallelQuickSortAlgorithm}. */
+  public TopKSelector() {
+    this(new ParallelQuickSortAlgorithm());
+  }
+
+  /**
+   * Creates a selector with a custom algorithm for the final sort of the unstable strategy.
+   *
+   * @param sorter algorithm sorting the selected routes and small or degenerate ranges
+   */
+  public TopKSelector(SortingAlgorithm sorter) {
+    this.sorter = sorter;
+  }
+
+  /**
+   * Returns the {@code k} smallest routes in comparator order. The input is not modified.
+   *
+   * @param routes the routes to select from
+   * @param k maximum number of routes to return
+   * @param comparator the comparator to determine the order
+   * @param stable whether equal routes must keep their input order
+   * @return at most {@code k} routes, best first
+   */
+  public List<Route> select(
+      Collection<Route> routes, int k, Comparator<Route> comparator, boolean stable) {
+    if (routes == null || routes.isEmpty() || k <= 0) {
+      return new ArrayList<>();
+    }
+    if (stable) {
+      return select(routes.iterator(), k, comparator);
+    }
+
+    Route[] array = routes.toArray(new Route[0]);
+    int count = Math.min(k, array.length);
+    log.debug("Selecting top {} of {} routes", count, array.length);
+    if (count < array.length) {
+      introselect(array, count, comparator);
+    }
+    sorter.sort(array, 0, count, comparator);
+    return new ArrayList<>(Arrays.asList(array).subList(0, count));
+  }
+
+  /**
+   * Returns the {@code k} smallest routes of an iterator in comparator order. The iterator is
+   * consumed once and at most {@code k} routes are held at any time. Equal routes keep their input
+   * order.
+   *
+   * @param routes the routes to select from
+   * @param k maximum number of routes to return
+   * @param comparator the comparator to determine the order
+   * @return at most {@code k} routes, best first
+   */
+  public List<Route> select(Iterator<Route> routes, int k, Comparator<Route> comparator) {
+    if (routes == null || k <= 0) {
+      return new ArrayList<>();
+    }
+
+    Comparator<Candidate> order =
+        Comparator.<Candidate, Route>comparing(Candidate::route, comparator)
+            .thenComparingLong(Candidate::position);
+    PriorityQueue<Candidate> worstFirst = new PriorityQueue<>(order.reversed());
+    long position = 0;
+    while (routes.hasNext()) {
+      Candidate candidate = new Candidate(routes.next(), position++);
+      if (worstFirst.size() < k) {
+        worstFirst.add(candidate);
+      } else if (order.compare(candidate, worstFirst.peek()) < 0) {
+        worstFirst.poll();
+        worstFirst.add(candidate);
+      }
+    }
+    log.debug("Selected top {} of {} routes", worstFirst.size(), position);
+
+    List<Candidate> best = new ArrayList<>(worstFirst);
+    best.sort(order);
+    List<Route> result = new ArrayList<>(best.size());
+    for (Candidate candidate : best) {
+      result.add(candidate.route());
+    }
+    return result;
+  }
+
+  /**
+   * Reorders the array so that its first {@code count} elements are the smallest ones, in any
+   * order.
+   *
+   * @param routes the array to reorder
+   * @param count number of smallest elements to move to the front, less than the array length
+   * @param comparator the comparator to determine the order
+   */
+  private void introselect(Route[] routes, int count, Comparator<Route> comparator) {
+    int from = 0;
+    int to = routes.length;
+    int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(routes.length));
+    while (to - from > SMALL_RANGE && depthLimit-- > 0) {
+      long bounds = ParallelQuickSortAlgorithm.partition(routes, from, to, comparator);
+      int lessEnd = (int) (bounds >>> 32);
+      int greaterStart = (int) bounds;
+      if (count < lessEnd) {
+        to = lessEnd;
+      } else if (count > greaterStart) {
+        from = greaterStart;
+      } else {
+        // The boundary lies at or inside the block of elements equal to the pivot
+        return;
+      }
+    }
+    // Small range, or too many partitioning steps: sorting settles the boundary
+    sorter.sort(routes, from, to, comparator);
+  }
+
+  /**
+   * A route with its input position.
+   *
+   * @param route the route
+   * @param position index in the input, used to keep equal routes in input order
+   */
+  private record Candidate(Route route, long position) {}
+}
@@ -6,36 +6,125 @@
  */
 package at.hochschule.burgenland.bswe.algo.algorithm.sort.base;
 
+import at.hochschule.burgenland.bswe.algo.metrics.LatencyHistogram;
+import at.hochschule.burgenland.bswe.algo.metrics.Metrics;
 import at.hochschule.burgenland.bswe.algo.model.Route;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
 
 /**
  * Abstract base class for sorting algorithms that work on Route objects.
  *
- * <p>All sorting algorithms must implement the sort method which takes a list of routes and a
- * comparator to determine the sort order.
+ * <p>All sorting algorithms must implement {@link #sortRange}, which sorts a slice of a route
+ * array. Working on arrays avoids the {@code List.get}/{@code set} calls, which are linear on a
+ * {@code LinkedList} and block bounds-check elimination even on an {@code ArrayList}. Lists are
+ * sorted by copying them into an array, sorting it and writing the result back.
+ *
+ * <p>Every call of a public {@code sort} method is timed in the histogram {@code
+ * sort.<ClassName>.latency} when metrics are enabled.
  */
 public abstract class SortingAlgorithm {
 
+  /** Latency of the sort calls of this algorithm. */
+  private final LatencyHistogram latency =
+      Metrics.histogram("sort." + getClass().getSimpleName() + ".latency");
+
   /**
    * Sorts a list of routes in-place using the specified comparator.
    *
+   * <p>The list is copied into an array, sorted with {@link #sortRange} and written back through a
+   * list iterator, so every list type is handled in linear time apart from the sort itself.
+   *
    * @param routes the list of routes to sort (will be modified)
    * @param comparator the comparator to determine the sort order
    */
-  public abstract void sort(List<Route> routes, Comparator<Route> comparator);
+  public void sort(List<Route> routes, Comparator<Route> comparator) {
+    if (routes == null || routes.size() <= 1) {
+      return;
+    }
+
+    long startNanos = Metrics.ENABLED ? System.nanoTime() : 0;
+    Route[] array = routes.toArray(new Route[0]);
+    sortRange(array, 0, array.length, comparator);
+
+    ListIterator<Route> iterator = routes.listIterator();
+    for (Route route : array) {
+      iterator.next();
+      iterator.set(route);
+    }
+    if (Metrics.ENABLED) {
+      latency.recordSince(startNanos);
+    }
+  }
+
+  /**
+   * Sorts a slice of a route array in-place using the specified comparator.
+   *
+   * @param routes the array containing the slice (will be modified)
+   * @param from first index of the slice, inclusive
+   * @param to last index of the slice, exclusive
+   * @param comparator the comparator to determine the sort order
+   * @throws IndexOutOfBoundsException if the slice is not within the array
+   */
+  public void sort(Route[] routes, int from, int to, Comparator<Route> comparator) {
+    if (routes == null) {
+      return;
+    }
+    Objects.checkFromToIndex(from, to, routes.length);
+    if (to - from <= 1) {
+      return;
+    }
+    long startNanos = Metrics.ENABLED ? System.nanoTime() : 0;
+    sortRange(routes, from, to, comparator);
+    if (Metrics.ENABLED) {
+      latency.recordSince(startNanos);
+    }
+  }
+
+  /**
+   * Sorts a slice of a route array. Called with a valid slice of at least two elements.
+   *
+   * @param routes the array containing the slice (will be modified)
+   * @param from first index of the slice, inclusive
+   * @param to last index of the slice, exclusive
+   * @param comparator the comparator to determine the sort order
+   */
+  protected abstract void sortRange(
+      Route[] routes, int from, int to, Comparator<Route> comparator);
 
   /**
-   * Helper method to swap two elements in a list.
+   * Helper method to swap two elements in an array.
    *
-   * @param routes the list containing the elements
+   * @param routes the array containing the elements
    * @param firstIndex index of the first element
    * @param secondIndex index of the second element
    */
-  protected void swap(List<Route> routes, int firstIndex, int secondIndex) {
-    Route temporaryRoute = routes.get(firstIndex);
-    routes.set(firstIndex, routes.get(secondIndex));
-    routes.set(secondIndex, temporaryRoute);
+  protected static void swap(Route[] routes, int firstIndex, int secondIndex) {
+    Route temporaryRoute = routes[firstIndex];
+    routes[firstIndex] = routes[secondIndex];
+    routes[secondIndex] = temporaryRoute;
+  }
+
+  /**
+   * Helper method to sort a small slice in place with insertion sort. Stable.
+   *
+   * @param routes the array to sort
+   * @param from first index, inclusive
+   * @param to last index, exclusive
+   * @param comparator the comparator for ordering
+   */
+  protected static void insertionSort(
+      Route[] routes, int from, int to, Comparator<Route> comparator) {
+    for (int i = from + 1; i < to; i++) {
+      Route current = routes[i];
+      int j = i - 1;
+      while (j >= from && comparator.compare(routes[j], current) > 0) {
+        routes[j + 1] = routes[j];
+        j--;
+      }
+      routes[j + 1] = current;
+    }
   }
 }
@@ -0,0 +1,46 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * Counter.java Package: at.hochschule.burgenland.bswe.algo.metrics Authors: Alexander R. Brenner,
+ * Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic event counter. Backed by a {@link LongAdder}, so concurrent searches incrementing the
+ * same counter do not contend on a single memory location.
+ */
+public final class Counter {
+
+  private final LongAdder count = new LongAdder();
+
+  /** Counts one event. */
+  public void increment() {
+    count.increment();
+  }
+
+  /**
+   * Counts several events at once.
+   *
+   * @param events number of events
+   */
+  public void add(long events) {
+    count.add(events);
+  }
+
+  /**
+   * Returns the number of events counted so far.
+   *
+   * @return the count
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /** Resets the count to zero. */
+  public void reset() {
+    count.reset();
+  }
+}
@@ -0,0 +1,161 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * LatencyHistogram.java Package: at.hochschule.burgenland.bswe.algo.metrics Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative values, usually latencies in nanoseconds.
+ *
+ * <p>Buckets are laid out log-linearly like an HdrHistogram: every power of two is split into
+ * {@value #SUB_BUCKETS} equal sub-buckets, so any recorded value is reported within about 3 % of
+ * its true value while the whole {@code long} range fits into a fixed array of under 2,000 buckets.
+ * Recording is a single atomic increment plus two adders and never allocates.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+
+  /** Sub-buckets per power of two. */
+  public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  /** Enough buckets for every positive {@code long}. */
+  private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Records a value. Negative values are recorded as zero.
+   *
+   * @param value the value, e.g. a duration in nanoseconds
+   */
+  public void record(long value) {
+    long clamped = Math.max(0, value);
+    buckets.incrementAndGet(bucketIndex(clamped));
+    count.increment();
+    sum.add(clamped);
+    max.accumulate(clamped);
+  }
+
+  /**
+   * Records the nanoseconds elapsed since a start time taken with {@link System#nanoTime()}.
+   *
+   * @param startNanos the start time
+   */
+  public void recordSince(long startNanos) {
+    record(System.nanoTime() - startNanos);
+  }
+
+  /**
+   * Returns the number of recorded values.
+   *
+   * @return the count
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Returns the largest recorded value.
+   *
+   * @return the maximum, or 0 if nothing was recorded
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Returns the arithmetic mean of the recorded values.
+   *
+   * @return the mean, or 0 if nothing was recorded
+   */
+  public double getMean() {
+    long recorded = count.sum();
+    return recorded == 0 ? 0.0 : (double) sum.sum() / recorded;
+  }
+
+  /**
+   * Returns the value below or at which the given share of the recorded values lie.
+   *
+   * <p>The result is the upper bound of the bucket holding that value, capped at {@link #getMax()}.
+   * Values recorded while the buckets are scanned may or may not be included.
+   *
+   * @param percentile the share in percent, between 0 and 100
+   * @return the value at the percentile, or 0 if nothing was recorded
+   * @throws IllegalArgumentException if the percentile is outside 0 to 100
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (percentile < 0.0 || percentile > 100.0) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+    }
+    long[] counts = new long[BUCKET_COUNT];
+    long total = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(bucketUpperBound(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /** Discards all recorded values. */
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets.set(i, 0);
+    }
+    count.reset();
+    sum.reset();
+    max.reset();
+  }
+
+  /**
+   * Maps a value to its bucket. Values below {@link #SUB_BUCKETS} get a bucket each; larger values
+   * are bucketed by their highest {@value #SUB_BUCKET_BITS} + 1 bits.
+   *
+   * @param value a non-negative value
+   * @return the bucket index
+   */
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+    return (shift + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * Returns the largest value that maps to a bucket.
+   *
+   * @param index the bucket index
+   * @return the upper bound, inclusive
+   */
+  static long bucketUpperBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = index / SUB_BUCKETS - 1;
+    long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    return lowerBound + (1L << shift) - 1;
+  }
+}
@@ -0,0 +1,93 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * MetricRegistry.java Package: at.hochschule.burgenland.bswe.algo.metrics Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Named counters, latency histograms and gauges.
+ *
+ * <p>Metrics are created on first lookup and live as long as the registry. Names are dot separated
+ * and lower case, e.g. {@code dijkstra.nodes.settled}; latency histograms end in {@code .latency}
+ * and record nanoseconds. Thread-safe.
+ */
+public class MetricRegistry {
+
+  /** Percentiles reported for every histogram, with the suffix used in {@link #snapshot()}. */
+  private static final Map<String, Double> PERCENTILES =
+      Map.of("p50", 50.0, "p90", 90.0, "p99", 99.0, "p999", 99.9);
+
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+  private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+  private final Map<String, DoubleSupplier> gauges = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the counter with the given name, creating it if needed.
+   *
+   * @param name the metric name
+   * @return the counter
+   */
+  public Counter counter(String name) {
+    return counters.computeIfAbsent(name, ignored -> new Counter());
+  }
+
+  /**
+   * Returns the histogram with the given name, creating it if needed.
+   *
+   * @param name the metric name
+   * @return the histogram
+   */
+  public LatencyHistogram histogram(String name) {
+    return histograms.computeIfAbsent(name, ignored -> new LatencyHistogram());
+  }
+
+  /**
+   * Registers a gauge whose value is read on every snapshot. A gauge registered under an existing
+   * name replaces it.
+   *
+   * @param name the metric name
+   * @param value supplies the current value
+   */
+  public void gauge(String name, DoubleSupplier value) {
+    gauges.put(name, value);
+  }
+
+  /**
+   * Returns the current value of every metric by name.
+   *
+   * <p>Counters are reported as {@code Long}, gauges as {@code Double}. Each histogram is flattened
+   * into {@code .count}, {@code .mean}, {@code .max} and the percentiles {@code .p50}, {@code
+   * .p90}, {@code .p99} and {@code .p999}.
+   *
+   * @return the values, sorted by name
+   */
+  public SortedMap<String, Number> snapshot() {
+    SortedMap<String, Number> values = new TreeMap<>();
+    counters.forEach((name, counter) -> values.put(name, counter.getCount()));
+    gauges.forEach((name, gauge) -> values.put(name, gauge.getAsDouble()));
+    histograms.forEach(
+        (name, histogram) -> {
+          values.put(name + ".count", histogram.getCount());
+          values.put(name + ".mean", histogram.getMean());
+          values.put(name + ".max", histogram.getMax());
+          PERCENTILES.forEach(
+              (suffix, percentile) ->
+                  values.put(name + "." + suffix, histogram.getValueAtPercentile(percentile)));
+        });
+    return values;
+  }
+
+  /** Resets all counters and histograms. Gauges are left alone. */
+  public void reset() {
+    counters.values().forEach(Counter::reset);
+    histograms.values().forEach(LatencyHistogram::reset);
+  }
+}
@@ -0,0 +1,148 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * Metrics.java Package: at.hochschule.burgenland.bswe.algo.metrics Authors: Alexander R. Brenner,
+ * Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.function.DoubleSupplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Application-wide metrics of the routing, loading and sorting code.
+ *
+ * <p>Metrics are off unless the JVM is started with {@code -Drouting.metrics=true}. Instrumented
+ * code checks {@link #ENABLED} before touching a metric; since the flag is a {@code static final}
+ * constant, the JIT drops the disabled branches together with the local counters that only feed
+ * them, so disabled metrics cost nothing on the hot paths.
+ *
+ * <p>When enabled, {@link #startExporters()} publishes the metrics as attributes of the MBean
+ * {@value #OBJECT_NAME} and, if {@code -Drouting.metrics.port=<port>} is set, as plain text on
+ * {@code http://127.0.0.1:<port>/metrics}.
+ */
+@Log4j2
+public final class Metrics {
+
+  /** Whether metrics are recorded, read once from the {@code routing.metrics} system property. */
+  public static final boolean ENABLED = Boolean.getBoolean("routing.metrics");
+
+  /** System property holding the port of the HTTP endpoint. */
+  public static final String PORT_PROPERTY = "routing.metrics.port";
+
+  /** Name under which the metrics MBean is registered. */
+  public static final String OBJECT_NAME = "at.hochschule.burgenland.bswe.algo:type=Metrics";
+
+  private static final MetricRegistry REGISTRY = new MetricRegistry();
+
+  private Metrics() {}
+
+  /**
+   * Returns the application-wide registry.
+   *
+   * @return the registry
+   */
+  public static MetricRegistry registry() {
+    return REGISTRY;
+  }
+
+  /**
+   * Returns an application-wide counter, creating it if needed.
+   *
+   * @param name the metric name
+   * @return the counter
+   */
+  public static Counter counter(String name) {
+    return REGISTRY.counter(name);
+  }
+
+  /**
+   * Returns an application-wide latency histogram, creating it if needed.
+   *
+   * @param name the metric name, ending in {@code .latency}
+   * @return the histogram
+   */
+  public static LatencyHistogram histogram(String name) {
+    return REGISTRY.histogram(name);
+  }
+
+  /**
+   * Registers an application-wide gauge.
+   *
+   * @param name the metric name
+   * @param value supplies the current value
+   */
+  public static void gauge(String name, DoubleSupplier value) {
+    REGISTRY.gauge(name, value);
+  }
+
+  /**
+   * Returns the share of hits among all lookups of a cache.
+   *
+   * @param hits counter of cache hits
+   * @param others counters of all lookups that were not answered from the cache
+   * @return hit rate between 0 and 1, or 0 if there were no lookups
+   */
+  public static double hitRate(Counter hits, Counter... others) {
+    long hitCount = hits.getCount();
+    long total = hitCount;
+    for (Counter other : others) {
+      total += other.getCount();
+    }
+    return total == 0 ? 0.0 : (double) hitCount / total;
+  }
+
+  /**
+   * Starts the JMX and, if configured, HTTP export of the application-wide metrics. Does nothing
+   * if metrics are disabled. Export failures are logged and do not stop the application.
+   *
+   * @return stops the exporters when closed
+   */
+  public static Closeable startExporters() {
+    if (!ENABLED) {
+      return () -> {};
+    }
+
+    ObjectName objectName = null;
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      objectName = new ObjectName(OBJECT_NAME);
+      server.registerMBean(new MetricsJmxExporter(REGISTRY), objectName);
+      log.info("Metrics exported as MBean {}", OBJECT_NAME);
+    } catch (JMException e) {
+      log.warn("Could not register metrics MBean: {}", e.getMessage());
+    }
+
+    MetricsHttpExporter http = null;
+    String port = System.getProperty(PORT_PROPERTY);
+    if (port != null) {
+      try {
+        http = MetricsHttpExporter.start(REGISTRY, Integer.parseInt(port));
+        log.info("Metrics exported on http://127.0.0.1:{}/metrics", http.getPort());
+      } catch (IOException | IllegalArgumentException e) {
+        log.warn("Could not start metrics endpoint on port {}: {}", port, e.getMessage());
+      }
+    }
+
+    ObjectName registeredName = objectName;
+    MetricsHttpExporter startedHttp = http;
+    return () -> {
+      if (startedHttp != null) {
+        startedHttp.close();
+      }
+      try {
+        if (registeredName != null && server.isRegistered(registeredName)) {
+          server.unregisterMBean(registeredName);
+        }
+      } catch (JMException e) {
+        log.warn("Could not unregister metrics MBean: {}", e.getMessage());
+      }
+    };
+  }
+}
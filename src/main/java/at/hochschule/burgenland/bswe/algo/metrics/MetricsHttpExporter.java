@@ -0,0 +1,106 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * MetricsHttpExporter.java Package: at.hochschule.burgenland.bswe.algo.metrics Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Serves the metrics of a {@link MetricRegistry} as plain text on {@code /metrics}.
+ *
+ * <p>The server only listens on the loopback interface. Every line holds one metric as {@code
+ * name value}, with the dots of the name replaced by underscores, which Prometheus and similar
+ * scrapers read as-is.
+ */
+public final class MetricsHttpExporter implements Closeable {
+
+  /** Path the metrics are served on. */
+  public static final String PATH = "/metrics";
+
+  private final HttpServer server;
+
+  private MetricsHttpExporter(HttpServer server) {
+    this.server = server;
+  }
+
+  /**
+   * Starts serving a registry.
+   *
+   * @param registry the exported registry
+   * @param port the port to listen on, or 0 for any free port
+   * @return the running exporter
+   * @throws IOException if the port cannot be bound
+   */
+  public static MetricsHttpExporter start(MetricRegistry registry, int port) throws IOException {
+    HttpServer server =
+        HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    server.createContext(PATH, exchange -> respond(exchange, registry));
+    server.start();
+    return new MetricsHttpExporter(server);
+  }
+
+  /**
+   * Returns the port the exporter listens on.
+   *
+   * @return the bound port
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /** Stops the server. */
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+
+  /**
+   * Renders a registry in the text format.
+   *
+   * @param registry the registry
+   * @return one {@code name value} line per metric
+   */
+  static String render(MetricRegistry registry) {
+    StringBuilder text = new StringBuilder();
+    for (Map.Entry<String, Number> metric : registry.snapshot().entrySet()) {
+      text.append(metric.getKey().replace('.', '_'))
+          .append(' ')
+          .append(metric.getValue())
+          .append('\n');
+    }
+    return text.toString();
+  }
+
+  /**
+   * Answers a request with the current metrics.
+   *
+   * @param exchange the request
+   * @param registry the exported registry
+   * @throws IOException if the response cannot be written
+   */
+  private static void respond(HttpExchange exchange, MetricRegistry registry) throws IOException {
+    try (exchange) {
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+      byte[] body = render(registry).getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream output = exchange.getResponseBody()) {
+        output.write(body);
+      }
+    }
+  }
+}
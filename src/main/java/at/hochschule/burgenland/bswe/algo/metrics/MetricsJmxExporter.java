@@ -0,0 +1,113 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * MetricsJmxExporter.java Package: at.hochschule.burgenland.bswe.algo.metrics Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanParameterInfo;
+
+/**
+ * Read-only MBean exposing every metric of a {@link MetricRegistry} as one attribute.
+ *
+ * <p>The attribute set follows the registry: metrics created after registration show up the next
+ * time a JMX client reads the MBean info. The operation {@code reset} clears counters and
+ * histograms.
+ */
+public class MetricsJmxExporter implements DynamicMBean {
+
+  private static final String RESET = "reset";
+
+  private final MetricRegistry registry;
+
+  /**
+   * Creates an MBean for a registry.
+   *
+   * @param registry the exported registry
+   */
+  public MetricsJmxExporter(MetricRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public Object getAttribute(String attribute) throws AttributeNotFoundException {
+    Number value = registry.snapshot().get(attribute);
+    if (value == null) {
+      throw new AttributeNotFoundException("Unknown metric " + attribute);
+    }
+    return value;
+  }
+
+  @Override
+  public AttributeList getAttributes(String[] attributes) {
+    SortedMap<String, Number> snapshot = registry.snapshot();
+    AttributeList list = new AttributeList();
+    for (String attribute : attributes) {
+      Number value = snapshot.get(attribute);
+      if (value != null) {
+        list.add(new Attribute(attribute, value));
+      }
+    }
+    return list;
+  }
+
+  @Override
+  public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+    throw new AttributeNotFoundException("Metric " + attribute.getName() + " is read-only");
+  }
+
+  @Override
+  public AttributeList setAttributes(AttributeList attributes) {
+    return new AttributeList();
+  }
+
+  @Override
+  public Object invoke(String actionName, Object[] params, String[] signature) {
+    if (!RESET.equals(actionName)) {
+      throw new UnsupportedOperationException("Unknown operation " + actionName);
+    }
+    registry.reset();
+    return null;
+  }
+
+  @Override
+  public MBeanInfo getMBeanInfo() {
+    SortedMap<String, Number> snapshot = registry.snapshot();
+    MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[snapshot.size()];
+    int i = 0;
+    for (Map.Entry<String, Number> metric : snapshot.entrySet()) {
+      attributes[i++] =
+          new MBeanAttributeInfo(
+              metric.getKey(),
+              metric.getValue().getClass().getName(),
+              "Metric " + metric.getKey(),
+              true,
+              false,
+              false);
+    }
+    MBeanOperationInfo reset =
+        new MBeanOperationInfo(
+            RESET,
+            "Resets all counters and histograms",
+            new MBeanParameterInfo[0],
+            "void",
+            MBeanOperationInfo.ACTION);
+    return new MBeanInfo(
+        getClass().getName(),
+        "Routing, loading and sorting metrics",
+        attributes,
+        null,
+        new MBeanOperationInfo[] {reset},
+        null);
+  }
+}
@@ -0,0 +1,41 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteSortCriterion.java Package: at.hochschule.burgenland.bswe.algo.model.enums Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.model.enums;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteCombinedComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteDurationComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RoutePriceComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteSlowestComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteStopoversComparator;
+import java.util.Comparator;
+import lombok.Getter;
+
+/** Defines the sort orders offered for saved routes, one per route comparator. */
+public enum RouteSortCriterion {
+  /** Sorts by ascending total price. */
+  PRICE(new RoutePriceComparator()),
+
+  /** Sorts by ascending total duration. */
+  DURATION(new RouteDurationComparator()),
+
+  /** Sorts by descending total duration. */
+  SLOWEST(new RouteSlowestComparator()),
+
+  /** Sorts by ascending number of stopovers. */
+  STOPOVERS(new RouteStopoversComparator()),
+
+  /** Sorts by price, then duration, then stopovers. */
+  COMBINED(new RouteCombinedComparator());
+
+  /** Comparator defining this order; stateless and shared. */
+  @Getter private final Comparator<Route> comparator;
+
+  RouteSortCriterion(Comparator<Route> comparator) {
+    this.comparator = comparator;
+  }
+}
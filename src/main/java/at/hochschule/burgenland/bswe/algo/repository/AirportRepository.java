@@ -7,6 +7,8 @@
 package at.hochschule.burgenland.bswe.algo.repository;
 
 import at.hochschule.burgenland.bswe.algo.model.Airport;
+import at.hochschule.burgenland.bswe.algo.metrics.LatencyHistogram;
+import at.hochschule.burgenland.bswe.algo.metrics.Metrics;
 import com.opencsv.bean.CsvToBeanBuilder;
 import java.io.*;
 import java.util.List;
@@ -18,6 +20,9 @@ public class AirportRepository {
 
   private static final String AIRPORTS_FILE = "/airports.csv";
 
+  private static final LatencyHistogram LOAD_LATENCY =
+      Metrics.histogram("repository.airports.load.latency");
+
   /**
    * Loads the airports from the CSV file under /airports.csv.
    *
@@ -27,6 +32,7 @@ public class AirportRepository {
    * @throws IllegalStateException if parsing the CSV fails
    */
   public List<Airport> loadAirports() throws IOException {
+    long startNanos = Metrics.ENABLED ? System.nanoTime() : 0;
     InputStream stream = getClass().getResourceAsStream(AIRPORTS_FILE);
     if (stream == null) {
       log.error("Resource not found: {}", AIRPORTS_FILE);
@@ -41,6 +47,9 @@ public class AirportRepository {
               .build()
               .parse();
       log.info("Loaded {} airports from {}", airports.size(), AIRPORTS_FILE);
+      if (Metrics.ENABLED) {
+        LOAD_LATENCY.recordSince(startNanos);
+      }
       return airports;
     } catch (RuntimeException parseException) {
       log.error("Failed to parse {}: {}", AIRPORTS_FILE, parseException.getMessage());
@@ -7,6 +7,8 @@
 package at.hochschule.burgenland.bswe.algo.repository;
 
 import at.hochschule.burgenland.bswe.algo.model.Flight;
+import at.hochschule.burgenland.bswe.algo.metrics.LatencyHistogram;
+import at.hochschule.burgenland.bswe.algo.metrics.Metrics;
 import com.opencsv.bean.CsvToBeanBuilder;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -22,6 +24,9 @@ public class FlightRepository {
 
   private static final String FLIGHTS_FILE = "/flights.csv";
 
+  private static final LatencyHistogram LOAD_LATENCY =
+      Metrics.histogram("repository.flights.load.latency");
+
   /**
    * Loads the flights from the CSV file under /flights.csv.
    *
@@ -31,6 +36,7 @@ public class FlightRepository {
    * @throws IllegalStateException if parsing the CSV fails
    */
   public List<Flight> loadFlights() throws IOException {
+    long startNanos = Metrics.ENABLED ? System.nanoTime() : 0;
     InputStream stream = getClass().getResourceAsStream(FLIGHTS_FILE);
     if (stream == null) {
       log.error("Resource not found: {}", FLIGHTS_FILE);
@@ -45,6 +51,9 @@ public class FlightRepository {
               .build()
               .parse();
       log.info("Loaded {} flights from {}", flights.size(), FLIGHTS_FILE);
+      if (Metrics.ENABLED) {
+        LOAD_LATENCY.recordSince(startNanos);
+      }
       return flights;
     } catch (RuntimeException parseException) {
       log.error("Failed to parse {}: {}", FLIGHTS_FILE, parseException.getMessage());
@@ -0,0 +1,301 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteCatalog.java Package: at.hochschule.burgenland.bswe.algo.repository Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.repository;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Immutable, indexed snapshot of a set of routes.
+ *
+ * <p>Routes are looked up by ID through an open-addressing hash table on primitive {@code int}
+ * keys, so resolving a batch of IDs costs one probe per ID without boxing. Secondary indexes keep
+ * the routes sorted by stopovers, price and duration; equality and range queries are answered by
+ * binary search and only touch the matching routes.
+ *
+ * <p>If several routes share an ID, the last one wins.
+ */
+public class RouteCatalog {
+
+  /** Marks an empty slot in {@link #slotKeys}. */
+  private static final int EMPTY = -1;
+
+  private final Route[] routes;
+
+  /** Hash table from route ID to position in {@link #routes}. */
+  private final int[] slotKeys;
+
+  private final int[] slotPositions;
+  private final int mask;
+
+  private final SortedIndex byStopovers;
+  private final SortedIndex byPrice;
+  private final SortedIndex byDuration;
+
+  /**
+   * Builds a catalog over the given routes.
+   *
+   * @param routes the routes to index
+   */
+  public RouteCatalog(Collection<Route> routes) {
+    this.routes = routes.toArray(new Route[0]);
+
+    int capacity = Integer.highestOneBit(Math.max(2, this.routes.length * 2 - 1)) << 1;
+    this.mask = capacity - 1;
+    this.slotKeys = new int[capacity];
+    this.slotPositions = new int[capacity];
+    Arrays.fill(slotPositions, EMPTY);
+    for (int position = 0; position < this.routes.length; position++) {
+      insert(this.routes[position].getId(), position);
+    }
+
+    this.byStopovers = new SortedIndex(this.routes, Route::getStopovers);
+    this.byPrice = new SortedIndex(this.routes, Route::getTotalPrice);
+    this.byDuration = new SortedIndex(this.routes, Route::getTotalDuration);
+  }
+
+  /**
+   * Returns the route with the given ID.
+   *
+   * @param id the route ID
+   * @return the route, or {@code null} if the catalog has no route with this ID
+   */
+  public Route findById(int id) {
+    for (int slot = slot(id); slotPositions[slot] != EMPTY; slot = (slot + 1) & mask) {
+      if (slotKeys[slot] == id) {
+        return routes[slotPositions[slot]];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Resolves a batch of IDs. Unknown IDs are skipped.
+   *
+   * @param ids the route IDs
+   * @return the found routes in the order of the given IDs
+   */
+  public List<Route> findAllById(int... ids) {
+    List<Route> found = new ArrayList<>(ids.length);
+    for (int id : ids) {
+      Route route = findById(id);
+      if (route != null) {
+        found.add(route);
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Returns all routes with the given number of stopovers, ordered by ID.
+   *
+   * @param stopovers number of stopovers
+   * @return matching routes
+   */
+  public List<Route> findByStopovers(int stopovers) {
+    return byStopovers.range(stopovers, stopovers);
+  }
+
+  /**
+   * Returns all routes whose total price lies within the given bounds, ordered by price.
+   *
+   * @param minPrice lower bound, inclusive
+   * @param maxPrice upper bound, inclusive
+   * @return matching routes
+   */
+  public List<Route> findByPriceRange(double minPrice, double maxPrice) {
+    return byPrice.range(minPrice, maxPrice);
+  }
+
+  /**
+   * Returns all routes whose total duration lies within the given bounds, ordered by duration.
+   *
+   * @param minDuration lower bound in minutes, inclusive
+   * @param maxDuration upper bound in minutes, inclusive
+   * @return matching routes
+   */
+  public List<Route> findByDurationRange(int minDuration, int maxDuration) {
+    return byDuration.range(minDuration, maxDuration);
+  }
+
+  /**
+   * Returns the number of routes in the catalog.
+   *
+   * @return number of routes
+   */
+  public int size() {
+    return routes.length;
+  }
+
+  /**
+   * Stores a position under an ID, replacing an existing entry with the same ID.
+   *
+   * @param id the route ID
+   * @param position position of the route in {@link #routes}
+   */
+  private void insert(int id, int position) {
+    int slot = slot(id);
+    while (slotPositions[slot] != EMPTY && slotKeys[slot] != id) {
+      slot = (slot + 1) & mask;
+    }
+    slotKeys[slot] = id;
+    slotPositions[slot] = position;
+  }
+
+  /**
+   * Returns the home slot of an ID using Fibonacci hashing.
+   *
+   * @param id the route ID
+   * @return the slot index
+   */
+  private int slot(int id) {
+    int hash = id * 0x9E3779B9;
+    return (hash ^ hash >>> 16) & mask;
+  }
+
+  /** Positions of all routes sorted by one numeric key. */
+  private static final class SortedIndex {
+
+    private final Route[] routes;
+    private final double[] keys;
+    private final int[] positions;
+
+    /**
+     * Sorts the routes by a key, breaking ties by route ID.
+     *
+     * @param routes the indexed routes
+     * @param key extracts the sort key
+     */
+    SortedIndex(Route[] routes, ToDoubleFunction<Route> key) {
+      this.routes = routes;
+      int count = routes.length;
+      double[] routeKeys = new double[count];
+      int[] ids = new int[count];
+      int[] unsorted = new int[count];
+      for (int position = 0; position < count; position++) {
+        routeKeys[position] = key.applyAsDouble(routes[position]);
+        ids[position] = routes[position].getId();
+        unsorted[position] = position;
+      }
+      this.positions = sort(unsorted, routeKeys, ids);
+      this.keys = new double[count];
+      for (int i = 0; i < count; i++) {
+        keys[i] = routeKeys[positions[i]];
+      }
+    }
+
+    /**
+     * Sorts positions by key and then by route ID with a bottom-up merge sort on primitive arrays,
+     * so no position is boxed. Positions with equal key and ID keep their order.
+     *
+     * @param positions the positions to sort
+     * @param keys sort key per position
+     * @param ids route ID per position
+     * @return the sorted positions; may be the given array or a buffer
+     */
+    private static int[] sort(int[] positions, double[] keys, int[] ids) {
+      int count = positions.length;
+      int[] buffer = new int[count];
+      for (int width = 1; width < count; width <<= 1) {
+        for (int low = 0; low < count; low += width << 1) {
+          int mid = Math.min(low + width, count);
+          int high = Math.min(mid + width, count);
+          int left = low;
+          int right = mid;
+          int target = low;
+          while (left < mid && right < high) {
+            buffer[target++] =
+                before(positions[right], positions[left], keys, ids)
+                    ? positions[right++]
+                    : positions[left++];
+          }
+          System.arraycopy(positions, left, buffer, target, mid - left);
+          System.arraycopy(positions, right, buffer, target + mid - left, high - right);
+        }
+        int[] swapped = positions;
+        positions = buffer;
+        buffer = swapped;
+      }
+      return positions;
+    }
+
+    /**
+     * Checks whether one position sorts strictly before another.
+     *
+     * @param a the first position
+     * @param b the second position
+     * @param keys sort key per position
+     * @param ids route ID per position
+     * @return true if {@code a} has a smaller key, or the same key and a smaller ID
+     */
+    private static boolean before(int a, int b, double[] keys, int[] ids) {
+      int byKey = Double.compare(keys[a], keys[b]);
+      return byKey < 0 || byKey == 0 && ids[a] < ids[b];
+    }
+
+    /**
+     * Returns all routes whose key lies within the given bounds.
+     *
+     * @param min lower bound, inclusive
+     * @param max upper bound, inclusive
+     * @return matching routes in key order
+     */
+    List<Route> range(double min, double max) {
+      int from = firstNotBelow(min);
+      int to = firstAbove(max);
+      List<Route> result = new ArrayList<>(Math.max(0, to - from));
+      for (int i = from; i < to; i++) {
+        result.add(routes[positions[i]]);
+      }
+      return result;
+    }
+
+    /**
+     * Returns the first index whose key is not smaller than {@code value}.
+     *
+     * @param value the bound
+     * @return index into {@link #keys}
+     */
+    private int firstNotBelow(double value) {
+      int low = 0;
+      int high = keys.length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (Double.compare(keys[mid], value) < 0) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+
+    /**
+     * Returns the first index whose key is greater than {@code value}.
+     *
+     * @param value the bound
+     * @return index into {@link #keys}
+     */
+    private int firstAbove(double value) {
+      int low = 0;
+      int high = keys.length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (Double.compare(keys[mid], value) <= 0) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+  }
+}
@@ -7,6 +7,7 @@
 package at.hochschule.burgenland.bswe.algo.repository;
 
 import at.hochschule.burgenland.bswe.algo.model.Route;
+import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
 import com.opencsv.bean.StatefulBeanToCsv;
 import com.opencsv.bean.StatefulBeanToCsvBuilder;
@@ -15,8 +16,12 @@ import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.extern.log4j.Log4j2;
 
 /** Reads route records from routes.csv and maps them to Route objects. */
@@ -24,6 +29,7 @@ import lombok.extern.log4j.Log4j2;
 public class RouteRepository {
 
   private static final String ROUTES_FILE = "/routes.csv";
+  private static final String HEADER = "id,flights,totalDuration,totalPrice,stopovers\n";
 
   /**
    * Loads routes from the CSV file if it exists.
@@ -40,56 +46,160 @@ public class RouteRepository {
     }
 
     try (Reader reader = new InputStreamReader(stream)) {
-      List<Route> routes =
-          new CsvToBeanBuilder<Route>(reader)
-              .withType(Route.class)
-              .withIgnoreLeadingWhiteSpace(true)
-              .build()
-              .parse();
+      List<Route> routes = parseRoutes(reader, ROUTES_FILE);
       log.info("Loaded {} routes from {}", routes.size(), ROUTES_FILE);
       return routes;
-    } catch (RuntimeException parseException) {
-      log.error("Failed to parse {}: {}", ROUTES_FILE, parseException.getMessage());
-      throw new IllegalStateException(
-          "Failed to parse routes.csv: " + parseException.getMessage(), parseException);
     }
   }
 
   /**
-   * Writes the provided list of routes to routes.csv, overwriting existing content.
+   * Loads routes from a CSV file on the file system.
    *
-   * @param routes list of Route objects to write
+   * @param file path of the CSV file
+   * @return list of Route objects, or an empty list if the file does not exist
+   * @throws IOException if an I/O error occurs while reading
+   * @throws IllegalStateException if parsing fails
    */
-  public void saveRoutes(List<Route> routes) {
-    if (routes == null || routes.isEmpty()) {
-      log.warn("Attempted to save empty route list — skipping CSV write.");
-      return;
+  public List<Route> loadRoutes(Path file) throws IOException {
+    if (!Files.exists(file)) {
+      return Collections.emptyList();
     }
 
-    Path filePath = Path.of("src/main/resources" + ROUTES_FILE);
-    try {
-      Files.createDirectories(filePath.getParent());
+    try (Reader reader = Files.newBufferedReader(file)) {
+      List<Route> routes = parseRoutes(reader, file.toString());
+      log.info("Loaded {} routes from {}", routes.size(), file);
+      return routes;
+    }
+  }
 
-      // Reassign IDs
-      for (int i = 0; i < routes.size(); i++) {
-        routes.get(i).setId(i + 1);
+  /**
+   * Reads the routes of a CSV file one at a time, without holding them in memory.
+   *
+   * @param file path of the CSV file
+   * @param action called for every route in file order
+   * @return number of routes read, {@code 0} if the file does not exist
+   * @throws IOException if an I/O error occurs while reading
+   * @throws IllegalStateException if parsing fails
+   */
+  public long forEachRoute(Path file, Consumer<Route> action) throws IOException {
+    if (!Files.exists(file)) {
+      return 0;
+    }
+
+    long count = 0;
+    try (Reader reader = Files.newBufferedReader(file)) {
+      Iterator<Route> routes = csvToBean(reader).iterator();
+      while (routes.hasNext()) {
+        action.accept(routes.next());
+        count++;
       }
+    } catch (UncheckedIOException readException) {
+      throw readException.getCause();
+    } catch (RuntimeException parseException) {
+      log.error("Failed to parse {}: {}", file, parseException.getMessage());
+      throw new IllegalStateException(
+          "Failed to parse " + file + ": " + parseException.getMessage(), parseException);
+    }
+    log.info("Streamed {} routes from {}", count, file);
+    return count;
+  }
+
+  /**
+   * Writes routes to a CSV file on the file system, replacing existing content. The file is written
+   * to a temporary sibling first and then moved into place, so readers never see a partial file.
+   *
+   * @param file path of the CSV file
+   * @param routes routes to write
+   * @throws IOException if the file cannot be written
+   */
+  public void writeRoutes(Path file, Collection<Route> routes) throws IOException {
+    writeRoutes(file, routes.iterator());
+    log.info("Wrote {} routes to {}", routes.size(), file);
+  }
 
-      try (Writer writer = Files.newBufferedWriter(filePath)) {
-        StatefulBeanToCsv<Route> beanToCsv =
-            new StatefulBeanToCsvBuilder<Route>(writer)
-                .withApplyQuotesToAll(false)
-                .withOrderedResults(true)
-                .build();
+  /**
+   * Writes routes to a CSV file on the file system as they are produced by an iterator, replacing
+   * existing content. Like {@link #writeRoutes(Path, Collection)}, the file only appears once it is
+   * complete.
+   *
+   * @param file path of the CSV file
+   * @param routes routes to write; an {@link UncheckedIOException} thrown by the iterator aborts
+   *     the write
+   * @throws IOException if the file cannot be written or the iterator fails
+   */
+  public void writeRoutes(Path file, Iterator<Route> routes) throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    Path temporaryFile = parent.resolve(file.getFileName() + ".tmp");
 
-        writer.write("id,flights,totalDuration,totalPrice,stopovers\n");
-        beanToCsv.write(routes);
+    try (Writer writer = Files.newBufferedWriter(temporaryFile)) {
+      writeCsv(writer, routes);
+    } catch (UncheckedIOException iteratorException) {
+      Files.deleteIfExists(temporaryFile);
+      throw iteratorException.getCause();
+    } catch (IOException writeException) {
+      Files.deleteIfExists(temporaryFile);
+      throw writeException;
+    }
+    Files.move(
+        temporaryFile,
+        file,
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
 
-        log.info("Saved {} routes to {}", routes.size(), filePath);
-      }
+  /**
+   * Parses route records from a CSV reader. The header line is skipped because the columns are
+   * bound by position.
+   *
+   * @param reader reader positioned at the header line
+   * @param source name of the source used in error messages
+   * @return parsed routes
+   * @throws IllegalStateException if parsing fails
+   */
+  private List<Route> parseRoutes(Reader reader, String source) {
+    try {
+      return csvToBean(reader).parse();
+    } catch (RuntimeException parseException) {
+      log.error("Failed to parse {}: {}", source, parseException.getMessage());
+      throw new IllegalStateException(
+          "Failed to parse " + source + ": " + parseException.getMessage(), parseException);
+    }
+  }
+
+  /**
+   * Creates the CSV reader for route records, skipping the header line.
+   *
+   * @param reader reader positioned at the header line
+   * @return the configured reader
+   */
+  private CsvToBean<Route> csvToBean(Reader reader) {
+    return new CsvToBeanBuilder<Route>(reader)
+        .withType(Route.class)
+        .withIgnoreLeadingWhiteSpace(true)
+        .withSkipLines(1)
+        .build();
+  }
+
+  /**
+   * Writes the header line and all routes as CSV.
+   *
+   * @param writer target writer
+   * @param routes routes to write
+   * @throws IOException if writing fails
+   */
+  private void writeCsv(Writer writer, Iterator<Route> routes) throws IOException {
+    StatefulBeanToCsv<Route> beanToCsv =
+        new StatefulBeanToCsvBuilder<Route>(writer)
+            .withApplyQuotesToAll(false)
+            .withOrderedResults(true)
+            .build();
 
-    } catch (IOException | CsvDataTypeMismatchException | CsvRequiredFieldEmptyException e) {
-      log.error("Failed to save routes to CSV: {}", e.getMessage(), e);
+    writer.write(HEADER);
+    try {
+      beanToCsv.write(routes);
+    } catch (CsvDataTypeMismatchException | CsvRequiredFieldEmptyException e) {
+      throw new IOException("Failed to write routes: " + e.getMessage(), e);
     }
   }
 }
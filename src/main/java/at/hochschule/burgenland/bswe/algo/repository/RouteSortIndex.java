@@ -0,0 +1,301 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteSortIndex.java Package: at.hochschule.burgenland.bswe.algo.repository Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.repository;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.enums.RouteSortCriterion;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Precomputed sort orders of the routes of a {@link RouteStore}, one per {@link
+ * RouteSortCriterion}.
+ *
+ * <p>Each order is a compact {@code int[]} of route IDs. Routes with equal keys are ordered by ID,
+ * which is the order a stable sort of {@link RouteStore#findAll()} would give. Appended routes are
+ * collected per order and merged in on the next read, which costs O(n + m log m) for m new routes
+ * instead of a full sort. Deleted routes are skipped when the IDs are resolved.
+ *
+ * <p>The orders are written to a binary file next to the snapshot. On load, IDs unknown to the
+ * store are dropped, missing routes are treated as appended and an order that is not sorted, e.g.
+ * after a comparator changed, is rebuilt.
+ *
+ * <p>Not thread-safe; {@link RouteStore} calls it while holding its lock.
+ */
+@Log4j2
+final class RouteSortIndex {
+
+  /** Marks the file format, "RORD". */
+  private static final int MAGIC = 0x524f5244;
+
+  private static final int VERSION = 1;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Map<RouteSortCriterion, Order> orders = new EnumMap<>(RouteSortCriterion.class);
+
+  /**
+   * Creates an index whose orders are all built on first use.
+   *
+   * @param routes the routes of the store by ID
+   */
+  RouteSortIndex(Map<Integer, Route> routes) {
+    for (RouteSortCriterion criterion : RouteSortCriterion.values()) {
+      orders.put(criterion, unsorted(routes));
+    }
+  }
+
+  /**
+   * Loads the orders written by {@link #write}. Orders that are missing or unusable are built on
+   * first use.
+   *
+   * @param file the order file
+   * @param routes the routes of the store by ID
+   * @return the loaded index
+   */
+  static RouteSortIndex load(Path file, Map<Integer, Route> routes) {
+    RouteSortIndex index = new RouteSortIndex(routes);
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+      if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+        log.warn("Ignoring route order file {} with unknown format", file);
+        return index;
+      }
+      int count = input.readInt();
+      for (int i = 0; i < count; i++) {
+        String name = input.readUTF();
+        int[] ids = new int[input.readInt()];
+        for (int j = 0; j < ids.length; j++) {
+          ids[j] = input.readInt();
+        }
+        try {
+          RouteSortCriterion criterion = RouteSortCriterion.valueOf(name);
+          index.orders.put(criterion, restore(criterion, ids, routes));
+        } catch (IllegalArgumentException unknownCriterion) {
+          log.debug("Ignoring order for unknown criterion {}", name);
+        }
+      }
+    } catch (NoSuchFileException missing) {
+      log.debug("No route order file {}, orders are built on first use", file);
+    } catch (IOException e) {
+      log.warn("Ignoring unreadable route order file {}: {}", file, e.getMessage());
+    }
+    return index;
+  }
+
+  /**
+   * Records a newly saved route.
+   *
+   * @param id the ID of the route
+   */
+  void added(int id) {
+    for (Order order : orders.values()) {
+      order.addPending(id);
+    }
+  }
+
+  /**
+   * Returns all routes in the order of a criterion.
+   *
+   * @param criterion the sort criterion
+   * @param routes the routes of the store by ID
+   * @return the sorted routes
+   */
+  List<Route> sorted(RouteSortCriterion criterion, Map<Integer, Route> routes) {
+    Order order = merge(criterion, routes);
+    List<Route> result = new ArrayList<>(order.size);
+    // Resolve the IDs and drop routes deleted since the last read
+    int kept = 0;
+    for (int i = 0; i < order.size; i++) {
+      Route route = routes.get(order.ids[i]);
+      if (route != null) {
+        result.add(route);
+        order.ids[kept++] = order.ids[i];
+      }
+    }
+    order.size = kept;
+    return result;
+  }
+
+  /**
+   * Writes all orders to a file, replacing it only once it is complete.
+   *
+   * @param file the order file
+   * @param routes the routes of the store by ID
+   * @throws IOException if the file cannot be written
+   */
+  void write(Path file, Map<Integer, Route> routes) throws IOException {
+    Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try (DataOutputStream output =
+        new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(temporaryFile), BUFFER_SIZE))) {
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+      output.writeInt(orders.size());
+      for (RouteSortCriterion criterion : orders.keySet()) {
+        List<Route> sorted = sorted(criterion, routes);
+        output.writeUTF(criterion.name());
+        output.writeInt(sorted.size());
+        for (Route route : sorted) {
+          output.writeInt(route.getId());
+        }
+      }
+    } catch (IOException writeException) {
+      Files.deleteIfExists(temporaryFile);
+      throw writeException;
+    }
+    Files.move(
+        temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    log.debug("Wrote route orders to {}", file);
+  }
+
+  /**
+   * Merges the pending routes of an order into its sorted IDs.
+   *
+   * @param criterion the sort criterion
+   * @param routes the routes of the store by ID
+   * @return the merged order
+   */
+  private Order merge(RouteSortCriterion criterion, Map<Integer, Route> routes) {
+    Order order = orders.get(criterion);
+    if (order.pendingSize == 0) {
+      return order;
+    }
+
+    Comparator<Route> comparator = comparator(criterion);
+    Route[] added = new Route[order.pendingSize];
+    int addedCount = 0;
+    for (int i = 0; i < order.pendingSize; i++) {
+      Route route = routes.get(order.pending[i]);
+      if (route != null) {
+        added[addedCount++] = route;
+      }
+    }
+    Arrays.sort(added, 0, addedCount, comparator);
+
+    int[] merged = new int[order.size + addedCount];
+    int size = 0;
+    int next = 0;
+    for (int i = 0; i < order.size; i++) {
+      Route route = routes.get(order.ids[i]);
+      if (route == null) {
+        continue;
+      }
+      while (next < addedCount && comparator.compare(added[next], route) < 0) {
+        merged[size++] = added[next++].getId();
+      }
+      merged[size++] = route.getId();
+    }
+    while (next < addedCount) {
+      merged[size++] = added[next++].getId();
+    }
+    log.debug("Merged {} new routes into {} order", addedCount, criterion);
+
+    order.ids = merged;
+    order.size = size;
+    order.pending = new int[0];
+    order.pendingSize = 0;
+    return order;
+  }
+
+  /**
+   * Rebuilds an order from loaded IDs.
+   *
+   * @param criterion the sort criterion
+   * @param ids the loaded IDs
+   * @param routes the routes of the store by ID
+   * @return the order; routes missing from the IDs are pending
+   */
+  private static Order restore(
+      RouteSortCriterion criterion, int[] ids, Map<Integer, Route> routes) {
+    Comparator<Route> comparator = comparator(criterion);
+    BitSet seen = new BitSet();
+    Order order = new Order();
+    order.ids = new int[ids.length];
+    Route previous = null;
+    for (int id : ids) {
+      Route route = routes.get(id);
+      if (route == null || id < 0 || seen.get(id)) {
+        continue;
+      }
+      if (previous != null && comparator.compare(previous, route) > 0) {
+        log.warn("Stored {} order is not sorted, rebuilding it", criterion);
+        return unsorted(routes);
+      }
+      seen.set(id);
+      order.ids[order.size++] = id;
+      previous = route;
+    }
+    for (int id : routes.keySet()) {
+      if (id < 0 || !seen.get(id)) {
+        order.addPending(id);
+      }
+    }
+    return order;
+  }
+
+  /**
+   * Creates an order with all routes pending.
+   *
+   * @param routes the routes of the store by ID
+   * @return the order
+   */
+  private static Order unsorted(Map<Integer, Route> routes) {
+    Order order = new Order();
+    order.ids = new int[0];
+    order.pending = new int[routes.size()];
+    for (int id : routes.keySet()) {
+      order.addPending(id);
+    }
+    return order;
+  }
+
+  /**
+   * Returns the comparator of a criterion with the route ID as tie breaker.
+   *
+   * @param criterion the sort criterion
+   * @return the total order
+   */
+  private static Comparator<Route> comparator(RouteSortCriterion criterion) {
+    return criterion.getComparator().thenComparingInt(Route::getId);
+  }
+
+  /** Sorted route IDs of one criterion and the IDs not merged yet. */
+  private static final class Order {
+    private int[] ids;
+    private int size;
+    private int[] pending = new int[0];
+    private int pendingSize;
+
+    /**
+     * Adds an ID to be merged on the next read.
+     *
+     * @param id the route ID
+     */
+    private void addPending(int id) {
+      if (pendingSize == pending.length) {
+        pending = Arrays.copyOf(pending, Math.max(16, pending.length * 2));
+      }
+      pending[pendingSize++] = id;
+    }
+  }
+}
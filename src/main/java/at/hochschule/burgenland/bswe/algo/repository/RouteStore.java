@@ -0,0 +1,558 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteStore.java Package: at.hochschule.burgenland.bswe.algo.repository Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.repository;
+
+import at.hochschule.burgenland.bswe.algo.metrics.LatencyHistogram;
+import at.hochschule.burgenland.bswe.algo.metrics.Metrics;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.enums.RouteSortCriterion;
+import com.opencsv.CSVParser;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Concurrent in-memory store for calculated routes with append-only persistence.
+ *
+ * <p>Routes are held in a {@link ConcurrentHashMap} keyed by ID, so lookups and reads never block.
+ * IDs are allocated from an {@link AtomicInteger} and are never reused or reassigned.
+ *
+ * <p>Every change is appended as one line to a journal ({@value #JOURNAL_FILE}) and forced to the
+ * disk before the call returns, so saving a route costs O(1) instead of rewriting all routes and
+ * survives a crash of the machine. {@link #saveAll} forces the journal once for the whole batch.
+ * When the journal holds more entries than the store has routes, the current state is written as a
+ * new snapshot ({@value #SNAPSHOT_FILE}), forced to the disk, and the journal is truncated. On
+ * startup the snapshot is loaded and the journal is replayed on top of it; an incomplete last
+ * journal line, left by a crash during a write, is cut off so new entries start on a fresh line.
+ *
+ * <p>Journal lines have the form {@code PUT,id,"flights",totalDuration,totalPrice,stopovers} or
+ * {@code DEL,id}.
+ *
+ * <p>For every {@link RouteSortCriterion} the store keeps the sorted route IDs (see {@link
+ * RouteSortIndex}) and writes them to {@value #ORDER_FILE} on compaction and close, so sorting all
+ * routes by one of them is a scan instead of a sort.
+ */
+@Log4j2
+public class RouteStore implements Closeable {
+
+  /** File name of the compacted snapshot. */
+  public static final String SNAPSHOT_FILE = "routes.csv";
+
+  /** File name of the append-only journal. */
+  public static final String JOURNAL_FILE = "routes.journal";
+
+  /** File name of the precomputed sort orders. */
+  public static final String ORDER_FILE = "routes.order";
+
+  /** Journal size below which no compaction is triggered. */
+  private static final int MIN_COMPACTION_ENTRIES = 1024;
+
+  private static final LatencyHistogram LOAD_LATENCY =
+      Metrics.histogram("repository.routes.load.latency");
+
+  private static final LatencyHistogram SAVE_LATENCY =
+      Metrics.histogram("repository.routes.save.latency");
+
+  private static final LatencyHistogram SORTED_LATENCY =
+      Metrics.histogram("repository.routes.sorted.latency");
+
+  private static final String PUT = "PUT";
+  private static final String DEL = "DEL";
+
+  private final RouteRepository routeRepository = new RouteRepository();
+  private final Path snapshotFile;
+  private final Path journalFile;
+  private final Path orderFile;
+
+  private final ConcurrentHashMap<Integer, Route> routesById = new ConcurrentHashMap<>();
+  private final AtomicInteger lastId = new AtomicInteger();
+
+  /**
+   * Number of changes together with the catalog built for them. Both are replaced as one value, so
+   * a catalog built while the store changed can never be published as current.
+   */
+  private final AtomicReference<CatalogVersion> catalogVersion =
+      new AtomicReference<>(new CatalogVersion(0, null));
+
+  /** Listeners notified of every change; called while holding {@code this}. */
+  private final List<RouteStoreListener> listeners = new CopyOnWriteArrayList<>();
+
+  /** Precomputed sort orders; guarded by {@code this}. */
+  private final RouteSortIndex sortIndex;
+
+  /** Open journal channel; guarded by {@code this}. */
+  private FileChannel journal;
+
+  /** Number of lines in the journal; guarded by {@code this}. */
+  @Getter private int journalEntries;
+
+  /**
+   * Opens the store in a directory, loading the snapshot and replaying the journal.
+   *
+   * @param directory directory holding the snapshot and journal files
+   * @throws IOException if the files cannot be read or the journal cannot be opened
+   * @throws IllegalStateException if the snapshot cannot be parsed
+   */
+  public RouteStore(Path directory) throws IOException {
+    long startNanos = Metrics.ENABLED ? System.nanoTime() : 0;
+    Files.createDirectories(directory);
+    this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+    this.journalFile = directory.resolve(JOURNAL_FILE);
+    this.orderFile = directory.resolve(ORDER_FILE);
+
+    for (Route route : routeRepository.loadRoutes(snapshotFile)) {
+      putLoaded(route);
+    }
+    this.journal =
+        FileChannel.open(
+            journalFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    try {
+      dropTornEntry();
+      replayJournal();
+    } catch (IOException | RuntimeException e) {
+      journal.close();
+      throw e;
+    }
+    this.sortIndex = RouteSortIndex.load(orderFile, routesById);
+
+    log.info(
+        "Opened route store in {} with {} routes and {} journal entries",
+        directory,
+        routesById.size(),
+        journalEntries);
+    if (Metrics.ENABLED) {
+      LOAD_LATENCY.recordSince(startNanos);
+    }
+  }
+
+  /**
+   * Saves a route under a newly allocated ID. The ID is also set on the given route.
+   *
+   * @param route the route to save
+   * @return the given route with its new ID
+   * @throws IllegalArgumentException if the flights contain a line break
+   * @throws UncheckedIOException if the journal entry cannot be written
+   */
+  public Route save(Route route) {
+    checkFlights(route);
+    long startNanos = Metrics.ENABLED ? System.nanoTime() : 0;
+    synchronized (this) {
+      put(route);
+      syncJournal();
+    }
+    if (Metrics.ENABLED) {
+      SAVE_LATENCY.recordSince(startNanos);
+    }
+    return route;
+  }
+
+  /**
+   * Saves several routes, each under a newly allocated ID. The journal is forced to the disk once
+   * for all of them.
+   *
+   * @param routes the routes to save
+   * @return the given routes with their new IDs
+   * @throws IllegalArgumentException if the flights of a route contain a line break; no route is
+   *     saved then
+   * @throws UncheckedIOException if a journal entry cannot be written
+   */
+  public List<Route> saveAll(List<Route> routes) {
+    for (Route route : routes) {
+      checkFlights(route);
+    }
+    synchronized (this) {
+      try {
+        for (Route route : routes) {
+          long startNanos = Metrics.ENABLED ? System.nanoTime() : 0;
+          put(route);
+          if (Metrics.ENABLED) {
+            SAVE_LATENCY.recordSince(startNanos);
+          }
+        }
+      } finally {
+        syncJournal();
+      }
+    }
+    return routes;
+  }
+
+  /**
+   * Deletes a route.
+   *
+   * @param id the route ID
+   * @return true if a route was deleted
+   * @throws UncheckedIOException if the journal entry cannot be written
+   */
+  public boolean delete(int id) {
+    synchronized (this) {
+      if (!routesById.containsKey(id)) {
+        return false;
+      }
+      append(DEL + ',' + id);
+      syncJournal();
+      Route removed = routesById.remove(id);
+      modified();
+      for (RouteStoreListener listener : listeners) {
+        listener.routeDeleted(removed);
+      }
+      compactIfNeeded();
+    }
+    return true;
+  }
+
+  /**
+   * Returns the route with the given ID. The returned object is shared and must not be modified.
+   *
+   * @param id the route ID
+   * @return the route, or {@code null} if no route has this ID
+   */
+  public Route findById(int id) {
+    return routesById.get(id);
+  }
+
+  /**
+   * Returns a snapshot of all routes ordered by ID. The routes are shared and must not be modified.
+   *
+   * @return list of all routes
+   */
+  public List<Route> findAll() {
+    List<Route> routes = new ArrayList<>(routesById.values());
+    routes.sort(Comparator.comparingInt(Route::getId));
+    return routes;
+  }
+
+  /**
+   * Returns all routes sorted by a criterion, routes with equal keys ordered by ID. Routes saved
+   * since the last call are merged into the precomputed order, so no full sort is needed. The
+   * routes are shared and must not be modified.
+   *
+   * @param criterion the sort criterion
+   * @return list of all routes in criterion order
+   */
+  public synchronized List<Route> findAllSorted(RouteSortCriterion criterion) {
+    long startNanos = Metrics.ENABLED ? System.nanoTime() : 0;
+    List<Route> sorted = sortIndex.sorted(criterion, routesById);
+    if (Metrics.ENABLED) {
+      SORTED_LATENCY.recordSince(startNanos);
+    }
+    return sorted;
+  }
+
+  /**
+   * Returns an indexed snapshot of all routes for batch and range lookups. The snapshot is built on
+   * the first call after a change and shared until the next change.
+   *
+   * @return catalog of all routes
+   */
+  public RouteCatalog getCatalog() {
+    CatalogVersion version = catalogVersion.get();
+    if (version.catalog() != null) {
+      return version.catalog();
+    }
+    RouteCatalog built = new RouteCatalog(findAll());
+    // Fails if the store changed meanwhile; the caller still gets a consistent snapshot
+    catalogVersion.compareAndSet(version, new CatalogVersion(version.modifications(), built));
+    return built;
+  }
+
+  /**
+   * Registers a listener for future changes. Before this method returns, the listener receives
+   * {@link RouteStoreListener#routeSaved} for every route already stored, and no change can happen
+   * in between, so the listener sees the complete state exactly once.
+   *
+   * @param listener the listener to register
+   */
+  public synchronized void addListener(RouteStoreListener listener) {
+    for (Route route : routesById.values()) {
+      listener.routeSaved(route);
+    }
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes a listener. It receives no callbacks after this method returns.
+   *
+   * @param listener the listener to remove
+   */
+  public synchronized void removeListener(RouteStoreListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Returns the number of stored routes.
+   *
+   * @return number of routes
+   */
+  public int size() {
+    return routesById.size();
+  }
+
+  /**
+   * Writes all routes to a new snapshot together with the sort orders and truncates the journal.
+   *
+   * @throws UncheckedIOException if the snapshot cannot be written
+   */
+  public synchronized void compact() {
+    try {
+      routeRepository.writeRoutes(snapshotFile, findAll());
+      try (FileChannel snapshot = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+        // The journal may only be dropped once the snapshot is on the disk
+        snapshot.force(true);
+      }
+      sortIndex.write(orderFile, routesById);
+      journal.close();
+      journal =
+          FileChannel.open(
+              journalFile,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING);
+      journalEntries = 0;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to compact route store: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Writes the sort orders and closes the journal. The store must not be modified afterwards.
+   *
+   * @throws IOException if the orders cannot be written or the journal cannot be closed
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    try {
+      sortIndex.write(orderFile, routesById);
+    } finally {
+      journal.close();
+    }
+  }
+
+  /** Invalidates the catalog after a change. */
+  private void modified() {
+    catalogVersion.updateAndGet(version -> new CatalogVersion(version.modifications() + 1, null));
+  }
+
+  /** Compacts once the journal has grown larger than the store itself. */
+  private void compactIfNeeded() {
+    if (journalEntries > Math.max(MIN_COMPACTION_ENTRIES, routesById.size())) {
+      log.debug("Compacting route store after {} journal entries", journalEntries);
+      compact();
+    }
+  }
+
+  /**
+   * Rejects routes whose flights would break a journal line.
+   *
+   * @param route the route to check
+   * @throws IllegalArgumentException if the flights contain a line break
+   */
+  private static void checkFlights(Route route) {
+    String flights = route.getFlights();
+    if (flights != null && (flights.indexOf('\n') >= 0 || flights.indexOf('\r') >= 0)) {
+      throw new IllegalArgumentException("Route flights must not contain line breaks: " + flights);
+    }
+  }
+
+  /**
+   * Stores a route under a newly allocated ID and appends it to the journal without forcing it to
+   * the disk. Must be called while holding {@code this}.
+   *
+   * @param route the route to store; its ID is set
+   */
+  private void put(Route route) {
+    int id = lastId.get() + 1;
+    Route stored = copy(route);
+    stored.setId(id);
+
+    append(
+        PUT
+            + ','
+            + id
+            + ",\""
+            + (stored.getFlights() == null ? "" : stored.getFlights().replace("\"", "\"\""))
+            + "\","
+            + stored.getTotalDuration()
+            + ','
+            + stored.getTotalPrice()
+            + ','
+            + stored.getStopovers());
+    // Only a written entry consumes the ID
+    lastId.set(id);
+    route.setId(id);
+    routesById.put(id, stored);
+    sortIndex.added(id);
+    modified();
+    for (RouteStoreListener listener : listeners) {
+      listener.routeSaved(stored);
+    }
+    compactIfNeeded();
+  }
+
+  /**
+   * Writes one journal line to the journal channel. If the write fails, the journal is truncated
+   * back to its previous end, so no partial line is left behind.
+   *
+   * @param line the journal line without line break
+   */
+  private void append(String line) {
+    ByteBuffer bytes = StandardCharsets.UTF_8.encode(line + '\n');
+    long end = -1;
+    try {
+      end = journal.position();
+      while (bytes.hasRemaining()) {
+        journal.write(bytes);
+      }
+      journalEntries++;
+    } catch (IOException e) {
+      if (end >= 0) {
+        try {
+          journal.truncate(end);
+          journal.position(end);
+        } catch (IOException truncateException) {
+          e.addSuppressed(truncateException);
+        }
+      }
+      throw new UncheckedIOException("Failed to write route journal: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Cuts off an incomplete last journal line and positions the journal behind the last complete
+   * one.
+   *
+   * @throws IOException if the journal cannot be read or truncated
+   */
+  private void dropTornEntry() throws IOException {
+    long size = journal.size();
+    long end = size;
+    ByteBuffer chunk = ByteBuffer.allocate(8192);
+    long complete = 0;
+    search:
+    while (end > 0) {
+      long start = Math.max(0, end - chunk.capacity());
+      chunk.clear().limit((int) (end - start));
+      while (chunk.hasRemaining()) {
+        if (journal.read(chunk, start + chunk.position()) < 0) {
+          break;
+        }
+      }
+      for (int i = chunk.position() - 1; i >= 0; i--) {
+        if (chunk.get(i) == '\n') {
+          complete = start + i + 1;
+          break search;
+        }
+      }
+      end = start;
+    }
+    if (complete < size) {
+      log.warn("Dropping {} bytes of an incomplete route journal entry", size - complete);
+      journal.truncate(complete);
+      journal.force(false);
+    }
+    journal.position(complete);
+  }
+
+  /** Forces the journal entries written so far to the disk. */
+  private void syncJournal() {
+    try {
+      journal.force(false);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to sync route journal: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Applies all journal entries to the loaded snapshot.
+   *
+   * @throws IOException if the journal cannot be read
+   */
+  private void replayJournal() throws IOException {
+    if (!Files.exists(journalFile)) {
+      return;
+    }
+
+    CSVParser parser = new CSVParser();
+    try (BufferedReader reader = Files.newBufferedReader(journalFile)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        journalEntries++;
+        try {
+          String[] fields = parser.parseLine(line);
+          int id = Integer.parseInt(fields[1]);
+          if (PUT.equals(fields[0])) {
+            putLoaded(
+                new Route(
+                    id,
+                    fields[2].isEmpty() ? null : fields[2],
+                    Integer.parseInt(fields[3]),
+                    Double.parseDouble(fields[4]),
+                    Integer.parseInt(fields[5])));
+          } else if (DEL.equals(fields[0])) {
+            routesById.remove(id);
+          } else {
+            log.warn("Skipping unknown journal entry: {}", line);
+          }
+        } catch (IOException | RuntimeException e) {
+          // Torn last lines are cut off before the replay, so this line is corrupt
+          log.warn("Skipping unreadable journal entry: {}", line);
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds a route read from disk and advances the ID counter past its ID.
+   *
+   * @param route the loaded route
+   */
+  private void putLoaded(Route route) {
+    routesById.put(route.getId(), route);
+    lastId.accumulateAndGet(route.getId(), Math::max);
+  }
+
+  /**
+   * Creates a detached copy of a route.
+   *
+   * @param route the route to copy
+   * @return the copy
+   */
+  private Route copy(Route route) {
+    return new Route(
+        route.getId(),
+        route.getFlights(),
+        route.getTotalDuration(),
+        route.getTotalPrice(),
+        route.getStopovers());
+  }
+
+  /**
+   * Catalog built after a number of changes.
+   *
+   * @param modifications number of changes made to the store so far
+   * @param catalog catalog of the routes after these changes, or {@code null} if not built yet
+   */
+  private record CatalogVersion(long modifications, RouteCatalog catalog) {}
+}
@@ -0,0 +1,30 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteStoreListener.java Package: at.hochschule.burgenland.bswe.algo.repository Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.repository;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+
+/**
+ * Receives the changes of a {@link RouteStore}. Callbacks run while the store is locked, in the
+ * order of the changes, so they must be short and must not modify the store.
+ */
+public interface RouteStoreListener {
+
+  /**
+   * Called after a route was added to the store.
+   *
+   * @param route the stored route; shared and must not be modified
+   */
+  void routeSaved(Route route);
+
+  /**
+   * Called after a route was removed from the store.
+   *
+   * @param route the removed route
+   */
+  void routeDeleted(Route route);
+}
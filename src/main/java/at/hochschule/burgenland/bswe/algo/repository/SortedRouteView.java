@@ -0,0 +1,159 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * SortedRouteView.java Package: at.hochschule.burgenland.bswe.algo.repository Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.repository;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Live view of the routes of a {@link RouteStore}, kept sorted by a route comparator.
+ *
+ * <p>The routes are held in a {@link ConcurrentSkipListSet}. The view registers itself as a {@link
+ * RouteStoreListener}, so every save or delete updates it in O(log n) instead of re-sorting all
+ * routes. Routes with equal keys are ordered by ID, which also keeps distinct routes with equal
+ * keys apart. Reads never block and see each route at most once, even while the store changes.
+ *
+ * <p>Range scans on the view's own key use probe routes that carry only the bounding values, e.g.
+ * a route with price 300 for a price view. Filtered scans such as "routes under 300 EUR sorted by
+ * duration" walk the view in order and stop after the requested number of matches.
+ *
+ * <p>The view must be closed to stop receiving updates.
+ */
+@Log4j2
+public class SortedRouteView implements RouteStoreListener, Closeable {
+
+  private final RouteStore store;
+
+  /** Comparator the view was created with, without the ID tie breaker. */
+  @Getter private final Comparator<Route> comparator;
+
+  private final NavigableSet<Route> routes;
+
+  /**
+   * Creates a view containing all routes of the store and registers it for later changes.
+   *
+   * @param store the store to follow
+   * @param comparator the comparator to determine the order, e.g. from {@code model.comparator}
+   */
+  public SortedRouteView(RouteStore store, Comparator<Route> comparator) {
+    this.store = store;
+    this.comparator = comparator;
+    this.routes = new ConcurrentSkipListSet<>(comparator.thenComparingInt(Route::getId));
+    store.addListener(this);
+    log.debug("Created sorted route view with {} routes", routes.size());
+  }
+
+  @Override
+  public void routeSaved(Route route) {
+    routes.add(route);
+  }
+
+  @Override
+  public void routeDeleted(Route route) {
+    routes.remove(route);
+  }
+
+  /**
+   * Returns the number of routes in the view.
+   *
+   * @return number of routes
+   */
+  public int size() {
+    return routes.size();
+  }
+
+  /**
+   * Returns all routes in comparator order. The routes are shared and must not be modified.
+   *
+   * @return list of all routes
+   */
+  public List<Route> findAll() {
+    return new ArrayList<>(routes);
+  }
+
+  /**
+   * Returns the first routes in comparator order.
+   *
+   * @param limit maximum number of routes to return
+   * @return at most {@code limit} routes, best first
+   */
+  public List<Route> findFirst(int limit) {
+    return findWhere(route -> true, limit);
+  }
+
+  /**
+   * Returns all routes whose key lies between two probe routes, both inclusive. Only the values
+   * the comparator looks at have to be set on the probes; their IDs are ignored.
+   *
+   * @param lowerBound probe for the smallest key, or {@code null} for no lower bound
+   * @param upperBound probe for the largest key, or {@code null} for no upper bound
+   * @return routes in comparator order
+   */
+  public List<Route> findRange(Route lowerBound, Route upperBound) {
+    NavigableSet<Route> range = routes;
+    if (lowerBound != null) {
+      range = range.tailSet(probe(lowerBound, Integer.MIN_VALUE), true);
+    }
+    if (upperBound != null) {
+      range = range.headSet(probe(upperBound, Integer.MAX_VALUE), true);
+    }
+    return new ArrayList<>(range);
+  }
+
+  /**
+   * Returns the first routes in comparator order that match a filter.
+   *
+   * @param filter the condition a route has to meet, e.g. a maximum price
+   * @param limit maximum number of routes to return
+   * @return at most {@code limit} matching routes, best first
+   */
+  public List<Route> findWhere(Predicate<Route> filter, int limit) {
+    List<Route> result = new ArrayList<>();
+    if (limit <= 0) {
+      return result;
+    }
+    for (Route route : routes) {
+      if (filter.test(route)) {
+        result.add(route);
+        if (result.size() == limit) {
+          break;
+        }
+      }
+    }
+    return result;
+  }
+
+  /** Stops following the store. The view keeps its last content. */
+  @Override
+  public void close() {
+    store.removeListener(this);
+  }
+
+  /**
+   * Copies a probe route with the given ID, so it sorts before or after all routes with equal keys.
+   *
+   * @param bound the probe route
+   * @param id the ID to use
+   * @return the copy
+   */
+  private static Route probe(Route bound, int id) {
+    return new Route(
+        id,
+        bound.getFlights(),
+        bound.getTotalDuration(),
+        bound.getTotalPrice(),
+        bound.getStopovers());
+  }
+}
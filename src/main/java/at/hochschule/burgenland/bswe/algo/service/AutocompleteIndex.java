@@ -0,0 +1,141 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * AutocompleteIndex.java Package: at.hochschule.burgenland.bswe.algo.service Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.service;
+
+import at.hochschule.burgenland.bswe.algo.model.Airport;
+import at.hochschule.burgenland.bswe.algo.model.Flight;
+import at.hochschule.burgenland.bswe.algo.structure.PrefixTrie;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * Autocomplete and typo-tolerant search over airports and airlines of one data snapshot.
+ *
+ * <p>Airports are indexed by IATA code, city and country, airlines by name. Multi-word values are
+ * also indexed by each word, so "airways" finds "British Airways". Suggestions list prefix matches
+ * first and fill up with fuzzy matches within a small edit distance.
+ */
+public class AutocompleteIndex {
+
+  /** Queries up to this length allow one typo, longer queries two. */
+  private static final int SHORT_QUERY_LENGTH = 4;
+
+  /** The airports this index was built from. */
+  @Getter private final List<Airport> airports;
+
+  /** The flights this index was built from. */
+  @Getter private final List<Flight> flights;
+
+  private final PrefixTrie<Airport> airportTrie = new PrefixTrie<>();
+  private final PrefixTrie<String> airlineTrie = new PrefixTrie<>();
+  private final Map<String, Airport> airportsByIata = new HashMap<>();
+
+  /**
+   * Builds the index for the given airports and the airlines of the given flights.
+   *
+   * @param airports the airports to index
+   * @param flights the flights whose airlines are indexed
+   */
+  public AutocompleteIndex(List<Airport> airports, List<Flight> flights) {
+    this.airports = airports;
+    this.flights = flights;
+    for (Airport airport : airports) {
+      if (airport.getIata() != null) {
+        airportsByIata.put(airport.getIata().toUpperCase(Locale.ROOT), airport);
+      }
+      airportTrie.put(airport.getIata(), airport);
+      putWithWords(airportTrie, airport.getCity(), airport);
+      putWithWords(airportTrie, airport.getCountry(), airport);
+    }
+    for (Flight flight : flights) {
+      putWithWords(airlineTrie, flight.getAirline(), flight.getAirline());
+    }
+  }
+
+  /**
+   * Returns the airport with an IATA code.
+   *
+   * @param iata the IATA code, case-insensitive
+   * @return the airport, or {@code null} if the code is unknown
+   */
+  public Airport findAirport(String iata) {
+    return iata == null ? null : airportsByIata.get(iata.trim().toUpperCase(Locale.ROOT));
+  }
+
+  /**
+   * Suggests airports whose IATA code, city or country matches the query.
+   *
+   * @param query partial or misspelled input
+   * @param limit maximum number of suggestions
+   * @return suggested airports, best matches first
+   */
+  public List<Airport> suggestAirports(String query, int limit) {
+    return suggest(airportTrie, query, limit);
+  }
+
+  /**
+   * Suggests airline names matching the query.
+   *
+   * @param query partial or misspelled input
+   * @param limit maximum number of suggestions
+   * @return suggested airline names, best matches first
+   */
+  public List<String> suggestAirlines(String query, int limit) {
+    return suggest(airlineTrie, query, limit);
+  }
+
+  /**
+   * Combines prefix matches with fuzzy matches.
+   *
+   * @param trie the trie to query
+   * @param query the user input
+   * @param limit maximum number of suggestions
+   * @return distinct suggestions
+   */
+  private static <V> List<V> suggest(PrefixTrie<V> trie, String query, int limit) {
+    if (query == null || query.isBlank() || limit <= 0) {
+      return new ArrayList<>();
+    }
+    Set<V> result = new LinkedHashSet<>(trie.findByPrefix(query, limit));
+    if (result.size() < limit) {
+      int maxDistance = query.trim().length() <= SHORT_QUERY_LENGTH ? 1 : 2;
+      for (V value : trie.findFuzzy(query, maxDistance, limit)) {
+        if (result.size() >= limit) {
+          break;
+        }
+        result.add(value);
+      }
+    }
+    return new ArrayList<>(result);
+  }
+
+  /**
+   * Indexes a value under the full text and under each of its words.
+   *
+   * @param trie the target trie
+   * @param text the text to index, may be {@code null}
+   * @param value the value to store
+   */
+  private static <V> void putWithWords(PrefixTrie<V> trie, String text, V value) {
+    if (text == null) {
+      return;
+    }
+    trie.put(text, value);
+    String[] words = text.trim().split("\\s+");
+    if (words.length > 1) {
+      for (String word : words) {
+        trie.put(word, value);
+      }
+    }
+  }
+}
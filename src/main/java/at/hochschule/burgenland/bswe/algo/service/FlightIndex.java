@@ -0,0 +1,186 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * FlightIndex.java Package: at.hochschule.burgenland.bswe.algo.service Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.service;
+
+import at.hochschule.burgenland.bswe.algo.model.Flight;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * Case-insensitive hash indexes over one snapshot of flights.
+ *
+ * <p>The index is built once from a list of flights and answers lookups by origin, destination,
+ * airline, flight number, origin and destination, or airline and origin with a single hash lookup.
+ * Keys are normalized to lower case when the index is built, so no string comparison is needed at
+ * query time. The returned lists are unmodifiable views of the index buckets and are not copied.
+ * Within a bucket flights keep the order of the source list.
+ */
+public class FlightIndex {
+
+  /**
+   * Separator between the parts of a composite key. Quoted CSV fields may contain any character,
+   * so values containing the separator are rejected by {@link #composite} rather than assumed away.
+   */
+  private static final char KEY_SEPARATOR = '\0';
+
+  /** The flights this index was built from. */
+  @Getter private final List<Flight> flights;
+
+  private final Map<String, List<Flight>> byOrigin;
+  private final Map<String, List<Flight>> byDestination;
+  private final Map<String, List<Flight>> byAirline;
+  private final Map<String, List<Flight>> byFlightNumber;
+  private final Map<String, List<Flight>> byOriginAndDestination;
+  private final Map<String, List<Flight>> byAirlineAndOrigin;
+
+  /**
+   * Builds all indexes for the given flights.
+   *
+   * @param flights the flights to index
+   */
+  public FlightIndex(List<Flight> flights) {
+    this.flights = flights;
+    this.byOrigin = build(flights, flight -> normalize(flight.getOrigin()));
+    this.byDestination = build(flights, flight -> normalize(flight.getDestination()));
+    this.byAirline = build(flights, flight -> normalize(flight.getAirline()));
+    this.byFlightNumber = build(flights, flight -> normalize(flight.getFlightNumber()));
+    this.byOriginAndDestination =
+        build(flights, flight -> composite(flight.getOrigin(), flight.getDestination()));
+    this.byAirlineAndOrigin =
+        build(flights, flight -> composite(flight.getAirline(), flight.getOrigin()));
+  }
+
+  /**
+   * Returns all flights departing from an airport.
+   *
+   * @param origin IATA code of the origin airport, case-insensitive
+   * @return unmodifiable list of matching flights
+   */
+  public List<Flight> findByOrigin(String origin) {
+    return lookup(byOrigin, normalize(origin));
+  }
+
+  /**
+   * Returns all flights arriving at an airport.
+   *
+   * @param destination IATA code of the destination airport, case-insensitive
+   * @return unmodifiable list of matching flights
+   */
+  public List<Flight> findByDestination(String destination) {
+    return lookup(byDestination, normalize(destination));
+  }
+
+  /**
+   * Returns all flights operated by an airline.
+   *
+   * @param airline name of the airline, case-insensitive
+   * @return unmodifiable list of matching flights
+   */
+  public List<Flight> findByAirline(String airline) {
+    return lookup(byAirline, normalize(airline));
+  }
+
+  /**
+   * Returns all flights with a flight number.
+   *
+   * @param flightNumber the flight number, case-insensitive
+   * @return unmodifiable list of matching flights
+   */
+  public List<Flight> findByFlightNumber(String flightNumber) {
+    return lookup(byFlightNumber, normalize(flightNumber));
+  }
+
+  /**
+   * Returns all direct flights between two airports.
+   *
+   * @param origin IATA code of the origin airport, case-insensitive
+   * @param destination IATA code of the destination airport, case-insensitive
+   * @return unmodifiable list of matching flights
+   */
+  public List<Flight> findByOriginAndDestination(String origin, String destination) {
+    return lookup(byOriginAndDestination, composite(origin, destination));
+  }
+
+  /**
+   * Returns all flights of an airline departing from an airport.
+   *
+   * @param airline name of the airline, case-insensitive
+   * @param origin IATA code of the origin airport, case-insensitive
+   * @return unmodifiable list of matching flights
+   */
+  public List<Flight> findByAirlineAndOrigin(String airline, String origin) {
+    return lookup(byAirlineAndOrigin, composite(airline, origin));
+  }
+
+  /**
+   * Groups flights by a key and wraps every bucket in an unmodifiable view. Flights with a
+   * {@code null} key are not indexed.
+   *
+   * @param flights the flights to index
+   * @param key extracts the normalized key of a flight
+   * @return map from key to bucket
+   */
+  private static Map<String, List<Flight>> build(
+      List<Flight> flights, Function<Flight, String> key) {
+    Map<String, List<Flight>> buckets = new HashMap<>();
+    for (Flight flight : flights) {
+      String value = key.apply(flight);
+      if (value != null) {
+        buckets.computeIfAbsent(value, ignored -> new ArrayList<>()).add(flight);
+      }
+    }
+    buckets.replaceAll((value, bucket) -> Collections.unmodifiableList(bucket));
+    return buckets;
+  }
+
+  /**
+   * Returns the bucket for a key.
+   *
+   * @param index the index to query
+   * @param key the normalized key, may be {@code null}
+   * @return the bucket, or an empty list
+   */
+  private static List<Flight> lookup(Map<String, List<Flight>> index, String key) {
+    if (key == null) {
+      return Collections.emptyList();
+    }
+    return index.getOrDefault(key, Collections.emptyList());
+  }
+
+  /**
+   * Normalizes a key for case-insensitive lookups.
+   *
+   * @param value the raw value, may be {@code null}
+   * @return the trimmed lower-case value, or {@code null}
+   */
+  private static String normalize(String value) {
+    return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Builds a normalized composite key from two values.
+   *
+   * @param first the first value
+   * @param second the second value
+   * @return the composite key, or {@code null} if a value is missing or contains the separator
+   */
+  private static String composite(String first, String second) {
+    if (first == null
+        || second == null
+        || first.indexOf(KEY_SEPARATOR) >= 0
+        || second.indexOf(KEY_SEPARATOR) >= 0) {
+      return null;
+    }
+    return normalize(first) + KEY_SEPARATOR + normalize(second);
+  }
+}
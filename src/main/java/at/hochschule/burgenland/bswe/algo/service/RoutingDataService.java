@@ -11,9 +11,11 @@ import at.hochschule.burgenland.bswe.algo.model.Flight;
 import at.hochschule.burgenland.bswe.algo.model.Route;
 import at.hochschule.burgenland.bswe.algo.repository.AirportRepository;
 import at.hochschule.burgenland.bswe.algo.repository.FlightRepository;
-import at.hochschule.burgenland.bswe.algo.repository.RouteRepository;
+import at.hochschule.burgenland.bswe.algo.repository.RouteStore;
+import at.hochschule.burgenland.bswe.algo.structure.AirportSpatialIndex;
 import at.hochschule.burgenland.bswe.algo.structure.Graph;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import lombok.Getter;
@@ -25,7 +27,15 @@ public final class RoutingDataService {
 
   private static final AirportRepository airportRepository = new AirportRepository();
   private static final FlightRepository flightRepository = new FlightRepository();
-  private static final RouteRepository routeRepository = new RouteRepository();
+
+  /** Default directory of the route store, relative to the working directory. */
+  static final Path DEFAULT_ROUTES_DIRECTORY = Path.of("data");
+
+  /** Directory holding the route snapshot and journal. */
+  private static Path routesDirectory = DEFAULT_ROUTES_DIRECTORY;
+
+  /** Store of all saved routes; created on first use. */
+  private static RouteStore routeStore;
 
   /** List of all loaded airports. */
   @Getter private static List<Airport> airports = Collections.emptyList();
@@ -33,8 +43,14 @@ public final class RoutingDataService {
   /** List of all loaded flights. */
   @Getter private static List<Flight> flights = Collections.emptyList();
 
-  /** List of all loaded routes. */
-  @Getter private static List<Route> routes = Collections.emptyList();
+  /** Search index over {@link #flights}; rebuilt when the flights are reloaded. */
+  private static FlightIndex flightIndex;
+
+  /** Autocomplete index over {@link #airports} and airlines; rebuilt when the data is reloaded. */
+  private static AutocompleteIndex autocompleteIndex;
+
+  /** Spatial index over {@link #airports}; rebuilt when the airports are reloaded. */
+  private static AirportSpatialIndex spatialIndex;
 
   /**
    * Builds and returns a graph representation of all airports and flights.
@@ -53,7 +69,105 @@ public final class RoutingDataService {
   }
 
   /**
-   * Saves all currently loaded routes to the routes.csv file.
+   * Returns the search index for the currently loaded flights, building it on first use after the
+   * flights were (re)loaded.
+   *
+   * @return index over all loaded flights
+   */
+  public static synchronized FlightIndex getFlightIndex() {
+    if (flightIndex == null || flightIndex.getFlights() != flights) {
+      flightIndex = new FlightIndex(flights);
+    }
+    return flightIndex;
+  }
+
+  /**
+   * Returns the autocomplete index for the currently loaded airports and airlines, building it on
+   * first use after the data was (re)loaded.
+   *
+   * @return autocomplete index over all loaded airports and airlines
+   */
+  public static synchronized AutocompleteIndex getAutocompleteIndex() {
+    if (autocompleteIndex == null
+        || autocompleteIndex.getAirports() != airports
+        || autocompleteIndex.getFlights() != flights) {
+      autocompleteIndex = new AutocompleteIndex(airports, flights);
+    }
+    return autocompleteIndex;
+  }
+
+  /**
+   * Returns the spatial index for the currently loaded airports, building it on first use after the
+   * airports were (re)loaded.
+   *
+   * @return spatial index over all loaded airports
+   */
+  public static synchronized AirportSpatialIndex getSpatialIndex() {
+    if (spatialIndex == null || spatialIndex.getAirports() != airports) {
+      spatialIndex = new AirportSpatialIndex(airports);
+    }
+    return spatialIndex;
+  }
+
+  /**
+   * Returns all saved routes ordered by ID.
+   *
+   * @return list of all saved routes
+   */
+  public static List<Route> getRoutes() {
+    return getRouteStore().findAll();
+  }
+
+  /**
+   * Returns the store holding all saved routes, opening it on first use.
+   *
+   * @return the route store
+   * @throws IllegalStateException if the store could not be opened
+   */
+  public static synchronized RouteStore getRouteStore() {
+    if (routeStore == null) {
+      try {
+        routeStore = new RouteStore(routesDirectory);
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to open route store: " + e.getMessage(), e);
+      }
+    }
+    return routeStore;
+  }
+
+  /**
+   * Points the route store at another directory. A store that is already open is closed; the next
+   * access opens the store in the new directory.
+   *
+   * @param directory directory holding the route snapshot and journal
+   * @throws IllegalStateException if the open store could not be closed
+   */
+  static synchronized void setRoutesDirectory(Path directory) {
+    if (routeStore != null) {
+      try {
+        routeStore.close();
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to close route store: " + e.getMessage(), e);
+      } finally {
+        routeStore = null;
+      }
+    }
+    routesDirectory = directory;
+  }
+
+  /**
+   * Saves a route under a newly allocated ID, which is also set on the given route.
+   *
+   * @param route the route to persist
+   * @return the given route with its new ID
+   */
+  public static Route saveRoute(Route route) {
+    return getRouteStore().save(route);
+  }
+
+  /**
+   * Appends the given routes to the route store. Each route gets a newly allocated ID; routes saved
+   * earlier keep their IDs.
    *
    * @param updatedRoutes list of routes to persist
    */
@@ -63,17 +177,15 @@ public final class RoutingDataService {
       return;
     }
 
-    log.info("Saving {} routes to CSV...", updatedRoutes.size());
-    routeRepository.saveRoutes(updatedRoutes);
-    loadAllData();
+    log.info("Saving {} routes...", updatedRoutes.size());
+    getRouteStore().saveAll(updatedRoutes);
   }
 
-  /** Loads all datasets (airports, flights, and routes) from their respective CSV files. */
+  /** Loads the airport and flight datasets from their respective CSV files. */
   private static void loadAllData() {
     try {
       airports = airportRepository.loadAirports();
       flights = flightRepository.loadFlights();
-      routes = routeRepository.loadRoutes();
     } catch (IOException e) {
       throw new IllegalStateException("Failed to load routing data: " + e.getMessage(), e);
     }
@@ -0,0 +1,296 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * AirportSpatialIndex.java Package: at.hochschule.burgenland.bswe.algo.structure Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.structure;
+
+import at.hochschule.burgenland.bswe.algo.model.Airport;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import lombok.Getter;
+
+/**
+ * k-d tree over airport coordinates for nearest-neighbour and radius queries.
+ *
+ * <p>Airports are mapped to points on the unit sphere, so the straight-line (chord) distance
+ * between two points grows with their great-circle distance and no special handling is needed at
+ * the date line or the poles. The tree is stored implicitly: the airports are reordered so that
+ * every subrange holds its splitting point in the middle, with the smaller coordinates to the left.
+ *
+ * <p>Both queries skip a subtree as soon as the distance to its splitting plane exceeds the current
+ * search radius, so only a small part of the tree is visited for local queries.
+ */
+public class AirportSpatialIndex {
+
+  /** Mean earth radius in kilometres. */
+  public static final double EARTH_RADIUS_KM = 6371.0;
+
+  private static final int DIMENSIONS = 3;
+
+  /** The airports this index was built from. */
+  @Getter private final List<Airport> airports;
+
+  /** Airports in tree order. */
+  private final Airport[] points;
+
+  /** Unit-sphere coordinates in tree order, {@code DIMENSIONS} values per airport. */
+  private final double[] coordinates;
+
+  private final Map<String, Airport> airportsByIata = new HashMap<>();
+
+  /**
+   * Builds the index for the given airports.
+   *
+   * @param airports the airports to index
+   */
+  public AirportSpatialIndex(List<Airport> airports) {
+    this.airports = airports;
+    double[][] vectors = new double[airports.size()][];
+    Integer[] order = new Integer[airports.size()];
+    for (int i = 0; i < order.length; i++) {
+      Airport airport = airports.get(i);
+      airportsByIata.put(airport.getIata(), airport);
+      vectors[i] = toUnitVector(airport.getLatitude(), airport.getLongitude());
+      order[i] = i;
+    }
+    build(order, vectors, 0, order.length, 0);
+
+    this.points = new Airport[order.length];
+    this.coordinates = new double[order.length * DIMENSIONS];
+    for (int i = 0; i < order.length; i++) {
+      points[i] = airports.get(order[i]);
+      System.arraycopy(vectors[order[i]], 0, coordinates, i * DIMENSIONS, DIMENSIONS);
+    }
+  }
+
+  /**
+   * Returns the airport with an IATA code.
+   *
+   * @param iata the IATA code
+   * @return the airport, or {@code null} if it is not indexed
+   */
+  public Airport getAirport(String iata) {
+    return airportsByIata.get(iata);
+  }
+
+  /**
+   * Returns the {@code k} airports closest to a position, closest first.
+   *
+   * @param latitude latitude of the position in degrees
+   * @param longitude longitude of the position in degrees
+   * @param k maximum number of airports
+   * @return the nearest airports
+   */
+  public List<Airport> findNearest(double latitude, double longitude, int k) {
+    if (k <= 0 || points.length == 0) {
+      return new ArrayList<>();
+    }
+    double[] target = toUnitVector(latitude, longitude);
+    PriorityQueue<Candidate> farthestFirst =
+        new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance).reversed());
+    searchNearest(0, points.length, 0, target, k, farthestFirst);
+
+    List<Candidate> nearest = new ArrayList<>(farthestFirst);
+    nearest.sort(Comparator.comparingDouble(Candidate::distance));
+    return nearest.stream().map(candidate -> points[candidate.position()]).toList();
+  }
+
+  /**
+   * Returns all airports within a great-circle distance of a position, closest first.
+   *
+   * @param latitude latitude of the position in degrees
+   * @param longitude longitude of the position in degrees
+   * @param radiusKm search radius in kilometres
+   * @return airports within the radius, including one at the position itself
+   */
+  public List<Airport> findWithinRadius(double latitude, double longitude, double radiusKm) {
+    if (radiusKm < 0 || points.length == 0) {
+      return new ArrayList<>();
+    }
+    double[] target = toUnitVector(latitude, longitude);
+    double angle = Math.min(Math.PI, radiusKm / EARTH_RADIUS_KM);
+    double chord = 2 * Math.sin(angle / 2);
+
+    List<Candidate> found = new ArrayList<>();
+    searchRadius(0, points.length, 0, target, chord * chord, found);
+    found.sort(Comparator.comparingDouble(Candidate::distance));
+    return found.stream().map(candidate -> points[candidate.position()]).toList();
+  }
+
+  /**
+   * Returns all airports within a great-circle distance of an airport, closest first.
+   *
+   * @param center the airport at the centre
+   * @param radiusKm search radius in kilometres
+   * @return airports within the radius, including the centre airport
+   */
+  public List<Airport> findWithinRadius(Airport center, double radiusKm) {
+    return findWithinRadius(center.getLatitude(), center.getLongitude(), radiusKm);
+  }
+
+  /**
+   * Returns the number of indexed airports.
+   *
+   * @return number of airports
+   */
+  public int size() {
+    return points.length;
+  }
+
+  /**
+   * Calculates the great-circle distance between two positions with the haversine formula.
+   *
+   * @param latitude1 latitude of the first position in degrees
+   * @param longitude1 longitude of the first position in degrees
+   * @param latitude2 latitude of the second position in degrees
+   * @param longitude2 longitude of the second position in degrees
+   * @return distance in kilometres
+   */
+  public static double distanceKm(
+      double latitude1, double longitude1, double latitude2, double longitude2) {
+    double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+    double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+    double a =
+        Math.pow(Math.sin(deltaLatitude / 2), 2)
+            + Math.cos(Math.toRadians(latitude1))
+                * Math.cos(Math.toRadians(latitude2))
+                * Math.pow(Math.sin(deltaLongitude / 2), 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+  }
+
+  /**
+   * Reorders a subrange so that its median along the axis of this depth is in the middle.
+   *
+   * @param order airport indexes in tree order
+   * @param vectors unit-sphere coordinates by airport index
+   * @param from first index, inclusive
+   * @param to last index, exclusive
+   * @param depth depth of the subtree
+   */
+  private static void build(Integer[] order, double[][] vectors, int from, int to, int depth) {
+    if (to - from <= 1) {
+      return;
+    }
+    int axis = depth % DIMENSIONS;
+    Arrays.sort(order, from, to, Comparator.comparingDouble(index -> vectors[index][axis]));
+    int middle = (from + to) >>> 1;
+    build(order, vectors, from, middle, depth + 1);
+    build(order, vectors, middle + 1, to, depth + 1);
+  }
+
+  /**
+   * Collects the k nearest points of a subtree into a bounded max-heap.
+   *
+   * @param from first index, inclusive
+   * @param to last index, exclusive
+   * @param depth depth of the subtree
+   * @param target query point
+   * @param k maximum number of results
+   * @param heap current candidates, farthest on top
+   */
+  private void searchNearest(
+      int from, int to, int depth, double[] target, int k, PriorityQueue<Candidate> heap) {
+    if (from >= to) {
+      return;
+    }
+    int middle = (from + to) >>> 1;
+    double distance = squaredDistance(middle, target);
+    if (heap.size() < k) {
+      heap.add(new Candidate(middle, distance));
+    } else if (distance < heap.peek().distance()) {
+      heap.poll();
+      heap.add(new Candidate(middle, distance));
+    }
+
+    double delta = target[depth % DIMENSIONS] - coordinates[middle * DIMENSIONS + depth % DIMENSIONS];
+    boolean leftFirst = delta < 0;
+    if (leftFirst) {
+      searchNearest(from, middle, depth + 1, target, k, heap);
+    } else {
+      searchNearest(middle + 1, to, depth + 1, target, k, heap);
+    }
+    if (heap.size() < k || delta * delta < heap.peek().distance()) {
+      if (leftFirst) {
+        searchNearest(middle + 1, to, depth + 1, target, k, heap);
+      } else {
+        searchNearest(from, middle, depth + 1, target, k, heap);
+      }
+    }
+  }
+
+  /**
+   * Collects all points of a subtree within a squared chord distance.
+   *
+   * @param from first index, inclusive
+   * @param to last index, exclusive
+   * @param depth depth of the subtree
+   * @param target query point
+   * @param maxDistance squared chord distance limit
+   * @param found collected points
+   */
+  private void searchRadius(
+      int from, int to, int depth, double[] target, double maxDistance, List<Candidate> found) {
+    if (from >= to) {
+      return;
+    }
+    int middle = (from + to) >>> 1;
+    double distance = squaredDistance(middle, target);
+    if (distance <= maxDistance) {
+      found.add(new Candidate(middle, distance));
+    }
+
+    double delta = target[depth % DIMENSIONS] - coordinates[middle * DIMENSIONS + depth % DIMENSIONS];
+    if (delta <= 0 || delta * delta <= maxDistance) {
+      searchRadius(from, middle, depth + 1, target, maxDistance, found);
+    }
+    if (delta >= 0 || delta * delta <= maxDistance) {
+      searchRadius(middle + 1, to, depth + 1, target, maxDistance, found);
+    }
+  }
+
+  /**
+   * Returns the squared chord distance between an indexed point and a query point.
+   *
+   * @param position index of the point in tree order
+   * @param target query point
+   * @return squared distance on the unit sphere
+   */
+  private double squaredDistance(int position, double[] target) {
+    double sum = 0;
+    for (int axis = 0; axis < DIMENSIONS; axis++) {
+      double delta = coordinates[position * DIMENSIONS + axis] - target[axis];
+      sum += delta * delta;
+    }
+    return sum;
+  }
+
+  /**
+   * Converts geographic coordinates to a point on the unit sphere.
+   *
+   * @param latitude latitude in degrees
+   * @param longitude longitude in degrees
+   * @return x, y and z coordinates
+   */
+  private static double[] toUnitVector(double latitude, double longitude) {
+    double phi = Math.toRadians(latitude);
+    double lambda = Math.toRadians(longitude);
+    return new double[] {
+      Math.cos(phi) * Math.cos(lambda), Math.cos(phi) * Math.sin(lambda), Math.sin(phi)
+    };
+  }
+
+  /**
+   * A point found by a query.
+   *
+   * @param position index of the point in tree order
+   * @param distance squared chord distance to the query point
+   */
+  private record Candidate(int position, double distance) {}
+}
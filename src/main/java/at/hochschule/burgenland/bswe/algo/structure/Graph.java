@@ -9,12 +9,22 @@ package at.hochschule.burgenland.bswe.algo.structure;
 import at.hochschule.burgenland.bswe.algo.model.Airport;
 import at.hochschule.burgenland.bswe.algo.model.Flight;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Getter;
 
 /** Graph representation connecting airports via flights. */
 @Getter
 public class Graph {
 
+  /** Source of snapshot versions; every new graph gets a higher version. */
+  private static final AtomicLong VERSIONS = new AtomicLong();
+
+  /**
+   * Snapshot version of this graph. A graph built from reloaded data always has a higher version
+   * than its predecessors, so results derived from an older graph can be detected as stale.
+   */
+  private final long version = VERSIONS.incrementAndGet();
+
   /** Map of airport IATA codes to their corresponding graph nodes. */
   private final Map<String, Node> nodes = new HashMap<>();
 
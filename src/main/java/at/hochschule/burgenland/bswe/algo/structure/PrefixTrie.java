@@ -0,0 +1,253 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * PrefixTrie.java Package: at.hochschule.burgenland.bswe.algo.structure Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.structure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Case-insensitive trie mapping string keys to values, with prefix and fuzzy lookup.
+ *
+ * <p>Each node keeps its children in a sorted {@code char} array, so a lookup walks one node per
+ * query character with a binary search per step. Prefix queries then collect values below the
+ * reached node in key order until the limit is hit, so their cost depends on the query and the
+ * limit, not on the number of keys.
+ *
+ * <p>Fuzzy queries compute the Levenshtein distance row by row while walking the trie and skip any
+ * subtree whose best row value already exceeds the allowed distance. With a small distance bound
+ * only a few branches are visited.
+ *
+ * @param <V> type of the stored values
+ */
+public class PrefixTrie<V> {
+
+  private final TrieNode<V> root = new TrieNode<>();
+  private int size;
+
+  /**
+   * Adds a value under a key. A key can hold several values; adding the same value twice has no
+   * effect.
+   *
+   * @param key the key, case-insensitive; {@code null} or blank keys are ignored
+   * @param value the value
+   */
+  public void put(String key, V value) {
+    String normalized = normalize(key);
+    if (normalized == null || normalized.isEmpty()) {
+      return;
+    }
+    TrieNode<V> node = root;
+    for (int i = 0; i < normalized.length(); i++) {
+      node = node.childOrCreate(normalized.charAt(i));
+    }
+    if (node.values == null) {
+      node.values = new LinkedHashSet<>();
+    }
+    if (node.values.add(value)) {
+      size++;
+    }
+  }
+
+  /**
+   * Returns the values whose key starts with the given prefix, in key order.
+   *
+   * @param prefix the prefix, case-insensitive
+   * @param limit maximum number of values
+   * @return distinct matching values
+   */
+  public List<V> findByPrefix(String prefix, int limit) {
+    Set<V> result = new LinkedHashSet<>();
+    String normalized = normalize(prefix);
+    if (normalized == null || limit <= 0) {
+      return new ArrayList<>(result);
+    }
+    TrieNode<V> node = root;
+    for (int i = 0; i < normalized.length() && node != null; i++) {
+      node = node.child(normalized.charAt(i));
+    }
+    if (node != null) {
+      collect(node, result, limit);
+    }
+    return new ArrayList<>(result);
+  }
+
+  /**
+   * Returns the values whose key is within the given edit distance of the query, closest first.
+   *
+   * @param query the query, case-insensitive
+   * @param maxDistance maximum Levenshtein distance
+   * @param limit maximum number of values
+   * @return distinct matching values
+   */
+  public List<V> findFuzzy(String query, int maxDistance, int limit) {
+    String normalized = normalize(query);
+    if (normalized == null || limit <= 0 || maxDistance < 0) {
+      return new ArrayList<>();
+    }
+
+    int[] firstRow = new int[normalized.length() + 1];
+    for (int i = 0; i < firstRow.length; i++) {
+      firstRow[i] = i;
+    }
+    List<Match<V>> matches = new ArrayList<>();
+    for (int i = 0; i < root.keys.length; i++) {
+      searchFuzzy(root.children[i], root.keys[i], normalized, firstRow, maxDistance, matches);
+    }
+    matches.sort(Comparator.comparingInt(match -> match.distance));
+
+    Set<V> result = new LinkedHashSet<>();
+    for (Match<V> match : matches) {
+      for (V value : match.values) {
+        if (result.size() >= limit) {
+          return new ArrayList<>(result);
+        }
+        result.add(value);
+      }
+    }
+    return new ArrayList<>(result);
+  }
+
+  /**
+   * Returns the number of stored key/value pairs.
+   *
+   * @return number of entries
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Collects values below a node in key order until the limit is reached.
+   *
+   * @param node the subtree root
+   * @param result collected values
+   * @param limit maximum number of values
+   */
+  private void collect(TrieNode<V> node, Set<V> result, int limit) {
+    if (node.values != null) {
+      for (V value : node.values) {
+        if (result.size() >= limit) {
+          return;
+        }
+        result.add(value);
+      }
+    }
+    for (int i = 0; i < node.children.length && result.size() < limit; i++) {
+      collect(node.children[i], result, limit);
+    }
+  }
+
+  /**
+   * Computes the next Levenshtein row for a node and descends while the bound can still be met.
+   *
+   * @param node the current node
+   * @param letter the character leading to the node
+   * @param query the normalized query
+   * @param previousRow the row of the parent node
+   * @param maxDistance maximum edit distance
+   * @param matches collected matches
+   */
+  private void searchFuzzy(
+      TrieNode<V> node,
+      char letter,
+      String query,
+      int[] previousRow,
+      int maxDistance,
+      List<Match<V>> matches) {
+    int[] row = new int[previousRow.length];
+    row[0] = previousRow[0] + 1;
+    int best = row[0];
+    for (int i = 1; i < row.length; i++) {
+      int substitution = previousRow[i - 1] + (query.charAt(i - 1) == letter ? 0 : 1);
+      row[i] = Math.min(substitution, Math.min(row[i - 1], previousRow[i]) + 1);
+      best = Math.min(best, row[i]);
+    }
+
+    int distance = row[row.length - 1];
+    if (node.values != null && distance <= maxDistance) {
+      matches.add(new Match<>(distance, node.values));
+    }
+    if (best <= maxDistance) {
+      for (int i = 0; i < node.keys.length; i++) {
+        searchFuzzy(node.children[i], node.keys[i], query, row, maxDistance, matches);
+      }
+    }
+  }
+
+  /**
+   * Normalizes a key for case-insensitive matching.
+   *
+   * @param key the raw key
+   * @return the trimmed lower-case key, or {@code null}
+   */
+  private static String normalize(String key) {
+    return key == null ? null : key.trim().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * A fuzzy match with its edit distance.
+   *
+   * @param distance edit distance between key and query
+   * @param values values stored under the key
+   */
+  private record Match<V>(int distance, Set<V> values) {}
+
+  /** Trie node with children sorted by character. */
+  private static final class TrieNode<V> {
+
+    private char[] keys = new char[0];
+
+    @SuppressWarnings("unchecked")
+    private TrieNode<V>[] children = new TrieNode[0];
+
+    /** Values stored under the key ending here, or {@code null}. */
+    private Set<V> values;
+
+    /**
+     * Returns the child for a character.
+     *
+     * @param letter the character
+     * @return the child, or {@code null}
+     */
+    TrieNode<V> child(char letter) {
+      int index = Arrays.binarySearch(keys, letter);
+      return index >= 0 ? children[index] : null;
+    }
+
+    /**
+     * Returns the child for a character, creating it if necessary.
+     *
+     * @param letter the character
+     * @return the child
+     */
+    TrieNode<V> childOrCreate(char letter) {
+      int index = Arrays.binarySearch(keys, letter);
+      if (index >= 0) {
+        return children[index];
+      }
+      int insertAt = -index - 1;
+      TrieNode<V> child = new TrieNode<>();
+
+      char[] newKeys = new char[keys.length + 1];
+      System.arraycopy(keys, 0, newKeys, 0, insertAt);
+      System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+      newKeys[insertAt] = letter;
+      keys = newKeys;
+
+      TrieNode<V>[] newChildren = Arrays.copyOf(children, children.length + 1);
+      System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+      newChildren[insertAt] = child;
+      children = newChildren;
+      return child;
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * ReachabilityIndex.java Package: at.hochschule.burgenland.bswe.algo.structure Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.structure;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Precomputed hop-bounded reachability between all airports of a {@link Graph}.
+ *
+ * <p>For every airport the index stores a bit set of the airports that can be reached with at most
+ * {@code maxHops} flights, ignoring departure times. A route can only exist if the destination is
+ * in that set, so impossible queries can be rejected with a single bit lookup before any search
+ * runs.
+ *
+ * <p>The sets are built level by level: the airports reachable in {@code h} hops from an airport
+ * are its direct destinations plus everything those reach in {@code h - 1} hops. Each level costs
+ * one bit-set union per distinct airport pair.
+ */
+@Log4j2
+public class ReachabilityIndex {
+
+  /** Version of the graph this index was built from. */
+  @Getter private final long graphVersion;
+
+  /** Maximum number of flights considered. */
+  @Getter private final int maxHops;
+
+  private final Map<String, Integer> indexByIata = new HashMap<>();
+  private final BitSet[] reachable;
+
+  /**
+   * Builds the index for a graph.
+   *
+   * @param graph the flight graph
+   * @param maxHops maximum number of flights a route may have
+   */
+  public ReachabilityIndex(Graph graph, int maxHops) {
+    this.graphVersion = graph.getVersion();
+    this.maxHops = maxHops;
+
+    for (String iata : graph.getNodes().keySet()) {
+      indexByIata.put(iata, indexByIata.size());
+    }
+    int size = indexByIata.size();
+
+    // Distinct direct destinations per airport
+    BitSet[] direct = new BitSet[size];
+    int[][] neighbors = new int[size][];
+    for (Map.Entry<String, Integer> entry : indexByIata.entrySet()) {
+      BitSet destinations = new BitSet(size);
+      for (Edge edge : graph.getOutgoingEdges(entry.getKey())) {
+        Integer target = indexByIata.get(edge.getDestinationIata());
+        if (target != null) {
+          destinations.set(target);
+        }
+      }
+      direct[entry.getValue()] = destinations;
+      neighbors[entry.getValue()] = destinations.stream().toArray();
+    }
+
+    BitSet[] current = direct;
+    for (int hop = 2; hop <= maxHops; hop++) {
+      BitSet[] next = new BitSet[size];
+      for (int node = 0; node < size; node++) {
+        BitSet reach = (BitSet) direct[node].clone();
+        for (int neighbor : neighbors[node]) {
+          reach.or(current[neighbor]);
+        }
+        next[node] = reach;
+      }
+      current = next;
+    }
+    this.reachable = maxHops > 0 ? current : new BitSet[size];
+
+    log.debug("Built reachability index for {} airports with at most {} hops", size, maxHops);
+  }
+
+  /**
+   * Checks whether the destination can be reached from the origin with at most {@link #maxHops}
+   * flights. A {@code true} result does not guarantee a route, because connection times are not
+   * considered.
+   *
+   * @param origin IATA code of the origin airport
+   * @param destination IATA code of the destination airport
+   * @return false if no route can exist, true otherwise
+   */
+  public boolean canReach(String origin, String destination) {
+    Integer from = indexByIata.get(origin);
+    Integer to = indexByIata.get(destination);
+    if (from == null || to == null || maxHops <= 0) {
+      return false;
+    }
+    return reachable[from].get(to);
+  }
+
+  /**
+   * Checks whether an airport is part of the indexed graph.
+   *
+   * @param iata IATA code of the airport
+   * @return true if the airport is known to the index
+   */
+  public boolean contains(String iata) {
+    return iata != null && indexByIata.containsKey(iata);
+  }
+}
@@ -1,17 +1,21 @@
 package at.hochschule.burgenland.bswe.algo.util;
 
+import at.hochschule.burgenland.bswe.algo.algorithm.CachingRoutingCalculator;
 import at.hochschule.burgenland.bswe.algo.algorithm.RoutingCalculator;
-import at.hochschule.burgenland.bswe.algo.algorithm.sort.MergeSortAlgorithm;
-import at.hochschule.burgenland.bswe.algo.algorithm.sort.QuickSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.ParallelQuickSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.RadixSortAlgorithm;
 import at.hochschule.burgenland.bswe.algo.model.Airport;
+import at.hochschule.burgenland.bswe.algo.model.Flight;
 import at.hochschule.burgenland.bswe.algo.model.Route;
-import at.hochschule.burgenland.bswe.algo.model.comparator.*;
+import at.hochschule.burgenland.bswe.algo.model.enums.RouteSortCriterion;
 import at.hochschule.burgenland.bswe.algo.model.enums.RouteType;
-import at.hochschule.burgenland.bswe.algo.repository.AirportRepository;
+import at.hochschule.burgenland.bswe.algo.repository.RouteStore;
+import at.hochschule.burgenland.bswe.algo.service.AutocompleteIndex;
+import at.hochschule.burgenland.bswe.algo.service.FlightIndex;
 import at.hochschule.burgenland.bswe.algo.service.RoutingDataService;
+import at.hochschule.burgenland.bswe.algo.structure.AirportSpatialIndex;
 import at.hochschule.burgenland.bswe.algo.structure.Graph;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -24,7 +28,8 @@ import java.util.Scanner;
  * for:
  *
  * <ul>
- *   <li>Calculating optimal flight routes (cheapest, fastest, fewest stopovers, slowest)
+ *   <li>Calculating optimal flight routes (cheapest, fastest, fewest stopovers, slowest), also
+ *       starting from any airport near the requested one
  *   <li>Sorting routes using various comparators and algorithms (stable/unstable)
  *   <li>Searching flights by origin, destination, airline, or flight number
  * </ul>
@@ -33,20 +38,12 @@ import java.util.Scanner;
  */
 public class ConsoleMenu {
 
+  /** Maximum number of suggestions shown for airport and airline input. */
+  private static final int SUGGESTION_LIMIT = 5;
+
   Scanner scanner = new Scanner(System.in);
   Graph graph = RoutingDataService.buildGraph();
-  RoutingCalculator calculator = new RoutingCalculator();
-  List<Route> routes = new ArrayList<>();
-  AirportRepository airportRepository = new AirportRepository();
-  List<Airport> airports;
-
-  {
-    try {
-      airports = airportRepository.loadAirports();
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
-  }
+  RoutingCalculator calculator = new CachingRoutingCalculator();
 
   /**
    * Starts the main menu loop and handles user interactions.
@@ -60,6 +57,8 @@ public class ConsoleMenu {
    *   <li>1 - Calculate flight route
    *   <li>2 - Sort flight routes
    *   <li>3 - Search flights
+   *   <li>4 - Calculate alternative flight routes
+   *   <li>5 - Calculate flight route from nearby airports
    *   <li>9 - Exit program
    * </ul>
    */
@@ -72,6 +71,8 @@ public class ConsoleMenu {
         1 - Calculate flightroute
         2 - Sort flightroute
         3 - Searching
+        4 - Calculate alternative flightroutes
+        5 - Calculate flightroute from nearby airports
         9 - Exit
         Please select under following options:
         """;
@@ -87,6 +88,12 @@ public class ConsoleMenu {
         case "3" -> {
           searchFlight();
         }
+        case "4" -> {
+          calculateAlternativeRoutes();
+        }
+        case "5" -> {
+          calculateRouteFromNearby();
+        }
         case "9" -> {
           System.out.println(" Exit program.");
           running = false;
@@ -112,25 +119,192 @@ public class ConsoleMenu {
    *   <li>4 - Slowest route (longest total duration)
    * </ul>
    *
-   * <p>Validates that origin and destination are different. If a route is found, it is displayed
-   * using {@link Helper#printRoute(String, Route)}. Otherwise, a "no route found" message is
-   * shown.
+   * <p>Validates that origin and destination are different. If a route is found, it is saved to
+   * the route store and displayed using {@link Helper#printRoute(String, Route)} together with its
+   * assigned ID. Otherwise, a "no route found" message is shown.
    */
   private void calculateRoute() {
-    printIataCodes(airports);
-    String departure = getNonEmptyInput("Enter origin IATA code (e.g., VIE): ");
+    String departure = getOriginInput();
+    String destination = getDestinationInput(departure);
+
+    System.out.println("Calculating flight from " + departure + " to " + destination + ".");
+
+    RouteType routeType = chooseRouteType();
+    Route route = null;
+    if (routeType != null) {
+      route = calculator.findRoute(graph, departure, destination, routeType);
+    }
+    if(route != null) {
+      RoutingDataService.saveRoute(route);
+      Helper.printRoute("Result Route (Route ID " + route.getId() + ")", route);
+    } else {
+      System.out.println("No route found.");
+    }
+  }
+
+  /**
+   * Calculates several alternative flight routes and keeps them available for sorting.
+   *
+   * <p>Prompts for origin, destination, optimization criterion and the number of alternatives. The
+   * routes are calculated with {@link RoutingCalculator#findRoutes(Graph, String, String,
+   * RouteType, int)}, saved to the route store and printed best first together with their IDs, so
+   * they can be compared in the sort menu.
+   */
+  private void calculateAlternativeRoutes() {
+    String departure = getOriginInput();
+    String destination = getDestinationInput(departure);
 
+    RouteType routeType = chooseRouteType();
+    if (routeType == null) {
+      return;
+    }
+
+    int count;
+    try {
+      count = Integer.parseInt(getNonEmptyInput("Number of alternatives (e.g., 5): "));
+    } catch (NumberFormatException e) {
+      System.out.println("Invalid input. Using 5 alternatives.");
+      count = 5;
+    }
+
+    List<Route> alternatives =
+        calculator.findRoutes(graph, departure, destination, routeType, count);
+    if (alternatives.isEmpty()) {
+      System.out.println("No route found.");
+      return;
+    }
+    RoutingDataService.saveAllRoutes(alternatives);
+    for (int i = 0; i < alternatives.size(); i++) {
+      Route route = alternatives.get(i);
+      Helper.printRoute("Alternative " + (i + 1) + " (Route ID " + route.getId() + ")", route);
+    }
+  }
+
+  /**
+   * Calculates the best flight route starting from the entered airport or any airport nearby.
+   *
+   * <p>Prompts for origin, search radius, destination and optimization criterion. The airports
+   * within the radius are listed with their distance, and the route is calculated with a single
+   * search seeded from all of them via {@link RoutingCalculator#findRouteFromNearby(Graph,
+   * AirportSpatialIndex, String, String, RouteType, double)}. A found route is saved to the route
+   * store.
+   */
+  private void calculateRouteFromNearby() {
+    String departure = getOriginInput();
+
+    double radiusKm;
+    try {
+      radiusKm = Double.parseDouble(getNonEmptyInput("Search radius in km (e.g., 200): "));
+    } catch (NumberFormatException e) {
+      System.out.println("Invalid input. Using 200 km.");
+      radiusKm = 200;
+    }
+
+    AirportSpatialIndex spatialIndex = RoutingDataService.getSpatialIndex();
+    Airport center = spatialIndex.getAirport(departure);
+    if (center == null) {
+      System.out.println("Unknown airport: " + departure);
+      return;
+    }
+    System.out.println("Airports within " + radiusKm + " km of " + departure + ":");
+    for (Airport airport : spatialIndex.findWithinRadius(center, radiusKm)) {
+      double distance =
+          AirportSpatialIndex.distanceKm(
+              center.getLatitude(),
+              center.getLongitude(),
+              airport.getLatitude(),
+              airport.getLongitude());
+      System.out.printf("  %s - %s (%.0f km)%n", airport.getIata(), airport.getCity(), distance);
+    }
+
+    String destination = getDestinationInput(departure);
+    RouteType routeType = chooseRouteType();
+    if (routeType == null) {
+      return;
+    }
+
+    Route route =
+        calculator.findRouteFromNearby(
+            graph, spatialIndex, departure, destination, routeType, radiusKm);
+    if (route != null) {
+      RoutingDataService.saveRoute(route);
+      Helper.printRoute("Result Route (Route ID " + route.getId() + ")", route);
+    } else {
+      System.out.println("No route found.");
+    }
+  }
+
+  /**
+   * Prompts for the origin airport.
+   *
+   * @return the IATA code of the origin airport
+   */
+  private String getOriginInput() {
+    return getAirportInput("Enter origin IATA code or city (e.g., VIE): ");
+  }
+
+  /**
+   * Prompts for a destination airport until it differs from the origin.
+   *
+   * @param departure the already entered origin IATA code
+   * @return the IATA code of the destination airport
+   */
+  private String getDestinationInput(String departure) {
     String destination;
     while (true) {
-      destination = getNonEmptyInput("Enter destination IATA code (e.g., JFK): ");
+      destination = getAirportInput("Enter destination IATA code or city (e.g., JFK): ");
       if (!destination.equalsIgnoreCase(departure)) {
-        break;
+        return destination;
       }
       System.out.println("Origin and destination must be different. Please enter a different destination.");
     }
+  }
 
-    System.out.println("Calculating flight from " + departure + " to " + destination + ".");
+  /**
+   * Prompts for an airport until the input identifies exactly one.
+   *
+   * <p>Known IATA codes are accepted directly. Other input is looked up in the {@link
+   * AutocompleteIndex} by code, city or country prefix, tolerating small typos. A single match is
+   * used right away, several matches are listed as suggestions.
+   *
+   * @param prompt the message to display
+   * @return the IATA code of the chosen airport
+   */
+  private String getAirportInput(String prompt) {
+    AutocompleteIndex index = RoutingDataService.getAutocompleteIndex();
+    while (true) {
+      String input = getNonEmptyInput(prompt);
+      Airport airport = index.findAirport(input);
+      if (airport != null) {
+        return airport.getIata();
+      }
+
+      List<Airport> suggestions = index.suggestAirports(input, SUGGESTION_LIMIT);
+      if (suggestions.size() == 1) {
+        airport = suggestions.get(0);
+        System.out.println(
+            "Using " + airport.getIata() + " (" + airport.getCity() + ", " + airport.getCountry()
+                + ").");
+        return airport.getIata();
+      }
+      if (suggestions.isEmpty()) {
+        System.out.println("Unknown airport: " + input);
+      } else {
+        System.out.println("Did you mean:");
+        for (Airport suggestion : suggestions) {
+          System.out.println("  " + suggestion.getIata() + " - " + suggestion.getCity() + ", "
+              + suggestion.getCountry());
+        }
+      }
+    }
+  }
 
+  /**
+   * Prompts the user to choose an optimization criterion.
+   *
+   * @return the selected {@link RouteType}, or {@code null} if the choice was invalid
+   */
+  private RouteType chooseRouteType() {
     String subMenu = """
       xxxxx Choose criteria: xxxxx
       1 - Cheapest route
@@ -140,18 +314,23 @@ public class ConsoleMenu {
       """;
     System.out.println(subMenu);
     String choice = getNonEmptyInput("Your choice: ");
-    Route route = null;
     switch (choice) {
-      case "1" -> route = calculator.findRoute(graph, departure, destination, RouteType.CHEAPEST);
-      case "2" -> route = calculator.findRoute(graph, departure, destination, RouteType.FASTEST);
-      case "3" -> route = calculator.findRoute(graph, departure, destination, RouteType.FEWEST_STOPOVERS);
-      case "4" -> route = calculator.findRoute(graph, departure, destination, RouteType.SLOWEST);
-      default -> System.out.println("Invalid choice.");
-    }
-    if(route != null) {
-      Helper.printRoute("Result Route:", route);
-    } else {
-      System.out.println("No route found.");
+      case "1" -> {
+        return RouteType.CHEAPEST;
+      }
+      case "2" -> {
+        return RouteType.FASTEST;
+      }
+      case "3" -> {
+        return RouteType.FEWEST_STOPOVERS;
+      }
+      case "4" -> {
+        return RouteType.SLOWEST;
+      }
+      default -> {
+        System.out.println("Invalid choice.");
+        return null;
+      }
     }
   }
 
@@ -161,8 +340,10 @@ public class ConsoleMenu {
    * <p>Prompts the user to:
    *
    * <ol>
-   *   <li>Enter a comma-separated list of route IDs to sort
-   *   <li>Choose a sorting algorithm (stable MergeSort or unstable QuickSort)
+   *   <li>Enter a comma-separated list of route IDs to sort, or nothing to list all saved routes
+   *       in a precomputed order
+   *   <li>Choose a sorting algorithm: stable RadixSort, which falls back to parallel MergeSort for
+   *       keys it cannot encode, or unstable parallel QuickSort
    *   <li>Select a comparator for the sort order
    * </ol>
    *
@@ -171,10 +352,9 @@ public class ConsoleMenu {
    * <ul>
    *   <li>1 - Price (ascending - cheapest first)
    *   <li>2 - Duration (ascending - fastest first)
-   *   <li>3 - Stopovers (ascending - fewest first)
-   *   <li>4 - Airline (descending - Z to A)
-   *   <li>5 - Flight Number (descending - Z to A)
-   *   <li>6 - Composite (by airline, then duration, then stopovers)
+   *   <li>3 - Duration (descending - slowest first)
+   *   <li>4 - Stopovers (ascending - fewest first)
+   *   <li>5 - Composite (by price, then duration, then stopovers)
    * </ul>
    *
    * <p>Validates route IDs and displays error messages for invalid or missing IDs. If no valid
@@ -182,22 +362,22 @@ public class ConsoleMenu {
    */
   private void sortRoute() {
     System.out.println("xxxxx Sort Routes xxxxx");
-    System.out.print("Enter a comma-separated list of route IDs to sort: ");
+    System.out.print("Enter a comma-separated list of route IDs to sort (empty for all routes): ");
     String idsInput = scanner.nextLine();
+    if(idsInput.isBlank()) {
+        sortAllRoutes();
+        return;
+    }
     String[] ids = idsInput.split(",");
-    List<Route> routesToSort = new ArrayList<>();
+    RouteStore routeStore = RoutingDataService.getRouteStore();
+    List<Route> routesToSort = new ArrayList<>(ids.length);
     for(String idStr : ids) {
       try {
         int parsedId = Integer.parseInt(idStr.trim());
-        boolean found = false;
-        for(Route route : routes) {
-            if(route.getId() == parsedId) {
-                routesToSort.add(route);
-                found = true;
-                break;
-            }
-        }
-        if(!found) {
+        Route route = routeStore.findById(parsedId);
+        if(route != null) {
+            routesToSort.add(route);
+        } else {
             System.out.println("Route ID not found: " + parsedId);
         }
       } catch(NumberFormatException e) {
@@ -209,17 +389,59 @@ public class ConsoleMenu {
         return;
     }
     System.out.println("Choose sorting algorithm: ");
-    System.out.println("1 - Stable (MergeSort)");
-    System.out.println("2 - Unstable (QuickSort)");
+    System.out.println("1 - Stable (RadixSort, parallel MergeSort fallback)");
+    System.out.println("2 - Unstable (parallel QuickSort)");
     String sortChoice = scanner.nextLine();
     System.out.println("You have chosen: " + (sortChoice.equals("1") ? "Stable" : "Unstable"));
 
+    Comparator<Route> comparator = chooseSortCriterion().getComparator();
+
+    if(sortChoice.equals("1")) {
+        // Stable Sort: Radix sort on price/duration/stopovers, parallel MergeSort otherwise
+        RadixSortAlgorithm stableSort = new RadixSortAlgorithm();
+        stableSort.sort(routesToSort, comparator);
+    } else {
+        // Unstable Sort: Use ParallelQuickSortAlgorithm, robust against many equal keys
+        ParallelQuickSortAlgorithm quickSort = new ParallelQuickSortAlgorithm();
+        quickSort.sort(routesToSort, comparator);
+    }
+    System.out.println("Sorted routes:");
+    for(Route route : routesToSort) {
+        System.out.println(route);
+    }
+    return;
+  }
+
+  /**
+   * Lists all saved routes in the order of a chosen criterion. The route store keeps a precomputed
+   * order per criterion, so no sorting algorithm is needed; routes with equal keys are listed by
+   * ID.
+   */
+  private void sortAllRoutes() {
+    RouteSortCriterion criterion = chooseSortCriterion();
+    List<Route> sortedRoutes = RoutingDataService.getRouteStore().findAllSorted(criterion);
+    if(sortedRoutes.isEmpty()) {
+        System.out.println("No saved routes found.");
+        return;
+    }
+    System.out.println("Sorted routes:");
+    for(Route route : sortedRoutes) {
+        System.out.println(route);
+    }
+  }
+
+  /**
+   * Asks the user for the sort order of routes.
+   *
+   * @return the chosen criterion, price if the input is invalid
+   */
+  private RouteSortCriterion chooseSortCriterion() {
     System.out.println("Choose comparator:");
     System.out.println("1 - Price (ascending)");
     System.out.println("2 - Duration (ascending)");
     System.out.println("3 - Duration (descending)");
     System.out.println("4 - Stopovers (ascending)");
-    System.out.println("5 - Composite (Airline, Duration, Stopover)");
+    System.out.println("5 - Composite (Price, Duration, Stopover)");
     System.out.print("Your choice: ");
 
     int comparatorChoice;
@@ -230,33 +452,17 @@ public class ConsoleMenu {
       comparatorChoice = 1;
     }
 
-    Comparator<Route> comparator;
-    switch (comparatorChoice) {
-        case 1 -> comparator = new RoutePriceComparator();
-        case 2 -> comparator = new RouteDurationComparator();
-        case 3 -> comparator = new RouteSlowestComparator();
-        case 4 -> comparator = new RouteStopoversComparator();
-        case 5 -> comparator = new RouteCombinedComparator();
+    return switch (comparatorChoice) {
+        case 1 -> RouteSortCriterion.PRICE;
+        case 2 -> RouteSortCriterion.DURATION;
+        case 3 -> RouteSortCriterion.SLOWEST;
+        case 4 -> RouteSortCriterion.STOPOVERS;
+        case 5 -> RouteSortCriterion.COMBINED;
         default -> {
             System.out.println("Unknown comparator. Using price comparator.");
-            comparator = new RoutePriceComparator();
+            yield RouteSortCriterion.PRICE;
         }
-    }
-
-    if(sortChoice.equals("1")) {
-        // Stable Sort: Use MergeSortAlgorithm
-        MergeSortAlgorithm mergeSort = new MergeSortAlgorithm();
-        mergeSort.sort(routesToSort, comparator);
-    } else {
-        // Unstable Sort: Use QuickSortAlgorithm
-        QuickSortAlgorithm quickSort = new QuickSortAlgorithm();
-        quickSort.sort(routesToSort, comparator);
-    }
-    System.out.println("Sorted routes:");
-    for(Route route : routesToSort) {
-        System.out.println(route);
-    }
-    return;
+    };
   }
 
   /**
@@ -274,7 +480,10 @@ public class ConsoleMenu {
    * <p>For each search type, the user is prompted to enter the search term. All matching flights
    * are displayed. If no flights match the criteria, an appropriate message is shown.
    *
-   * <p>Searches are case-insensitive and performed on all flights loaded from the data source.
+   * <p>If an airline name matches no flights, similar airline names are suggested.
+   *
+   * <p>Searches are case-insensitive and answered from the {@link FlightIndex} of all flights
+   * loaded from the data source.
    */
   private void searchFlight() {
     System.out.println("===== Search Menu =====");
@@ -285,66 +494,57 @@ public class ConsoleMenu {
     System.out.print("Your choice: ");
 
     String input = scanner.nextLine();
-    List<at.hochschule.burgenland.bswe.algo.model.Flight> flights = at.hochschule.burgenland.bswe.algo.service.RoutingDataService.getFlights();
+    FlightIndex index = RoutingDataService.getFlightIndex();
 
     switch (input) {
       case "1" -> {
         String iata = getNonEmptyInput("Enter origin IATA code: ");
-        boolean found = false;
-        for (at.hochschule.burgenland.bswe.algo.model.Flight flight : flights) {
-          if(flight.getOrigin().equalsIgnoreCase(iata)) {
-            System.out.println(flight);
-            found = true;
-          }
-        }
-        if (!found) {
-          System.out.println("No flights found for this origin.");
-        }
+        printFlights(index.findByOrigin(iata), "No flights found for this origin.");
       }
       case "2" -> {
         String iata = getNonEmptyInput("Enter destination IATA code: ");
-        boolean found = false;
-        for (at.hochschule.burgenland.bswe.algo.model.Flight flight : flights) {
-          if(flight.getDestination().equalsIgnoreCase(iata)) {
-            System.out.println(flight);
-            found = true;
-          }
-        }
-        if (!found) {
-          System.out.println("No flights found for this destination.");
-        }
+        printFlights(index.findByDestination(iata), "No flights found for this destination.");
       }
       case "3" -> {
         String airline = getNonEmptyInput("Enter airline name: ");
-        boolean found = false;
-        for (at.hochschule.burgenland.bswe.algo.model.Flight flight : flights) {
-          if(flight.getAirline().equalsIgnoreCase(airline)) {
-            System.out.println(flight);
-            found = true;
+        List<Flight> found = index.findByAirline(airline);
+        printFlights(found, "No flights found for this airline.");
+        if (found.isEmpty()) {
+          List<String> suggestions =
+              RoutingDataService.getAutocompleteIndex().suggestAirlines(airline, SUGGESTION_LIMIT);
+          if (!suggestions.isEmpty()) {
+            System.out.println("Did you mean: " + String.join(", ", suggestions) + "?");
           }
         }
-        if (!found) {
-          System.out.println("No flights found for this airline.");
-        }
       }
       case "4" -> {
         String flightNumber = getNonEmptyInput("Enter flight number: ");
-        boolean found = false;
-        for (at.hochschule.burgenland.bswe.algo.model.Flight flight : flights) {
-          if(flight.getFlightNumber().equalsIgnoreCase(flightNumber)) {
-            System.out.println("Flight details found:");
-            System.out.println(flight);
-            found = true;
-          }
-        }
-        if (!found) {
-          System.out.println("No flight found with this flight number.");
+        List<Flight> found = index.findByFlightNumber(flightNumber);
+        if (!found.isEmpty()) {
+          System.out.println("Flight details found:");
         }
+        printFlights(found, "No flight found with this flight number.");
       }
       default -> System.out.println("Invalid selection.");
     }
   }
 
+  /**
+   * Prints the given flights, or a message if there are none.
+   *
+   * @param flights the flights to print
+   * @param emptyMessage message shown if the list is empty
+   */
+  private static void printFlights(List<Flight> flights, String emptyMessage) {
+    if (flights.isEmpty()) {
+      System.out.println(emptyMessage);
+      return;
+    }
+    for (Flight flight : flights) {
+      System.out.println(flight);
+    }
+  }
+
   /**
    * Prompts the user for input and ensures it is not empty.
    *
@@ -368,42 +568,5 @@ public class ConsoleMenu {
 
       System.out.println("Input must not be empty. Try again.");
     }
-  }
-
-  /**
-   * Prints all available IATA airport codes in a formatted manner.
-   *
-   * <p>Displays the IATA codes of all airports in the provided list, formatted as uppercase
-   * strings. The codes are printed 10 per line for better readability. If the list is null or
-   * empty, a message indicating no airports are available is displayed.
-   *
-   * <p>Only airports with non-null and non-blank IATA codes are included in the output.
-   *
-   * @param airports the list of airports whose IATA codes should be displayed
-   */
-  public static void printIataCodes(List<Airport> airports) {
-    if (airports == null || airports.isEmpty()) {
-      System.out.println("No airports available.");
-      return;
-    }
-
-    System.out.println("IATA-Codes of available airports:");
-
-    int count = 0;
-    for (Airport airport : airports) {
-      if (airport != null && airport.getIata() != null && !airport.getIata().isBlank()) {
-        System.out.print(airport.getIata().toUpperCase() + " ");
-        count++;
-
-        if (count % 10 == 0) {
-          System.out.println();
-        }
-      }
-    }
-
-    if (count % 10 != 0) {
-      System.out.println(); // Abschluss-Zeilenumbruch, falls nötig
-    }
-  }
+   }
 }
-
@@ -0,0 +1,464 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * ScheduleGenerator.java Package: at.hochschule.burgenland.bswe.algo.util Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.util;
+
+import at.hochschule.burgenland.bswe.algo.model.Airport;
+import at.hochschule.burgenland.bswe.algo.model.Flight;
+import at.hochschule.burgenland.bswe.algo.structure.AirportSpatialIndex;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Generates large synthetic flight schedules for benchmarks and load tests.
+ *
+ * <p>Airports are scattered around twelve populated world regions. The first {@code hubCount}
+ * airports are hubs: every hub is connected with every other hub, and every other airport is
+ * connected with its two nearest hubs. The requested number of flights is spread over the
+ * connections in both directions, with hub-to-hub connections served four times as often. Flight
+ * durations are derived from the great-circle distance, prices from the distance with some noise,
+ * and departure times follow the chosen {@link DepartureProfile}.
+ *
+ * <p>The output only depends on the settings and the seed. Flights are produced one at a time, so
+ * even ten million flights can be written without holding them in memory. The files use the
+ * schemas of {@code airports.csv} and {@code flights.csv}.
+ */
+@Log4j2
+public class ScheduleGenerator {
+
+  /** Distribution of departure times over the day. */
+  public enum DepartureProfile {
+    /** Few departures at night, peaks in the morning and the early evening. */
+    DIURNAL,
+
+    /** Departures clustered in connection banks at 06:00, 10:00, 14:00 and 18:00. */
+    BANKED,
+
+    /** Departures spread evenly over the day. */
+    UNIFORM
+  }
+
+  /** Largest number of airports with distinct three-letter codes. */
+  public static final int MAX_AIRPORTS = 26 * 26 * 26;
+
+  /** Relative number of departures per hour of the day for {@link DepartureProfile#DIURNAL}. */
+  private static final int[] HOURLY_DEPARTURES = {
+    1, 1, 1, 1, 2, 4, 8, 10, 10, 8, 7, 7, 7, 7, 7, 7, 8, 9, 9, 8, 6, 4, 3, 2
+  };
+
+  private static final int HOURLY_TOTAL = Arrays.stream(HOURLY_DEPARTURES).sum();
+
+  private static final int[] BANK_MINUTES = {6 * 60, 10 * 60, 14 * 60, 18 * 60};
+
+  private static final int HUB_CONNECTION_WEIGHT = 4;
+  private static final double CRUISE_SPEED_KMH = 800.0;
+  private static final int TAXI_MINUTES = 30;
+
+  private static final String[] AIRLINES = {
+    "Aurora Air", "Blue Meridian", "Coastal Wings", "Delta Crest", "Eastern Star", "Falcon Jet",
+    "Global Horizon", "Highland Air", "Island Hopper", "Jetstream", "Kestrel Airways", "Lumen Air",
+    "Mistral", "Northwind", "Orion Airlines", "Pacific Arc", "Quasar Air", "Redwood Air",
+    "Summit Airways", "Trade Winds"
+  };
+
+  private static final Region[] REGIONS = {
+    new Region("Western Europe", 48.0, 6.0, 6.0, 8.0, 14),
+    new Region("Eastern Europe", 52.0, 28.0, 5.0, 10.0, 8),
+    new Region("Eastern North America", 38.0, -80.0, 6.0, 8.0, 12),
+    new Region("Western North America", 38.0, -115.0, 7.0, 6.0, 8),
+    new Region("South America", -18.0, -55.0, 12.0, 8.0, 8),
+    new Region("West Africa", 8.0, 0.0, 5.0, 8.0, 5),
+    new Region("Middle East", 27.0, 48.0, 5.0, 8.0, 6),
+    new Region("South Asia", 22.0, 78.0, 6.0, 6.0, 10),
+    new Region("East Asia", 32.0, 115.0, 7.0, 9.0, 14),
+    new Region("Japan and Korea", 36.0, 134.0, 3.0, 5.0, 6),
+    new Region("Southeast Asia", 6.0, 106.0, 8.0, 10.0, 7),
+    new Region("Oceania", -30.0, 145.0, 6.0, 10.0, 3)
+  };
+
+  private final long seed;
+  private final int airportCount;
+  private final int hubCount;
+  private final int flightCount;
+  private final DepartureProfile departureProfile;
+
+  /**
+   * Creates a generator.
+   *
+   * @param seed seed of the random generator
+   * @param airportCount number of airports, at most {@link #MAX_AIRPORTS}
+   * @param hubCount number of hub airports, at least 1 and at most {@code airportCount}
+   * @param flightCount number of flights
+   * @param departureProfile distribution of departure times
+   * @throws IllegalArgumentException if a count is out of range
+   */
+  public ScheduleGenerator(
+      long seed,
+      int airportCount,
+      int hubCount,
+      int flightCount,
+      DepartureProfile departureProfile) {
+    if (airportCount < 2 || airportCount > MAX_AIRPORTS) {
+      throw new IllegalArgumentException(
+          "Airport count must be between 2 and " + MAX_AIRPORTS + ": " + airportCount);
+    }
+    if (hubCount < 1 || hubCount > airportCount) {
+      throw new IllegalArgumentException(
+          "Hub count must be between 1 and the airport count: " + hubCount);
+    }
+    if (flightCount < 0) {
+      throw new IllegalArgumentException("Flight count must not be negative: " + flightCount);
+    }
+    this.seed = seed;
+    this.airportCount = airportCount;
+    this.hubCount = hubCount;
+    this.flightCount = flightCount;
+    this.departureProfile = departureProfile;
+  }
+
+  /**
+   * Generates the airports.
+   *
+   * @return the airports with IDs starting at 1
+   */
+  public List<Airport> generateAirports() {
+    Random random = new Random(seed);
+    int totalWeight = 0;
+    for (Region region : REGIONS) {
+      totalWeight += region.weight();
+    }
+
+    List<Airport> airports = new ArrayList<>(airportCount);
+    for (int i = 0; i < airportCount; i++) {
+      Region region = REGIONS[REGIONS.length - 1];
+      int pick = random.nextInt(totalWeight);
+      for (Region candidate : REGIONS) {
+        pick -= candidate.weight();
+        if (pick < 0) {
+          region = candidate;
+          break;
+        }
+      }
+      double latitude = clamp(region.latitude() + random.nextGaussian() * region.spread(), 80.0);
+      double longitude =
+          wrap(region.longitude() + random.nextGaussian() * region.longitudeSpread());
+      airports.add(
+          new Airport(
+              i + 1,
+              iataCode(i),
+              "City " + (i + 1),
+              region.name(),
+              Math.round(latitude * 1e5) / 1e5,
+              Math.round(longitude * 1e5) / 1e5));
+    }
+    return airports;
+  }
+
+  /**
+   * Generates the flights between the given airports and passes them on one at a time.
+   *
+   * @param airports the airports from {@link #generateAirports()}
+   * @param sink receives the flights, with IDs starting at 1
+   */
+  public void generateFlights(List<Airport> airports, Consumer<Flight> sink) {
+    List<Connection> connections = connect(airports);
+    long totalWeight = 0;
+    for (Connection connection : connections) {
+      totalWeight += 2L * connection.weight();
+    }
+
+    Random random = new Random(~seed);
+    int id = 0;
+    long weightSoFar = 0;
+    for (Connection connection : connections) {
+      Airport first = airports.get(connection.first());
+      Airport second = airports.get(connection.second());
+      double distanceKm =
+          AirportSpatialIndex.distanceKm(
+              first.getLatitude(),
+              first.getLongitude(),
+              second.getLatitude(),
+              second.getLongitude());
+      double minutes = TAXI_MINUTES + distanceKm / CRUISE_SPEED_KMH * 60;
+      int duration = (int) Math.round(minutes / 5) * 5;
+
+      for (int direction = 0; direction < 2; direction++) {
+        // Cumulative rounding hands out exactly flightCount flights in total
+        weightSoFar += connection.weight();
+        int frequency = (int) ((long) flightCount * weightSoFar / totalWeight - id);
+        Airport origin = direction == 0 ? first : second;
+        Airport destination = direction == 0 ? second : first;
+        for (int i = 0; i < frequency; i++) {
+          id++;
+          sink.accept(flight(id, origin, destination, duration, distanceKm, random));
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes {@code airports.csv} and {@code flights.csv} into a directory, replacing existing
+   * files.
+   *
+   * @param directory the target directory; created if missing
+   * @throws IOException if a file cannot be written
+   */
+  public void write(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    List<Airport> airports = generateAirports();
+    try (Writer writer = Files.newBufferedWriter(directory.resolve("airports.csv"))) {
+      writer.write("id,iata,city,country,latitude,longitude\n");
+      for (Airport airport : airports) {
+        writer.write(
+            airport.getId()
+                + ","
+                + airport.getIata()
+                + ","
+                + airport.getCity()
+                + ","
+                + airport.getCountry()
+                + ","
+                + airport.getLatitude()
+                + ","
+                + airport.getLongitude()
+                + "\n");
+      }
+    }
+
+    int[] written = new int[1];
+    try (Writer writer = Files.newBufferedWriter(directory.resolve("flights.csv"))) {
+      writer.write("id,origin,destination,airline,flightNumber,duration,price,departureTime\n");
+      generateFlights(
+          airports,
+          flight -> {
+            try {
+              writer.write(flightLine(flight));
+              written[0]++;
+            } catch (IOException writeException) {
+              throw new UncheckedIOException(writeException);
+            }
+          });
+    } catch (UncheckedIOException writeException) {
+      throw writeException.getCause();
+    }
+    log.info("Wrote {} airports and {} flights to {}", airports.size(), written[0], directory);
+  }
+
+  /**
+   * Writes a schedule from the command line.
+   *
+   * @param args target directory, airport count, flight count, and optionally hub count, seed and
+   *     departure profile
+   * @throws IOException if a file cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 3) {
+      System.out.println(
+          "Usage: ScheduleGenerator <directory> <airports> <flights> [hubs] [seed] [profile]");
+      return;
+    }
+    int airports = Integer.parseInt(args[1]);
+    int hubs = args.length > 3 ? Integer.parseInt(args[3]) : Math.max(1, airports / 50);
+    long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+    DepartureProfile profile =
+        args.length > 5 ? DepartureProfile.valueOf(args[5]) : DepartureProfile.DIURNAL;
+    new ScheduleGenerator(seed, airports, hubs, Integer.parseInt(args[2]), profile)
+        .write(Path.of(args[0]));
+  }
+
+  /**
+   * Builds the hub mesh and connects every other airport with its two nearest hubs.
+   *
+   * @param airports the airports; the first {@code hubCount} are hubs
+   * @return the undirected connections
+   */
+  private List<Connection> connect(List<Airport> airports) {
+    List<Connection> connections = new ArrayList<>();
+    for (int first = 0; first < hubCount; first++) {
+      for (int second = first + 1; second < hubCount; second++) {
+        connections.add(new Connection(first, second, HUB_CONNECTION_WEIGHT));
+      }
+    }
+    for (int spoke = hubCount; spoke < airports.size(); spoke++) {
+      Airport airport = airports.get(spoke);
+      int nearest = -1;
+      int secondNearest = -1;
+      double nearestKm = Double.MAX_VALUE;
+      double secondNearestKm = Double.MAX_VALUE;
+      for (int hub = 0; hub < hubCount; hub++) {
+        Airport candidate = airports.get(hub);
+        double distanceKm =
+            AirportSpatialIndex.distanceKm(
+                airport.getLatitude(),
+                airport.getLongitude(),
+                candidate.getLatitude(),
+                candidate.getLongitude());
+        if (distanceKm < nearestKm) {
+          secondNearest = nearest;
+          secondNearestKm = nearestKm;
+          nearest = hub;
+          nearestKm = distanceKm;
+        } else if (distanceKm < secondNearestKm) {
+          secondNearest = hub;
+          secondNearestKm = distanceKm;
+        }
+      }
+      connections.add(new Connection(spoke, nearest, 1));
+      if (secondNearest >= 0) {
+        connections.add(new Connection(spoke, secondNearest, 1));
+      }
+    }
+    return connections;
+  }
+
+  /**
+   * Creates one flight of a connection.
+   *
+   * @param id the flight ID
+   * @param origin the origin airport
+   * @param destination the destination airport
+   * @param duration the flight duration in minutes
+   * @param distanceKm the great-circle distance
+   * @param random random generator
+   * @return the flight
+   */
+  private Flight flight(
+      int id, Airport origin, Airport destination, int duration, double distanceKm, Random random) {
+    int airline = random.nextInt(AIRLINES.length);
+    // Whole euros minus one cent, e.g. 189.99
+    long euros = Math.round((39.0 + distanceKm * 0.09) * (0.7 + random.nextDouble() * 0.8));
+    return new Flight(
+        id,
+        origin.getIata(),
+        destination.getIata(),
+        AIRLINES[airline],
+        (char) ('A' + airline) + "Z" + (100 + random.nextInt(9900)),
+        duration,
+        (euros * 100 - 1) / 100.0,
+        departure(random));
+  }
+
+  /**
+   * Draws a departure time from the configured profile, rounded to five minutes.
+   *
+   * @param random random generator
+   * @return the departure time
+   */
+  private LocalTime departure(Random random) {
+    int minute;
+    switch (departureProfile) {
+      case BANKED -> {
+        int bank = BANK_MINUTES[random.nextInt(BANK_MINUTES.length)];
+        minute = bank + (int) Math.round(random.nextGaussian() * 45.0);
+      }
+      case UNIFORM -> minute = random.nextInt(24 * 60);
+      default -> {
+        int pick = random.nextInt(HOURLY_TOTAL);
+        int hour = 0;
+        while (pick >= HOURLY_DEPARTURES[hour]) {
+          pick -= HOURLY_DEPARTURES[hour];
+          hour++;
+        }
+        minute = hour * 60 + random.nextInt(60);
+      }
+    }
+    minute = Math.floorMod(minute, 24 * 60) / 5 * 5;
+    return LocalTime.of(minute / 60, minute % 60);
+  }
+
+  /**
+   * Formats a flight as a line of {@code flights.csv}.
+   *
+   * @param flight the flight
+   * @return the CSV line including the line break
+   */
+  private static String flightLine(Flight flight) {
+    LocalTime departure = flight.getDepartureTime();
+    long cents = Math.round(flight.getPrice() * 100);
+    return flight.getId()
+        + ","
+        + flight.getOrigin()
+        + ","
+        + flight.getDestination()
+        + ","
+        + flight.getAirline()
+        + ","
+        + flight.getFlightNumber()
+        + ","
+        + flight.getDuration()
+        + ","
+        + cents / 100
+        + (cents % 100 < 10 ? ".0" : ".")
+        + cents % 100
+        + ","
+        + (departure.getHour() < 10 ? "0" : "")
+        + departure.getHour()
+        + ":"
+        + (departure.getMinute() < 10 ? "0" : "")
+        + departure.getMinute()
+        + "\n";
+  }
+
+  /**
+   * Returns the three-letter code of an airport index: AAA, AAB, ...
+   *
+   * @param index the airport index
+   * @return the code
+   */
+  private static String iataCode(int index) {
+    char[] code = new char[3];
+    for (int i = 2; i >= 0; i--) {
+      code[i] = (char) ('A' + index % 26);
+      index /= 26;
+    }
+    return new String(code);
+  }
+
+  private static double clamp(double latitude, double limit) {
+    return Math.max(-limit, Math.min(limit, latitude));
+  }
+
+  private static double wrap(double longitude) {
+    return ((longitude + 180.0) % 360.0 + 360.0) % 360.0 - 180.0;
+  }
+
+  /**
+   * A populated area around which airports are placed.
+   *
+   * @param name name used as the country of its airports
+   * @param latitude latitude of the centre
+   * @param longitude longitude of the centre
+   * @param spread standard deviation of the latitude in degrees
+   * @param longitudeSpread standard deviation of the longitude in degrees
+   * @param weight relative share of the airports
+   */
+  private record Region(
+      String name,
+      double latitude,
+      double longitude,
+      double spread,
+      double longitudeSpread,
+      int weight) {}
+
+  /**
+   * An undirected connection between two airports.
+   *
+   * @param first index of the first airport
+   * @param second index of the second airport
+   * @param weight relative number of flights per direction
+   */
+  private record Connection(int first, int second, int weight) {}
+}
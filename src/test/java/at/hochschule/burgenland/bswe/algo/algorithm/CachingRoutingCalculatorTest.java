@@ -0,0 +1,89 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * CachingRoutingCalculatorTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Airport;
+import at.hochschule.burgenland.bswe.algo.model.Flight;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.enums.RouteType;
+import at.hochschule.burgenland.bswe.algo.structure.Graph;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingRoutingCalculatorTest {
+
+  private CachingRoutingCalculator calculator;
+  private List<Airport> airports;
+  private List<Flight> flights;
+  private Graph graph;
+
+  @BeforeEach
+  void setUp() {
+    calculator = new CachingRoutingCalculator(16);
+
+    airports =
+        List.of(
+            new Airport(1, "VIE", "Vienna", "Austria", 48.1103, 16.5697),
+            new Airport(2, "JFK", "New York", "United States", 40.6413, -73.7781),
+            new Airport(3, "LHR", "London", "United Kingdom", 51.4700, -0.4543));
+
+    flights =
+        List.of(
+            new Flight(
+                1, "VIE", "JFK", "Austrian Airlines", "OS35", 480, 450.0, LocalTime.of(10, 35)),
+            new Flight(
+                2, "VIE", "LHR", "Austrian Airlines", "OS45", 90, 120.0, LocalTime.of(14, 20)),
+            new Flight(
+                3, "LHR", "JFK", "British Airways", "BA123", 420, 380.0, LocalTime.of(16, 30)));
+
+    graph = new Graph(airports, flights);
+  }
+
+  @Test
+  void testRepeatedQueryIsServedFromCache() {
+    Route first = calculator.findRoute(graph, "VIE", "JFK", RouteType.CHEAPEST);
+    Route second = calculator.findRoute(graph, "VIE", "JFK", RouteType.CHEAPEST);
+
+    assertEquals(first, second);
+    assertEquals(1, calculator.getCache().getMissCount());
+    assertEquals(1, calculator.getCache().getHitCount());
+  }
+
+  @Test
+  void testRouteTypesAreCachedSeparately() {
+    Route cheapest = calculator.findRoute(graph, "VIE", "JFK", RouteType.CHEAPEST);
+    Route fewest = calculator.findRoute(graph, "VIE", "JFK", RouteType.FEWEST_STOPOVERS);
+
+    assertEquals("1", cheapest.getFlights());
+    assertEquals("1", fewest.getFlights());
+    assertEquals(2, calculator.getCache().getMissCount());
+  }
+
+  @Test
+  void testRebuiltGraphIsNotServedFromCache() {
+    calculator.findRoute(graph, "VIE", "JFK", RouteType.CHEAPEST);
+    Graph rebuilt = new Graph(airports, flights);
+
+    assertTrue(rebuilt.getVersion() > graph.getVersion());
+    calculator.findRoute(rebuilt, "VIE", "JFK", RouteType.CHEAPEST);
+    assertEquals(2, calculator.getCache().getMissCount());
+  }
+
+  @Test
+  void testImpossibleQueryIsRejectedFromNegativeCache() {
+    assertNull(calculator.findRoute(graph, "JFK", "VIE", RouteType.CHEAPEST));
+    assertNull(calculator.findRoute(graph, "JFK", "VIE", RouteType.CHEAPEST));
+
+    assertEquals(1, calculator.getCache().getMissCount());
+    assertEquals(1, calculator.getNegativeCache().getHitCount());
+    assertEquals(0, calculator.getCache().size());
+  }
+}
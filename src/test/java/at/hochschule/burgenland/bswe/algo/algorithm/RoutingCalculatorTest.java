@@ -12,6 +12,7 @@ import at.hochschule.burgenland.bswe.algo.model.Airport;
 import at.hochschule.burgenland.bswe.algo.model.Flight;
 import at.hochschule.burgenland.bswe.algo.model.Route;
 import at.hochschule.burgenland.bswe.algo.model.enums.RouteType;
+import at.hochschule.burgenland.bswe.algo.structure.AirportSpatialIndex;
 import at.hochschule.burgenland.bswe.algo.structure.Graph;
 import java.time.LocalTime;
 import java.util.List;
@@ -173,4 +174,96 @@ class RoutingCalculatorTest {
     assertEquals("4", fewestStopovers.getFlights());
     assertEquals(0, fewestStopovers.getStopovers());
   }
+
+  @Test
+  void testFindRoutesReturnsAlternatives() {
+    List<Route> routes = calculator.findRoutes(graph, "VIE", "JFK", RouteType.CHEAPEST, 5);
+
+    assertEquals(3, routes.size());
+    assertEquals("1", routes.get(0).getFlights());
+    assertEquals("2-3", routes.get(1).getFlights());
+    assertEquals("2-4-5", routes.get(2).getFlights());
+  }
+
+  @Test
+  void testFindRoutesWithFewestStopoversType() {
+    List<Route> routes = calculator.findRoutes(graph, "VIE", "JFK", RouteType.FEWEST_STOPOVERS, 5);
+
+    assertEquals(3, routes.size());
+    for (int i = 1; i < routes.size(); i++) {
+      assertTrue(routes.get(i - 1).getStopovers() <= routes.get(i).getStopovers());
+    }
+  }
+
+  @Test
+  void testUnreachableDestinationReturnsNoRoute() {
+    // No flight leaves JFK in the test graph
+    for (RouteType type : RouteType.values()) {
+      assertNull(calculator.findRoute(graph, "JFK", "VIE", type));
+      assertTrue(calculator.findRoutes(graph, "JFK", "VIE", type, 3).isEmpty());
+    }
+    assertEquals(0, calculator.findAllRoutes(graph, "JFK", "VIE").count());
+  }
+
+  @Test
+  void testFindRouteFromNearbyUsesBestNearbyOrigin() {
+    List<Airport> airports =
+        List.of(
+            new Airport(1, "VIE", "Vienna", "Austria", 48.1103, 16.5697),
+            new Airport(2, "BTS", "Bratislava", "Slovakia", 48.1702, 17.2127),
+            new Airport(3, "JFK", "New York", "United States", 40.6413, -73.7781),
+            new Airport(4, "LHR", "London", "United Kingdom", 51.4700, -0.4543));
+    List<Flight> flights =
+        List.of(
+            new Flight(1, "VIE", "JFK", "Austrian", "OS35", 480, 450.0, LocalTime.of(10, 35)),
+            new Flight(2, "BTS", "LHR", "Ryanair", "FR1", 150, 40.0, LocalTime.of(6, 0)),
+            new Flight(3, "LHR", "JFK", "British Airways", "BA1", 420, 300.0, LocalTime.of(9, 0)));
+    Graph nearbyGraph = new Graph(airports, flights);
+    AirportSpatialIndex spatialIndex = new AirportSpatialIndex(airports);
+
+    Route cheapest =
+        calculator.findRouteFromNearby(
+            nearbyGraph, spatialIndex, "VIE", "JFK", RouteType.CHEAPEST, 100);
+    assertEquals("2-3", cheapest.getFlights());
+
+    Route direct =
+        calculator.findRouteFromNearby(
+            nearbyGraph, spatialIndex, "VIE", "JFK", RouteType.FEWEST_STOPOVERS, 100);
+    assertEquals("1", direct.getFlights());
+
+    Route onlyVienna =
+        calculator.findRouteFromNearby(
+            nearbyGraph, spatialIndex, "VIE", "JFK", RouteType.CHEAPEST, 10);
+    assertEquals("1", onlyVienna.getFlights());
+
+    assertNull(
+        calculator.findRouteFromNearby(
+            nearbyGraph, spatialIndex, "XXX", "JFK", RouteType.CHEAPEST, 100));
+  }
+
+  @Test
+  void testFindRouteWithStatistics() {
+    RoutingResult result =
+        calculator.findRouteWithStatistics(graph, "VIE", "JFK", RouteType.CHEAPEST);
+
+    assertEquals("1", result.getRoute().getFlights());
+    assertEquals(1, result.getStatistics().getSearches());
+    assertEquals(4, result.getStatistics().getNodesSettled());
+    assertEquals(5, result.getStatistics().getEdgesScanned());
+
+    RoutingResult stopovers =
+        calculator.findRouteWithStatistics(graph, "VIE", "JFK", RouteType.FEWEST_STOPOVERS);
+    assertEquals("1", stopovers.getRoute().getFlights());
+    assertEquals(1, stopovers.getStatistics().getSearches());
+  }
+
+  @Test
+  void testFindRouteWithStatisticsRejectedByReachabilityIndex() {
+    RoutingResult result =
+        calculator.findRouteWithStatistics(graph, "JFK", "VIE", RouteType.CHEAPEST);
+
+    assertNull(result.getRoute());
+    assertEquals(0, result.getStatistics().getSearches());
+    assertEquals(0, result.getStatistics().getNodesSettled());
+  }
 }
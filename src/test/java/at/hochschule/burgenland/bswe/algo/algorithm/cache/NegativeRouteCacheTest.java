@@ -0,0 +1,64 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * NegativeRouteCacheTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm.cache Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.enums.RouteType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NegativeRouteCacheTest {
+
+  private NegativeRouteCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new NegativeRouteCache(3);
+  }
+
+  private RouteCacheKey key(String destination, long version) {
+    return new RouteCacheKey("VIE", destination, RouteType.FASTEST, version);
+  }
+
+  @Test
+  void testContainsAddedKey() {
+    cache.add(key("JFK", 1));
+
+    assertTrue(cache.contains(key("JFK", 1)));
+    assertFalse(cache.contains(key("LHR", 1)));
+    assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  void testCapacityIsBounded() {
+    for (int i = 0; i < 10; i++) {
+      cache.add(key("D" + i, 1));
+    }
+
+    assertEquals(3, cache.size());
+    assertTrue(cache.contains(key("D9", 1)));
+    assertFalse(cache.contains(key("D0", 1)));
+  }
+
+  @Test
+  void testNewGraphVersionClearsKeys() {
+    cache.add(key("JFK", 1));
+    cache.add(key("LHR", 2));
+
+    assertFalse(cache.contains(key("JFK", 1)));
+    assertTrue(cache.contains(key("LHR", 2)));
+
+    cache.add(key("CDG", 1));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void testInvalidCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new NegativeRouteCache(0));
+  }
+}
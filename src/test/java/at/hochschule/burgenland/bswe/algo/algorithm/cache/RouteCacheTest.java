@@ -0,0 +1,180 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteCacheTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm.cache Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.enums.RouteType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RouteCacheTest {
+
+  private RouteCache cache;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  void setUp() {
+    cache = new RouteCache(10);
+    loads = new AtomicInteger();
+  }
+
+  private RouteCacheKey key(String destination, long version) {
+    return new RouteCacheKey("VIE", destination, RouteType.CHEAPEST, version);
+  }
+
+  private Route load(String flights) {
+    loads.incrementAndGet();
+    return new Route(1, flights, 60, 100.0, 0);
+  }
+
+  @Test
+  void testHitAfterMiss() {
+    Route first = cache.get(key("JFK", 1), () -> load("1"));
+    Route second = cache.get(key("JFK", 1), () -> load("2"));
+
+    assertEquals("1", first.getFlights());
+    assertEquals("1", second.getFlights());
+    assertEquals(1, loads.get());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(0.5, cache.getHitRate());
+  }
+
+  @Test
+  void testReturnedRoutesAreCopies() {
+    Route first = cache.get(key("JFK", 1), () -> load("1"));
+    first.setId(42);
+
+    assertEquals(1, cache.get(key("JFK", 1), () -> load("1")).getId());
+  }
+
+  @Test
+  void testNullResultsAreNotCached() {
+    assertNull(cache.get(key("JFK", 1), () -> null));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testNewGraphVersionInvalidatesEntries() {
+    cache.get(key("JFK", 1), () -> load("1"));
+    cache.get(key("LHR", 1), () -> load("2"));
+    cache.get(key("JFK", 2), () -> load("3"));
+
+    assertEquals(1, cache.size());
+    assertEquals("3", cache.get(key("JFK", 2), () -> load("4")).getFlights());
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  void testEvictionKeepsFrequentlyUsedEntries() {
+    // Promote the hot key to the protected segment
+    cache.get(key("HOT", 1), () -> load("hot"));
+    cache.get(key("HOT", 1), () -> load("hot"));
+
+    for (int i = 0; i < 100; i++) {
+      String destination = "D" + i;
+      cache.get(key(destination, 1), () -> load(destination));
+    }
+
+    assertTrue(cache.size() <= 10);
+    assertTrue(cache.getEvictionCount() > 0);
+    int loadsBefore = loads.get();
+    cache.get(key("HOT", 1), () -> load("hot"));
+    assertEquals(loadsBefore, loads.get());
+  }
+
+  @Test
+  void testConcurrentMissesLoadOnce() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      List<Future<Route>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(
+            executor.submit(
+                () ->
+                    cache.get(
+                        key("JFK", 1),
+                        () -> {
+                          try {
+                            release.await(5, TimeUnit.SECONDS);
+                          } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                          }
+                          return load("1");
+                        })));
+      }
+      Thread.sleep(100);
+      release.countDown();
+      for (Future<Route> result : results) {
+        assertEquals("1", result.get(5, TimeUnit.SECONDS).getFlights());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(1, loads.get());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(7, cache.getHitCount() + cache.getCoalescedCount());
+  }
+
+  @Test
+  void testCoalescedLookupIsNotAHit() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread loader =
+        new Thread(
+            () ->
+                cache.get(
+                    key("JFK", 1),
+                    () -> {
+                      loading.countDown();
+                      try {
+                        release.await(5, TimeUnit.SECONDS);
+                      } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                      }
+                      return load("1");
+                    }));
+    AtomicReference<Route> coalesced = new AtomicReference<>();
+    Thread waiter = new Thread(() -> coalesced.set(cache.get(key("JFK", 1), () -> load("2"))));
+
+    loader.start();
+    assertTrue(loading.await(5, TimeUnit.SECONDS));
+    waiter.start();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (waiter.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+    release.countDown();
+    loader.join(5000);
+    waiter.join(5000);
+
+    assertEquals("1", coalesced.get().getFlights());
+    assertEquals(1, loads.get());
+    assertEquals(0, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getCoalescedCount());
+    assertEquals(0.0, cache.getHitRate());
+  }
+
+  @Test
+  void testInvalidCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new RouteCache(1));
+  }
+}
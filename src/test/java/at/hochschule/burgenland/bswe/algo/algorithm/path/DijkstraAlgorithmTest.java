@@ -183,4 +183,61 @@ class DijkstraAlgorithmTest {
     assertEquals("5", route.getFlights());
     assertEquals(50.0, route.getTotalPrice());
   }
+
+  @Test
+  void testFindRouteCollectsStatistics() {
+    SearchStatistics statistics = new SearchStatistics();
+
+    Route route = algorithm.findRoute(graph, "VIE", "JFK", Edge::getPrice, statistics);
+
+    assertEquals("1", route.getFlights());
+    assertEquals(1, statistics.getSearches());
+    assertEquals(4, statistics.getNodesSettled());
+    assertEquals(5, statistics.getEdgesScanned());
+    assertEquals(4, statistics.getHeapPushes());
+    assertEquals(0, statistics.getFlightCountRejects());
+    assertEquals(0, statistics.getConnectionRejects());
+    assertTrue(statistics.getElapsedNanos() > 0);
+
+    algorithm.findRoute(graph, "VIE", "CDG", Edge::getPrice, statistics);
+    assertEquals(2, statistics.getSearches());
+  }
+
+  @Test
+  void testStatisticsCountRejectedPaths() {
+    SearchStatistics statistics = new SearchStatistics();
+
+    assertNull(algorithm.findRoute(rejectingGraph(), "A", "G", Edge::getPrice, statistics));
+
+    assertEquals(5, statistics.getNodesSettled());
+    assertEquals(6, statistics.getEdgesScanned());
+    assertEquals(1, statistics.getConnectionRejects());
+    assertEquals(1, statistics.getFlightCountRejects());
+  }
+
+  /**
+   * A-B-D-E-F-G with valid connections, which is one flight too long, plus B-C with a connection
+   * of only ten minutes.
+   */
+  private static Graph rejectingGraph() {
+    List<Airport> airports =
+        List.of(
+            new Airport(1, "A", "Airport A", "Country A", 0.0, 0.0),
+            new Airport(2, "B", "Airport B", "Country B", 1.0, 1.0),
+            new Airport(3, "C", "Airport C", "Country C", 2.0, 2.0),
+            new Airport(4, "D", "Airport D", "Country D", 3.0, 3.0),
+            new Airport(5, "E", "Airport E", "Country E", 4.0, 4.0),
+            new Airport(6, "F", "Airport F", "Country F", 5.0, 5.0),
+            new Airport(7, "G", "Airport G", "Country G", 6.0, 6.0));
+
+    List<Flight> flights =
+        List.of(
+            new Flight(1, "A", "B", "Airline", "F1", 60, 10.0, LocalTime.of(8, 0)),
+            new Flight(2, "B", "C", "Airline", "F2", 60, 10.0, LocalTime.of(9, 10)),
+            new Flight(3, "B", "D", "Airline", "F3", 60, 10.0, LocalTime.of(10, 0)),
+            new Flight(4, "D", "E", "Airline", "F4", 60, 10.0, LocalTime.of(11, 30)),
+            new Flight(5, "E", "F", "Airline", "F5", 60, 10.0, LocalTime.of(13, 0)),
+            new Flight(6, "F", "G", "Airline", "F6", 60, 10.0, LocalTime.of(15, 0)));
+    return new Graph(airports, flights);
+  }
 }
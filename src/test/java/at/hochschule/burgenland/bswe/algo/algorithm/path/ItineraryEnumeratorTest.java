@@ -0,0 +1,147 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * ItineraryEnumeratorTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm.path Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Airport;
+import at.hochschule.burgenland.bswe.algo.model.Flight;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.structure.Edge;
+import at.hochschule.burgenland.bswe.algo.structure.Graph;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ItineraryEnumeratorTest {
+
+  private ItineraryEnumerator enumerator;
+  private Graph graph;
+
+  @BeforeEach
+  void setUp() {
+    enumerator = new ItineraryEnumerator();
+
+    // Create test data
+    List<Airport> airports =
+        List.of(
+            new Airport(1, "VIE", "Vienna", "Austria", 48.1103, 16.5697),
+            new Airport(2, "JFK", "New York", "United States", 40.6413, -73.7781),
+            new Airport(3, "LHR", "London", "United Kingdom", 51.4700, -0.4543),
+            new Airport(4, "CDG", "Paris", "France", 49.0097, 2.5479),
+            new Airport(5, "FRA", "Frankfurt", "Germany", 50.0379, 8.5622));
+
+    List<Flight> flights =
+        List.of(
+            new Flight(
+                1, "VIE", "JFK", "Austrian Airlines", "OS35", 480, 450.0, LocalTime.of(10, 35)),
+            new Flight(
+                2, "VIE", "LHR", "Austrian Airlines", "OS45", 90, 120.0, LocalTime.of(14, 20)),
+            new Flight(
+                3, "LHR", "JFK", "British Airways", "BA123", 420, 380.0, LocalTime.of(16, 30)),
+            new Flight(4, "LHR", "CDG", "British Airways", "BA456", 60, 80.0, LocalTime.of(18, 45)),
+            new Flight(5, "CDG", "JFK", "Air France", "AF123", 450, 400.0, LocalTime.of(20, 15)),
+            new Flight(
+                6, "VIE", "FRA", "Austrian Airlines", "OS67", 60, 100.0, LocalTime.of(12, 0)),
+            new Flight(7, "FRA", "JFK", "Lufthansa", "LH400", 480, 420.0, LocalTime.of(14, 0)),
+            new Flight(8, "FRA", "VIE", "Lufthansa", "LH500", 60, 90.0, LocalTime.of(15, 0)));
+
+    graph = new Graph(airports, flights);
+  }
+
+  @Test
+  void testEnumerateFindsAllItineraries() {
+    Set<String> flights =
+        enumerator.enumerate(graph, "VIE", "JFK").map(Route::getFlights).collect(Collectors.toSet());
+
+    assertEquals(Set.of("1", "2-3", "2-4-5", "6-7"), flights);
+  }
+
+  @Test
+  void testParallelEnumerationMatchesSequential() {
+    Set<String> sequential =
+        enumerator.enumerate(graph, "VIE", "JFK").map(Route::getFlights).collect(Collectors.toSet());
+    List<String> parallel =
+        enumerator.enumerate(graph, "VIE", "JFK").parallel().map(Route::getFlights).toList();
+
+    assertEquals(sequential.size(), parallel.size());
+    assertEquals(sequential, Set.copyOf(parallel));
+  }
+
+  @Test
+  void testEnumerateRespectsMaximumFlights() {
+    List<Airport> airports = new ArrayList<>();
+    List<Flight> flights = new ArrayList<>();
+    String[] codes = {"A", "B", "C", "D", "E", "F"};
+    for (int i = 0; i < codes.length; i++) {
+      airports.add(new Airport(i + 1, codes[i], "City", "Country", 0.0, 0.0));
+      if (i > 0) {
+        flights.add(
+            new Flight(
+                i, codes[i - 1], codes[i], "Airline", "F" + i, 30, 10.0, LocalTime.of(6 + i, 0)));
+      }
+    }
+    Graph chain = new Graph(airports, flights);
+
+    assertEquals(1, enumerator.enumerate(chain, "A", "E").count());
+    assertEquals(0, enumerator.enumerate(chain, "A", "F").count());
+  }
+
+  @Test
+  void testEnumerateIsLazy() {
+    // Origin O, ten fully connected hubs and destination D: 820 itineraries with up to 4 flights
+    List<Airport> airports = new ArrayList<>();
+    List<Flight> flights = new ArrayList<>();
+    airports.add(new Airport(1, "O", "City", "Country", 0.0, 0.0));
+    airports.add(new Airport(2, "D", "City", "Country", 0.0, 0.0));
+    for (int hub = 0; hub < 10; hub++) {
+      String code = "H" + hub;
+      airports.add(new Airport(hub + 3, code, "City", "Country", 0.0, 0.0));
+      flights.add(hubFlight(flights.size(), "O", code));
+      flights.add(hubFlight(flights.size(), code, "D"));
+      for (int other = 0; other < 10; other++) {
+        if (other != hub) {
+          flights.add(hubFlight(flights.size(), code, "H" + other));
+        }
+      }
+    }
+    long[] expansions = new long[1];
+    Graph counting =
+        new Graph(airports, flights) {
+          @Override
+          public List<Edge> getOutgoingEdges(String iata) {
+            expansions[0]++;
+            return super.getOutgoingEdges(iata);
+          }
+        };
+
+    assertEquals(820, enumerator.enumerate(counting, "O", "D").count());
+    long fullExpansions = expansions[0];
+    expansions[0] = 0;
+    assertTrue(enumerator.enumerate(counting, "O", "D").findFirst().isPresent());
+
+    assertTrue(
+        expansions[0] * 100 < fullExpansions,
+        expansions[0] + " expansions for the first of " + fullExpansions + " in total");
+  }
+
+  private static Flight hubFlight(int id, String origin, String destination) {
+    // Every connection is the next morning, so all of them are valid
+    return new Flight(id, origin, destination, "Airline", "F" + id, 60, 100.0, LocalTime.of(8, 0));
+  }
+
+  @Test
+  void testEnumerateWithInvalidInput() {
+    assertEquals(0, enumerator.enumerate(graph, "INVALID", "JFK").count());
+    assertEquals(0, enumerator.enumerate(graph, "VIE", "VIE").count());
+    assertEquals(0, enumerator.enumerate(graph, "JFK", "VIE").count());
+  }
+}
@@ -0,0 +1,120 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * KShortestPathsAlgorithmTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm.path
+ * Authors: Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Airport;
+import at.hochschule.burgenland.bswe.algo.model.Flight;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.structure.Edge;
+import at.hochschule.burgenland.bswe.algo.structure.Graph;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KShortestPathsAlgorithmTest {
+
+  private KShortestPathsAlgorithm algorithm;
+  private Graph graph;
+
+  @BeforeEach
+  void setUp() {
+    algorithm = new KShortestPathsAlgorithm();
+
+    // Create test data
+    List<Airport> airports =
+        List.of(
+            new Airport(1, "VIE", "Vienna", "Austria", 48.1103, 16.5697),
+            new Airport(2, "JFK", "New York", "United States", 40.6413, -73.7781),
+            new Airport(3, "LHR", "London", "United Kingdom", 51.4700, -0.4543),
+            new Airport(4, "CDG", "Paris", "France", 49.0097, 2.5479),
+            new Airport(5, "FRA", "Frankfurt", "Germany", 50.0379, 8.5622));
+
+    List<Flight> flights =
+        List.of(
+            new Flight(
+                1, "VIE", "JFK", "Austrian Airlines", "OS35", 480, 450.0, LocalTime.of(10, 35)),
+            new Flight(
+                2, "VIE", "LHR", "Austrian Airlines", "OS45", 90, 120.0, LocalTime.of(14, 20)),
+            new Flight(
+                3, "LHR", "JFK", "British Airways", "BA123", 420, 380.0, LocalTime.of(16, 30)),
+            new Flight(4, "LHR", "CDG", "British Airways", "BA456", 60, 80.0, LocalTime.of(18, 45)),
+            new Flight(5, "CDG", "JFK", "Air France", "AF123", 450, 400.0, LocalTime.of(20, 15)),
+            new Flight(
+                6, "VIE", "FRA", "Austrian Airlines", "OS67", 60, 100.0, LocalTime.of(12, 0)),
+            new Flight(7, "FRA", "JFK", "Lufthansa", "LH400", 480, 420.0, LocalTime.of(14, 0)));
+
+    graph = new Graph(airports, flights);
+  }
+
+  @Test
+  void testFindRoutesReturnsAllAlternativesInPriceOrder() {
+    List<Route> routes = algorithm.findRoutes(graph, "VIE", "JFK", Edge::getPrice, 10);
+
+    assertEquals(4, routes.size());
+    assertEquals("1", routes.get(0).getFlights());
+    assertEquals("2-3", routes.get(1).getFlights());
+    assertEquals("6-7", routes.get(2).getFlights());
+    assertEquals("2-4-5", routes.get(3).getFlights());
+    assertEquals(600.0, routes.get(3).getTotalPrice());
+    assertEquals(2, routes.get(3).getStopovers());
+  }
+
+  @Test
+  void testFindRoutesLimitsResultToK() {
+    List<Route> routes = algorithm.findRoutes(graph, "VIE", "JFK", Edge::getPrice, 2);
+
+    assertEquals(2, routes.size());
+    assertEquals("1", routes.get(0).getFlights());
+    assertEquals("2-3", routes.get(1).getFlights());
+  }
+
+  @Test
+  void testFirstRouteMatchesDijkstra() {
+    Route dijkstraRoute = new DijkstraAlgorithm().findRoute(graph, "VIE", "CDG", Edge::getDuration);
+    List<Route> routes = algorithm.findRoutes(graph, "VIE", "CDG", Edge::getDuration, 3);
+
+    assertFalse(routes.isEmpty());
+    assertEquals(dijkstraRoute.getFlights(), routes.get(0).getFlights());
+  }
+
+  @Test
+  void testFindRoutesRespectsConnectionTimes() {
+    // FRA -> JFK departs before the VIE -> FRA flight lands
+    List<Flight> flights =
+        List.of(
+            new Flight(1, "VIE", "FRA", "Airline", "F1", 60, 50.0, LocalTime.of(10, 0)),
+            new Flight(2, "FRA", "JFK", "Airline", "F2", 480, 50.0, LocalTime.of(11, 10)),
+            new Flight(3, "VIE", "JFK", "Airline", "F3", 480, 500.0, LocalTime.of(10, 0)));
+    Graph tightGraph =
+        new Graph(
+            List.of(
+                new Airport(1, "VIE", "Vienna", "Austria", 48.1103, 16.5697),
+                new Airport(2, "JFK", "New York", "United States", 40.6413, -73.7781),
+                new Airport(3, "FRA", "Frankfurt", "Germany", 50.0379, 8.5622)),
+            flights);
+
+    List<Route> routes = algorithm.findRoutes(tightGraph, "VIE", "JFK", Edge::getPrice, 5);
+
+    assertEquals(1, routes.size());
+    assertEquals("3", routes.get(0).getFlights());
+  }
+
+  @Test
+  void testFindRoutesWithoutConnection() {
+    assertTrue(algorithm.findRoutes(graph, "JFK", "VIE", Edge::getPrice, 5).isEmpty());
+  }
+
+  @Test
+  void testFindRoutesWithInvalidInput() {
+    assertTrue(algorithm.findRoutes(graph, "INVALID", "JFK", Edge::getPrice, 5).isEmpty());
+    assertTrue(algorithm.findRoutes(graph, "VIE", "JFK", Edge::getPrice, 0).isEmpty());
+    assertTrue(algorithm.findRoutes(graph, "VIE", "VIE", Edge::getPrice, 5).isEmpty());
+  }
+}
@@ -0,0 +1,109 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteEventLogTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm.path.base Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.path.base;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RouteEventLogTest {
+
+  private static final String LOGGER = "routing.events";
+
+  private final LoggerContext context = (LoggerContext) LogManager.getContext(false);
+  private final CapturingAppender appender = new CapturingAppender();
+
+  @AfterEach
+  void tearDown() {
+    context.getConfiguration().removeLogger(LOGGER);
+    context.updateLoggers();
+    appender.stop();
+  }
+
+  /**
+   * Routes the event logger to the capturing appender only.
+   *
+   * @param level level of the event logger
+   */
+  private void captureEvents(Level level) {
+    Configuration configuration = context.getConfiguration();
+    LoggerConfig loggerConfig = new LoggerConfig(LOGGER, level, false);
+    appender.start();
+    loggerConfig.addAppender(appender, null, null);
+    configuration.addLogger(LOGGER, loggerConfig);
+    context.updateLoggers();
+  }
+
+  @Test
+  void testRateOneSamplesEveryEvent() {
+    for (int i = 0; i < 1000; i++) {
+      assertTrue(RouteEventLog.isSampled(1));
+      assertTrue(RouteEventLog.isSampled(0));
+    }
+  }
+
+  @Test
+  void testRateSamplesAboutOneInN() {
+    int sampled = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (RouteEventLog.isSampled(10)) {
+        sampled++;
+      }
+    }
+    assertTrue(sampled > 9_000 && sampled < 11_000, "sampled " + sampled);
+  }
+
+  @Test
+  void testEventsWithLoggingDisabled() {
+    captureEvents(Level.WARN);
+
+    RouteEventLog.routeFound("dijkstra", "VIE", "JFK", new Route(1, "1", 480, 450.0, 0));
+    RouteEventLog.routeNotFound("bfs", List.of("VIE", "BTS"), "JFK");
+
+    assertTrue(appender.lines.isEmpty(), appender.lines.toString());
+  }
+
+  @Test
+  void testEventIsOneKeyValueLine() {
+    captureEvents(Level.INFO);
+
+    RouteEventLog.routeFound("dijkstra", "VIE", "JFK", new Route(1, "1;2", 480, 450.0, 1));
+
+    assertEquals(
+        List.of(
+            "event=route_found algorithm=dijkstra origin=VIE destination=JFK flights=1;2 stops=1"
+                + " durationMin=480 price=450.0"),
+        appender.lines);
+  }
+
+  /** Collects the formatted messages of all events it receives. */
+  private static final class CapturingAppender extends AbstractAppender {
+
+    private final List<String> lines = new CopyOnWriteArrayList<>();
+
+    CapturingAppender() {
+      super("Capturing", null, null, true, Property.EMPTY_ARRAY);
+    }
+
+    @Override
+    public void append(LogEvent event) {
+      lines.add(event.getMessage().getFormattedMessage());
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * AdaptiveMergeSortAlgorithmTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort
+ * Authors: Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import static at.hochschule.burgenland.bswe.algo.algorithm.sort.RouteFixtures.randomRoutes;
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteCombinedComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteDurationComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RoutePriceComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteSlowestComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteStopoversComparator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveMergeSortAlgorithmTest {
+
+  private final AdaptiveMergeSortAlgorithm algorithm = new AdaptiveMergeSortAlgorithm();
+
+  private void assertSortsLikeListSort(List<Route> routes, Comparator<Route> comparator) {
+    List<Route> expected = new ArrayList<>(routes);
+    expected.sort(comparator);
+
+    algorithm.sort(routes, comparator);
+
+    // Identical order, including equal elements, proves stability
+    assertEquals(expected, routes);
+  }
+
+  @Test
+  void testRandomInputWithAllComparators() {
+    for (Comparator<Route> comparator :
+        List.of(
+            new RoutePriceComparator(),
+            new RouteDurationComparator(),
+            new RouteSlowestComparator(),
+            new RouteStopoversComparator(),
+            new RouteCombinedComparator())) {
+      assertSortsLikeListSort(randomRoutes(30_000, 50, 1), comparator);
+    }
+  }
+
+  @Test
+  void testAllSmallSizes() {
+    for (int size = 0; size <= 130; size++) {
+      assertSortsLikeListSort(randomRoutes(size, 5, size), new RoutePriceComparator());
+    }
+  }
+
+  @Test
+  void testNearlySortedInputs() {
+    List<Route> sortedWithTail = randomRoutes(20_000, 5000, 2);
+    sortedWithTail.sort(new RoutePriceComparator());
+    sortedWithTail.addAll(randomRoutes(300, 5000, 3));
+    assertSortsLikeListSort(sortedWithTail, new RoutePriceComparator());
+
+    List<Route> descending = randomRoutes(20_000, 5000, 4);
+    descending.sort(new RouteDurationComparator());
+    Collections.reverse(descending);
+    assertSortsLikeListSort(descending, new RouteDurationComparator());
+
+    // Two sorted halves interleaved in large blocks exercise galloping in both directions
+    List<Route> blocks = randomRoutes(40_000, 20_000, 5);
+    blocks.subList(0, 20_000).sort(new RoutePriceComparator());
+    blocks.subList(20_000, 40_000).sort(new RoutePriceComparator());
+    assertSortsLikeListSort(blocks, new RoutePriceComparator());
+  }
+
+  @Test
+  void testHeavilyDuplicatedKeys() {
+    assertSortsLikeListSort(randomRoutes(50_000, 2, 6), new RoutePriceComparator());
+    assertSortsLikeListSort(randomRoutes(50_000, 1, 7), new RoutePriceComparator());
+  }
+
+  @Test
+  void testSortedInputNeedsLinearComparisons() {
+    List<Route> routes = randomRoutes(10_000, 5000, 8);
+    routes.sort(new RouteCombinedComparator());
+    AtomicLong comparisons = new AtomicLong();
+    Comparator<Route> counting =
+        (first, second) -> {
+          comparisons.incrementAndGet();
+          return new RouteCombinedComparator().compare(first, second);
+        };
+
+    algorithm.sort(routes, counting);
+
+    assertEquals(routes.size() - 1, comparisons.get());
+  }
+}
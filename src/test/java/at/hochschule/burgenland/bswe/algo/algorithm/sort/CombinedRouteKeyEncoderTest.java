@@ -0,0 +1,87 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * CombinedRouteKeyEncoderTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort
+ * Authors: Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteCombinedComparator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class CombinedRouteKeyEncoderTest {
+
+  private static Route[] centRoutes(int count, long seed) {
+    Random random = new Random(seed);
+    Route[] routes = new Route[count];
+    for (int i = 0; i < count; i++) {
+      routes[i] =
+          new Route(
+              i,
+              String.valueOf(i),
+              random.nextInt(100) * 15,
+              (random.nextInt(20_000) - 1000) / 100.0,
+              random.nextInt(4));
+    }
+    return routes;
+  }
+
+  @Test
+  void testKeysPreserveComparatorOrder() {
+    Route[] routes = centRoutes(2000, 1);
+    RouteCombinedComparator comparator = new RouteCombinedComparator();
+
+    CombinedRouteKeyEncoder.PackedKeys packed =
+        CombinedRouteKeyEncoder.encode(routes, 0, routes.length);
+
+    assertNotNull(packed);
+    assertTrue(packed.keyBytes() <= Long.BYTES);
+    long[] keys = packed.keys();
+    for (int i = 0; i < 5000; i++) {
+      int a = i % routes.length;
+      int b = (i * 7919) % routes.length;
+      assertEquals(
+          Integer.signum(comparator.compare(routes[a], routes[b])),
+          Integer.signum(Long.compareUnsigned(keys[a], keys[b])),
+          "routes " + a + " and " + b);
+    }
+  }
+
+  @Test
+  void testRejectsFractionalCentsAndSpecialValues() {
+    Route[] fractional = {new Route(1, "1", 60, 10.005, 0), new Route(2, "2", 60, 10.0, 0)};
+    Route[] negativeZero = {new Route(1, "1", 60, -0.0, 0), new Route(2, "2", 60, 0.0, 0)};
+    Route[] nan = {new Route(1, "1", 60, Double.NaN, 0)};
+
+    assertNull(CombinedRouteKeyEncoder.encode(fractional, 0, 2));
+    assertNull(CombinedRouteKeyEncoder.encode(negativeZero, 0, 2));
+    assertNull(CombinedRouteKeyEncoder.encode(nan, 0, 1));
+  }
+
+  @Test
+  void testRejectsKeysWiderThan64Bits() {
+    Route[] routes = {
+      new Route(1, "1", Integer.MIN_VALUE, -1e12, Integer.MIN_VALUE),
+      new Route(2, "2", Integer.MAX_VALUE, 1e12, Integer.MAX_VALUE)
+    };
+
+    assertNull(CombinedRouteKeyEncoder.encode(routes, 0, 2));
+  }
+
+  @Test
+  void testRadixSortWithCombinedKeyMatchesStableListSort() {
+    List<Route> routes = new ArrayList<>(List.of(centRoutes(20_000, 3)));
+    List<Route> expected = new ArrayList<>(routes);
+    expected.sort(new RouteCombinedComparator());
+
+    new RadixSortAlgorithm().sort(routes, new RouteCombinedComparator());
+
+    assertEquals(expected, routes);
+  }
+}
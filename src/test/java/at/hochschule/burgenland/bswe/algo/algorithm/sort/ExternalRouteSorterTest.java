@@ -0,0 +1,155 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * ExternalRouteSorterTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort
+ * Authors: Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import static at.hochschule.burgenland.bswe.algo.algorithm.sort.RouteFixtures.randomRoutes;
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.base.SortingAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteCombinedComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteDurationComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RoutePriceComparator;
+import at.hochschule.burgenland.bswe.algo.repository.RouteRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ExternalRouteSorterTest {
+
+  @TempDir Path directory;
+
+  private final RouteRepository repository = new RouteRepository();
+
+  private List<Route> sortThroughFiles(
+      ExternalRouteSorter sorter, List<Route> routes, Comparator<Route> comparator)
+      throws IOException {
+    Path input = directory.resolve("input.csv");
+    Path output = directory.resolve("output.csv");
+    repository.writeRoutes(input, routes);
+
+    long count = sorter.sort(input, output, comparator);
+
+    assertEquals(routes.size(), count);
+    return repository.loadRoutes(output);
+  }
+
+  @Test
+  void testSortWithManyRunsAndSeveralMergeLevels() throws IOException {
+    Path runs = Files.createDirectory(directory.resolve("runs"));
+    ExternalRouteSorter sorter = new ExternalRouteSorter(new MergeSortAlgorithm(), 100, 3, runs);
+    List<Route> routes = randomRoutes(2_345, 1);
+    List<Route> expected = new ArrayList<>(routes);
+    expected.sort(new RoutePriceComparator());
+
+    List<Route> sorted = sortThroughFiles(sorter, routes, new RoutePriceComparator());
+
+    // Identical order, including equal prices, proves stability across runs
+    assertEquals(expected, sorted);
+    try (Stream<Path> leftovers = Files.list(runs)) {
+      assertEquals(0, leftovers.count());
+    }
+  }
+
+  @Test
+  void testSortWithSingleChunk() throws IOException {
+    ExternalRouteSorter sorter = new ExternalRouteSorter();
+    List<Route> routes = randomRoutes(500, 2);
+    List<Route> expected = new ArrayList<>(routes);
+    expected.sort(new RouteCombinedComparator());
+
+    assertEquals(expected, sortThroughFiles(sorter, routes, new RouteCombinedComparator()));
+  }
+
+  @Test
+  void testSortInPlace() throws IOException {
+    ExternalRouteSorter sorter =
+        new ExternalRouteSorter(new RadixSortAlgorithm(), 64, 4, directory);
+    Path file = directory.resolve("routes.csv");
+    List<Route> routes = randomRoutes(1000, 3);
+    repository.writeRoutes(file, routes);
+    List<Route> expected = new ArrayList<>(routes);
+    expected.sort(new RouteDurationComparator());
+
+    sorter.sort(file, file, new RouteDurationComparator());
+
+    assertEquals(expected, repository.loadRoutes(file));
+  }
+
+  @Test
+  void testSortRoutesWithLongFlights() throws IOException {
+    ExternalRouteSorter sorter = new ExternalRouteSorter(new MergeSortAlgorithm(), 2, 4, directory);
+    // Longer than the 64 KB limit of DataOutput.writeUTF, with multi-byte characters
+    String longFlights = "ZRH-WIEN-Flüge;".repeat(5_000);
+    List<Route> routes =
+        List.of(
+            new Route(1, longFlights, 60, 300.0, 0),
+            new Route(2, "short", 60, 100.0, 0),
+            new Route(3, longFlights + "x", 60, 200.0, 0),
+            new Route(4, "", 60, 50.0, 0),
+            new Route(5, "VIE-JFK", 60, 400.0, 0));
+    List<Route> expected = new ArrayList<>(routes);
+    expected.sort(new RoutePriceComparator());
+
+    assertEquals(expected, sortThroughFiles(sorter, routes, new RoutePriceComparator()));
+  }
+
+  @Test
+  void testSpillFailureIsReportedAsIOException() throws IOException {
+    Path runs = Files.createDirectory(directory.resolve("runs"));
+    SortingAlgorithm sorterRemovingRuns =
+        new MergeSortAlgorithm() {
+          @Override
+          public void sort(List<Route> routes, Comparator<Route> comparator) {
+            try (Stream<Path> runDirectories = Files.list(runs)) {
+              for (Path runDirectory : runDirectories.toList()) {
+                Files.deleteIfExists(runDirectory);
+              }
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+            super.sort(routes, comparator);
+          }
+        };
+    ExternalRouteSorter sorter = new ExternalRouteSorter(sorterRemovingRuns, 10, 4, runs);
+    Path input = directory.resolve("input.csv");
+    repository.writeRoutes(input, randomRoutes(100, 4));
+
+    assertThrows(
+        IOException.class,
+        () -> sorter.sort(input, directory.resolve("output.csv"), new RoutePriceComparator()));
+  }
+
+  @Test
+  void testSortMissingInputWritesEmptyFile() throws IOException {
+    Path output = directory.resolve("output.csv");
+
+    long count =
+        new ExternalRouteSorter()
+            .sort(directory.resolve("missing.csv"), output, new RoutePriceComparator());
+
+    assertEquals(0, count);
+    assertTrue(repository.loadRoutes(output).isEmpty());
+  }
+
+  @Test
+  void testInvalidSettings() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ExternalRouteSorter(new MergeSortAlgorithm(), 0, 4, null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ExternalRouteSorter(new MergeSortAlgorithm(), 10, 1, null));
+  }
+}
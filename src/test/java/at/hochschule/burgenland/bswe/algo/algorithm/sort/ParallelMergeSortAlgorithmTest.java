@@ -0,0 +1,96 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * ParallelMergeSortAlgorithmTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort
+ * Authors: Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import static at.hochschule.burgenland.bswe.algo.algorithm.sort.RouteFixtures.randomRoutes;
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteCombinedComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RoutePriceComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteStopoversComparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ParallelMergeSortAlgorithmTest {
+
+  @Test
+  void testSortMatchesStableListSort() {
+    ParallelMergeSortAlgorithm algorithm = new ParallelMergeSortAlgorithm(new ForkJoinPool(4), 64);
+    for (Comparator<Route> comparator :
+        List.of(
+            new RoutePriceComparator(),
+            new RouteStopoversComparator(),
+            new RouteCombinedComparator())) {
+      List<Route> routes = randomRoutes(20_000, 7);
+      List<Route> expected = new ArrayList<>(routes);
+      expected.sort(comparator);
+
+      algorithm.sort(routes, comparator);
+
+      // Identical order, including equal elements, proves stability
+      assertEquals(expected, routes);
+    }
+  }
+
+  @Test
+  void testSortWithDefaultSettings() {
+    List<Route> routes = randomRoutes(100_000, 11);
+    List<Route> expected = new ArrayList<>(routes);
+    expected.sort(new RoutePriceComparator());
+
+    new ParallelMergeSortAlgorithm().sort(routes, new RoutePriceComparator());
+
+    assertEquals(expected, routes);
+  }
+
+  @Test
+  void testSortSmallAndLinkedLists() {
+    ParallelMergeSortAlgorithm algorithm = new ParallelMergeSortAlgorithm();
+    List<Route> routes = new LinkedList<>(randomRoutes(50, 3));
+    List<Route> expected = new ArrayList<>(routes);
+    expected.sort(new RouteStopoversComparator());
+
+    algorithm.sort(routes, new RouteStopoversComparator());
+
+    assertEquals(expected, routes);
+  }
+
+  @Test
+  void testSortSliceLeavesRestUntouched() {
+    ParallelMergeSortAlgorithm algorithm = new ParallelMergeSortAlgorithm(new ForkJoinPool(4), 64);
+    Route[] routes = randomRoutes(10_000, 5).toArray(new Route[0]);
+    Route[] original = routes.clone();
+    List<Route> expected = new ArrayList<>(List.of(routes).subList(3_000, 7_500));
+    expected.sort(new RouteCombinedComparator());
+
+    algorithm.sort(routes, 3_000, 7_500, new RouteCombinedComparator());
+
+    assertEquals(expected, List.of(routes).subList(3_000, 7_500));
+    assertArrayEquals(
+        Arrays.copyOfRange(original, 0, 3_000),
+        Arrays.copyOfRange(routes, 0, 3_000));
+    assertArrayEquals(
+        Arrays.copyOfRange(original, 7_500, 10_000),
+        Arrays.copyOfRange(routes, 7_500, 10_000));
+  }
+
+  @Test
+  void testSortWithNullAndEmptyList() {
+    ParallelMergeSortAlgorithm algorithm = new ParallelMergeSortAlgorithm();
+
+    assertDoesNotThrow(() -> algorithm.sort(null, new RoutePriceComparator()));
+    List<Route> empty = new ArrayList<>();
+    algorithm.sort(empty, new RoutePriceComparator());
+    assertTrue(empty.isEmpty());
+  }
+}
@@ -0,0 +1,106 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * ParallelQuickSortAlgorithmTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort
+ * Authors: Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import static at.hochschule.burgenland.bswe.algo.algorithm.sort.RouteFixtures.randomRoutes;
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteCombinedComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteDurationComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RoutePriceComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteStopoversComparator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ParallelQuickSortAlgorithmTest {
+
+  private static void assertSorted(
+      List<Route> original, List<Route> sorted, Comparator<Route> comparator) {
+    assertEquals(original.size(), sorted.size());
+    assertEquals(new HashSet<>(original), new HashSet<>(sorted));
+    for (int i = 1; i < sorted.size(); i++) {
+      assertTrue(comparator.compare(sorted.get(i - 1), sorted.get(i)) <= 0, "index " + i);
+    }
+  }
+
+  @Test
+  void testSortWithDifferentComparators() {
+    ParallelQuickSortAlgorithm algorithm = new ParallelQuickSortAlgorithm(new ForkJoinPool(4), 64);
+    for (Comparator<Route> comparator :
+        List.of(
+            new RoutePriceComparator(),
+            new RouteDurationComparator(),
+            new RouteStopoversComparator(),
+            new RouteCombinedComparator())) {
+      List<Route> routes = randomRoutes(20_000, 50, 7);
+      List<Route> original = new ArrayList<>(routes);
+
+      algorithm.sort(routes, comparator);
+
+      assertSorted(original, routes, comparator);
+    }
+  }
+
+  @Test
+  void testSortHeavilyDuplicatedKeys() {
+    ParallelQuickSortAlgorithm algorithm = new ParallelQuickSortAlgorithm(new ForkJoinPool(4), 64);
+    List<Route> twoPrices = randomRoutes(100_000, 2, 5);
+    List<Route> onePrice = randomRoutes(100_000, 1, 9);
+    List<Route> originalTwo = new ArrayList<>(twoPrices);
+    List<Route> originalOne = new ArrayList<>(onePrice);
+
+    algorithm.sort(twoPrices, new RoutePriceComparator());
+    algorithm.sort(onePrice, new RoutePriceComparator());
+
+    assertSorted(originalTwo, twoPrices, new RoutePriceComparator());
+    assertSorted(originalOne, onePrice, new RoutePriceComparator());
+  }
+
+  @Test
+  void testSortPresortedAndReversedInput() {
+    ParallelQuickSortAlgorithm algorithm = new ParallelQuickSortAlgorithm();
+    List<Route> ascending = randomRoutes(50_000, 5000, 3);
+    ascending.sort(new RouteDurationComparator());
+    List<Route> descending = new ArrayList<>(ascending);
+    Collections.reverse(descending);
+    List<Route> original = new ArrayList<>(ascending);
+
+    algorithm.sort(ascending, new RouteDurationComparator());
+    algorithm.sort(descending, new RouteDurationComparator());
+
+    assertSorted(original, ascending, new RouteDurationComparator());
+    assertSorted(original, descending, new RouteDurationComparator());
+  }
+
+  @Test
+  void testSortSmallAndLinkedLists() {
+    ParallelQuickSortAlgorithm algorithm = new ParallelQuickSortAlgorithm();
+    List<Route> routes = new LinkedList<>(randomRoutes(50, 10, 3));
+    List<Route> original = new ArrayList<>(routes);
+
+    algorithm.sort(routes, new RouteStopoversComparator());
+
+    assertSorted(original, routes, new RouteStopoversComparator());
+  }
+
+  @Test
+  void testSortWithNullAndEmptyList() {
+    ParallelQuickSortAlgorithm algorithm = new ParallelQuickSortAlgorithm();
+
+    assertDoesNotThrow(() -> algorithm.sort(null, new RoutePriceComparator()));
+    List<Route> empty = new ArrayList<>();
+    algorithm.sort(empty, new RoutePriceComparator());
+    assertTrue(empty.isEmpty());
+  }
+}
@@ -0,0 +1,102 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RadixSortAlgorithmTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import static at.hochschule.burgenland.bswe.algo.algorithm.sort.RouteFixtures.randomRoutes;
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteCombinedComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteDurationComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RoutePriceComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteSlowestComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteStopoversComparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RadixSortAlgorithmTest {
+
+  @Test
+  void testSortMatchesStableListSort() {
+    RadixSortAlgorithm algorithm = new RadixSortAlgorithm();
+    for (Comparator<Route> comparator :
+        List.of(
+            new RoutePriceComparator(),
+            new RouteDurationComparator(),
+            new RouteSlowestComparator(),
+            new RouteStopoversComparator(),
+            new RouteCombinedComparator())) {
+      List<Route> routes = withNegativeKeys(randomRoutes(20_000, 5));
+      List<Route> expected = new ArrayList<>(routes);
+      expected.sort(comparator);
+
+      algorithm.sort(routes, comparator);
+
+      // Identical order, including equal elements, proves stability
+      assertEquals(expected, routes);
+    }
+  }
+
+  @Test
+  void testPriceKeyOrdersSpecialValues() {
+    double[] prices = {
+      Double.NaN, 0.0, -0.0, Double.POSITIVE_INFINITY, -1.5, Double.NEGATIVE_INFINITY, 1.5,
+      Double.MIN_VALUE, -Double.MAX_VALUE
+    };
+    Route[] routes = new Route[prices.length];
+    for (int i = 0; i < prices.length; i++) {
+      routes[i] = new Route(i, String.valueOf(i), 0, prices[i], 0);
+    }
+    Route[] expected = routes.clone();
+    Arrays.sort(expected, new RoutePriceComparator());
+
+    new RadixSortAlgorithm().sort(routes, 0, routes.length, new RoutePriceComparator());
+
+    assertArrayEquals(expected, routes);
+  }
+
+  @Test
+  void testSortMovesNullsToEnd() {
+    List<Route> routes = new ArrayList<>(randomRoutes(100, 9));
+    routes.add(0, null);
+    routes.add(50, null);
+    List<Route> expected = new ArrayList<>(routes);
+    expected.sort(new RouteStopoversComparator());
+
+    new RadixSortAlgorithm().sort(routes, new RouteStopoversComparator());
+
+    assertEquals(expected, routes);
+    assertNull(routes.get(routes.size() - 1));
+    assertNull(routes.get(routes.size() - 2));
+  }
+
+  /**
+   * Shifts durations and prices partly below zero, so the sign handling of the keys is covered.
+   *
+   * @param routes the routes to change
+   * @return the given routes
+   */
+  private static List<Route> withNegativeKeys(List<Route> routes) {
+    for (Route route : routes) {
+      route.setTotalDuration(route.getTotalDuration() - 100);
+      route.setTotalPrice(route.getTotalPrice() / 8.0 - 25.0);
+    }
+    return routes;
+  }
+
+  @Test
+  void testForComparator() {
+    assertEquals(RouteSortKey.PRICE, RouteSortKey.forComparator(new RoutePriceComparator()));
+    assertEquals(
+        RouteSortKey.DURATION_DESCENDING, RouteSortKey.forComparator(new RouteSlowestComparator()));
+    assertNull(RouteSortKey.forComparator(new RouteCombinedComparator()));
+    assertNull(RouteSortKey.forComparator(Comparator.comparing(Route::getFlights)));
+  }
+}
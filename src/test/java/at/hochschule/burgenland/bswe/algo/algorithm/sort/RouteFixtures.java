@@ -0,0 +1,53 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteFixtures.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/** Seeded route lists shared by the sorter tests. */
+public final class RouteFixtures {
+
+  private RouteFixtures() {}
+
+  /**
+   * Generates routes with random durations, stopovers and one of 50 prices.
+   *
+   * @param count number of routes
+   * @param seed seed of the random values
+   * @return modifiable list of routes; the ID and flights of each route are its position
+   */
+  public static List<Route> randomRoutes(int count, long seed) {
+    return randomRoutes(count, 50, seed);
+  }
+
+  /**
+   * Generates routes with random durations, stopovers and a limited number of prices, so that many
+   * routes compare equal by price.
+   *
+   * @param count number of routes
+   * @param distinctPrices number of different prices
+   * @param seed seed of the random values
+   * @return modifiable list of routes; the ID and flights of each route are its position
+   */
+  public static List<Route> randomRoutes(int count, int distinctPrices, long seed) {
+    Random random = new Random(seed);
+    List<Route> routes = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      routes.add(
+          new Route(
+              i,
+              String.valueOf(i),
+              random.nextInt(600),
+              random.nextInt(distinctPrices) * 10.0,
+              random.nextInt(4)));
+    }
+    return routes;
+  }
+}
@@ -0,0 +1,101 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * TopKSelectorTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort;
+
+import static at.hochschule.burgenland.bswe.algo.algorithm.sort.RouteFixtures.randomRoutes;
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteCombinedComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteDurationComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RoutePriceComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteSlowestComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteStopoversComparator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TopKSelectorTest {
+
+  private final TopKSelector selector = new TopKSelector();
+
+  @Test
+  void testUnstableSelectionMatchesSortedPrefix() {
+    List<Route> routes = randomRoutes(50_000, 1);
+    List<Route> original = new ArrayList<>(routes);
+    for (Comparator<Route> comparator :
+        List.of(
+            new RoutePriceComparator(),
+            new RouteDurationComparator(),
+            new RouteSlowestComparator(),
+            new RouteCombinedComparator())) {
+      for (int k : new int[] {1, 10, 20, 1000}) {
+        List<Route> expected = new ArrayList<>(routes);
+        expected.sort(comparator);
+
+        List<Route> top = selector.select(routes, k, comparator, false);
+
+        assertEquals(k, top.size());
+        for (int i = 0; i < k; i++) {
+          assertEquals(0, comparator.compare(expected.get(i), top.get(i)), "k=" + k + " i=" + i);
+        }
+      }
+    }
+    assertEquals(original, routes);
+  }
+
+  @Test
+  void testStableSelectionKeepsInputOrderOfTies() {
+    List<Route> routes = randomRoutes(20_000, 2);
+    List<Route> expected = new ArrayList<>(routes);
+    expected.sort(new RouteStopoversComparator());
+
+    List<Route> top = selector.select(routes, 100, new RouteStopoversComparator(), true);
+
+    // All stopover values repeat thousands of times, so only a stable selection matches
+    assertEquals(expected.subList(0, 100), top);
+  }
+
+  @Test
+  void testStreamingSelection() {
+    List<Route> routes = randomRoutes(10_000, 3);
+    List<Route> expected = new ArrayList<>(routes);
+    expected.sort(new RoutePriceComparator());
+
+    List<Route> top = selector.select(routes.iterator(), 20, new RoutePriceComparator());
+
+    assertEquals(expected.subList(0, 20), top);
+  }
+
+  @Test
+  void testKLargerThanInputAndEdgeCases() {
+    List<Route> routes = randomRoutes(15, 4);
+    List<Route> expected = new ArrayList<>(routes);
+    expected.sort(new RouteCombinedComparator());
+
+    assertEquals(expected, selector.select(routes, 100, new RouteCombinedComparator(), true));
+    assertEquals(15, selector.select(routes, 100, new RouteCombinedComparator(), false).size());
+    assertTrue(selector.select(routes, 0, new RoutePriceComparator(), false).isEmpty());
+    assertTrue(selector.select((List<Route>) null, 5, new RoutePriceComparator(), true).isEmpty());
+    List<Route> empty = new ArrayList<>();
+    assertTrue(selector.select(empty.iterator(), 5, new RoutePriceComparator()).isEmpty());
+  }
+
+  @Test
+  void testAllEqualKeys() {
+    List<Route> routes = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      routes.add(new Route(i, String.valueOf(i), 60, 100.0, 0));
+    }
+
+    List<Route> top = selector.select(routes, 10, new RoutePriceComparator(), false);
+
+    assertEquals(10, top.size());
+    top.forEach(route -> assertEquals(100.0, route.getTotalPrice()));
+  }
+}
@@ -0,0 +1,120 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * SortingAlgorithmTest.java Package: at.hochschule.burgenland.bswe.algo.algorithm.sort.base
+ * Authors: Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.algorithm.sort.base;
+
+import static at.hochschule.burgenland.bswe.algo.algorithm.sort.RouteFixtures.randomRoutes;
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.AdaptiveMergeSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.MergeSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.ParallelMergeSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.ParallelQuickSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.QuickSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.RadixSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteDurationComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RoutePriceComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteStopoversComparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class SortingAlgorithmTest {
+
+  /** Small pool shared by the parallel sorters of all invocations. */
+  private static final ForkJoinPool POOL = new ForkJoinPool(2);
+
+  @AfterAll
+  static void shutDownPool() {
+    POOL.shutdown();
+  }
+
+  static Stream<SortingAlgorithm> algorithms() {
+    return Stream.of(
+        new AdaptiveMergeSortAlgorithm(),
+        new MergeSortAlgorithm(),
+        new QuickSortAlgorithm(),
+        new ParallelMergeSortAlgorithm(POOL, 64),
+        new ParallelQuickSortAlgorithm(POOL, 64),
+        new RadixSortAlgorithm());
+  }
+
+  @ParameterizedTest
+  @MethodSource("algorithms")
+  void testSortArraySliceLeavesRestUntouched(SortingAlgorithm algorithm) {
+    Route[] routes = randomRoutes(5000, 1).toArray(new Route[0]);
+    Route[] original = routes.clone();
+
+    algorithm.sort(routes, 1000, 4000, new RouteDurationComparator());
+
+    Route[] expected = Arrays.copyOfRange(original, 1000, 4000);
+    Arrays.sort(expected, new RouteDurationComparator());
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i].getTotalDuration(), routes[1000 + i].getTotalDuration());
+    }
+    assertArrayEquals(
+        Arrays.copyOfRange(original, 0, 1000), Arrays.copyOfRange(routes, 0, 1000));
+    assertArrayEquals(
+        Arrays.copyOfRange(original, 4000, 5000), Arrays.copyOfRange(routes, 4000, 5000));
+  }
+
+  @ParameterizedTest
+  @MethodSource("algorithms")
+  void testSortLinkedListAndSubList(SortingAlgorithm algorithm) {
+    List<Route> linked = new LinkedList<>(randomRoutes(3000, 2));
+    List<Route> backing = randomRoutes(3000, 3);
+    List<Route> view = backing.subList(500, 2500);
+
+    algorithm.sort(linked, new RoutePriceComparator());
+    algorithm.sort(view, new RoutePriceComparator());
+
+    for (int i = 1; i < linked.size(); i++) {
+      assertTrue(linked.get(i - 1).getTotalPrice() <= linked.get(i).getTotalPrice());
+    }
+    for (int i = 1; i < view.size(); i++) {
+      assertTrue(view.get(i - 1).getTotalPrice() <= view.get(i).getTotalPrice());
+    }
+    assertEquals(3000, backing.size());
+  }
+
+  @ParameterizedTest
+  @MethodSource("algorithms")
+  void testSortManyEqualKeys(SortingAlgorithm algorithm) {
+    Random random = new Random(5);
+    List<Route> routes = new ArrayList<>();
+    for (int i = 0; i < 200_000; i++) {
+      routes.add(new Route(i, String.valueOf(i), 60, 100.0, random.nextInt(4)));
+    }
+
+    algorithm.sort(routes, new RouteStopoversComparator());
+
+    for (int i = 1; i < routes.size(); i++) {
+      assertTrue(routes.get(i - 1).getStopovers() <= routes.get(i).getStopovers());
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("algorithms")
+  void testSortArrayRejectsInvalidSlice(SortingAlgorithm algorithm) {
+    Route[] routes = randomRoutes(10, 4).toArray(new Route[0]);
+
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> algorithm.sort(routes, 5, 11, new RoutePriceComparator()));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> algorithm.sort(routes, 6, 5, new RoutePriceComparator()));
+    assertDoesNotThrow(() -> algorithm.sort((Route[]) null, 0, 0, new RoutePriceComparator()));
+  }
+}
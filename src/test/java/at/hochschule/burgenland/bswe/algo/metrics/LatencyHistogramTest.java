@@ -0,0 +1,98 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * LatencyHistogramTest.java Package: at.hochschule.burgenland.bswe.algo.metrics Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  void testEmptyHistogramReportsZero() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0.0, histogram.getMean());
+    assertEquals(0, histogram.getValueAtPercentile(99.0));
+  }
+
+  @Test
+  void testSmallValuesAreExact() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int value = 1; value <= 10; value++) {
+      histogram.record(value);
+    }
+
+    assertEquals(10, histogram.getCount());
+    assertEquals(10, histogram.getMax());
+    assertEquals(5.5, histogram.getMean());
+    assertEquals(5, histogram.getValueAtPercentile(50.0));
+    assertEquals(9, histogram.getValueAtPercentile(90.0));
+    assertEquals(1, histogram.getValueAtPercentile(0.0));
+    assertEquals(10, histogram.getValueAtPercentile(100.0));
+  }
+
+  @Test
+  void testPercentilesStayWithinRelativeError() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    Random random = new Random(42);
+    long[] values = new long[10_000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = 1_000 + (long) (random.nextDouble() * 50_000_000);
+      histogram.record(values[i]);
+    }
+    Arrays.sort(values);
+
+    for (double percentile : new double[] {50.0, 90.0, 99.0, 99.9}) {
+      long exact = values[(int) Math.ceil(percentile / 100.0 * values.length) - 1];
+      long reported = histogram.getValueAtPercentile(percentile);
+      assertTrue(reported >= exact, percentile + ": " + reported + " < " + exact);
+      assertTrue(reported <= exact * (1.0 + 1.0 / LatencyHistogram.SUB_BUCKETS), "" + percentile);
+    }
+    assertEquals(values[values.length - 1], histogram.getMax());
+  }
+
+  @Test
+  void testBucketsCoverTheWholeLongRange() {
+    for (long value : new long[] {0, 31, 32, 33, 63, 64, 1_000_000, Long.MAX_VALUE}) {
+      int index = LatencyHistogram.bucketIndex(value);
+      assertTrue(LatencyHistogram.bucketUpperBound(index) >= value, "" + value);
+      if (index > 0) {
+        assertTrue(LatencyHistogram.bucketUpperBound(index - 1) < value, "" + value);
+      }
+    }
+
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(Long.MAX_VALUE);
+    histogram.record(-5);
+    assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100.0));
+    assertEquals(0, histogram.getValueAtPercentile(50.0));
+  }
+
+  @Test
+  void testResetDiscardsValues() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(123);
+    histogram.reset();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getValueAtPercentile(50.0));
+  }
+
+  @Test
+  void testRejectsInvalidPercentile() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1.0));
+    assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(100.1));
+  }
+}
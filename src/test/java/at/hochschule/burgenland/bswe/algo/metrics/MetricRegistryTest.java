@@ -0,0 +1,76 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * MetricRegistryTest.java Package: at.hochschule.burgenland.bswe.algo.metrics Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SortedMap;
+import org.junit.jupiter.api.Test;
+
+class MetricRegistryTest {
+
+  @Test
+  void testSameNameReturnsSameMetric() {
+    MetricRegistry registry = new MetricRegistry();
+
+    assertSame(registry.counter("a.count"), registry.counter("a.count"));
+    assertSame(registry.histogram("a.latency"), registry.histogram("a.latency"));
+    assertNotSame(registry.counter("a.count"), registry.counter("b.count"));
+  }
+
+  @Test
+  void testSnapshotFlattensAllMetrics() {
+    MetricRegistry registry = new MetricRegistry();
+    registry.counter("search.nodes").add(7);
+    registry.histogram("search.latency").record(100);
+    registry.histogram("search.latency").record(300);
+    registry.gauge("cache.hit.rate", () -> 0.25);
+
+    SortedMap<String, Number> snapshot = registry.snapshot();
+
+    assertEquals(7L, snapshot.get("search.nodes"));
+    assertEquals(0.25, snapshot.get("cache.hit.rate"));
+    assertEquals(2L, snapshot.get("search.latency.count"));
+    assertEquals(200.0, snapshot.get("search.latency.mean"));
+    assertEquals(300L, snapshot.get("search.latency.max"));
+    assertEquals(300L, snapshot.get("search.latency.p99"));
+    assertTrue(snapshot.containsKey("search.latency.p50"));
+    assertTrue(snapshot.containsKey("search.latency.p90"));
+    assertTrue(snapshot.containsKey("search.latency.p999"));
+    assertEquals("cache.hit.rate", snapshot.firstKey());
+  }
+
+  @Test
+  void testResetClearsCountersAndHistograms() {
+    MetricRegistry registry = new MetricRegistry();
+    registry.counter("search.nodes").add(7);
+    registry.histogram("search.latency").record(100);
+    registry.gauge("cache.hit.rate", () -> 0.5);
+
+    registry.reset();
+
+    SortedMap<String, Number> snapshot = registry.snapshot();
+    assertEquals(0L, snapshot.get("search.nodes"));
+    assertEquals(0L, snapshot.get("search.latency.count"));
+    assertEquals(0.5, snapshot.get("cache.hit.rate"));
+  }
+
+  @Test
+  void testHitRate() {
+    Counter hits = new Counter();
+    Counter misses = new Counter();
+    assertEquals(0.0, Metrics.hitRate(hits, misses));
+
+    hits.add(3);
+    misses.increment();
+    assertEquals(0.75, Metrics.hitRate(hits, misses));
+
+    Counter coalesced = new Counter();
+    coalesced.add(4);
+    assertEquals(0.375, Metrics.hitRate(hits, misses, coalesced));
+  }
+}
@@ -0,0 +1,71 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * MetricsDisabledTest.java Package: at.hochschule.burgenland.bswe.algo.metrics Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.CachingRoutingCalculator;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.MergeSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Airport;
+import at.hochschule.burgenland.bswe.algo.model.Flight;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RoutePriceComparator;
+import at.hochschule.burgenland.bswe.algo.model.enums.RouteType;
+import at.hochschule.burgenland.bswe.algo.structure.Graph;
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Checks that the instrumented code records nothing with metrics off, the default. */
+class MetricsDisabledTest {
+
+  @BeforeEach
+  void setUp() {
+    assumeFalse(Metrics.ENABLED, "Run without -Drouting.metrics=true");
+  }
+
+  @Test
+  void testRoutingAndSortingRecordNothing() {
+    Graph graph =
+        new Graph(
+            List.of(
+                new Airport(1, "VIE", "Vienna", "Austria", 48.1103, 16.5697),
+                new Airport(2, "JFK", "New York", "United States", 40.6413, -73.7781)),
+            List.of(
+                new Flight(1, "VIE", "JFK", "Austrian", "OS35", 480, 900.0, LocalTime.of(10, 0))));
+    List<Route> routes = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      routes.add(new Route(i, String.valueOf(i), 60, 10.0 * (10 - i), 0));
+    }
+
+    CachingRoutingCalculator calculator = new CachingRoutingCalculator();
+    assertNotNull(calculator.findRoute(graph, "VIE", "JFK", RouteType.CHEAPEST));
+    assertNotNull(calculator.findRoute(graph, "VIE", "JFK", RouteType.CHEAPEST));
+    assertNotNull(calculator.findRoute(graph, "VIE", "JFK", RouteType.FEWEST_STOPOVERS));
+    new MergeSortAlgorithm().sort(routes, new RoutePriceComparator());
+
+    Map<String, Number> snapshot = Metrics.registry().snapshot();
+    assertTrue(snapshot.containsKey("dijkstra.searches"));
+    snapshot.forEach((name, value) -> assertEquals(0.0, value.doubleValue(), name));
+  }
+
+  @Test
+  void testStartExportersDoesNothing() throws Exception {
+    try (Closeable exporters = Metrics.startExporters()) {
+      assertFalse(
+          ManagementFactory.getPlatformMBeanServer()
+              .isRegistered(new ObjectName(Metrics.OBJECT_NAME)));
+    }
+  }
+}
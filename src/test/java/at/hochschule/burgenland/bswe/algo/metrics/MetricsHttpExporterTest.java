@@ -0,0 +1,51 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * MetricsHttpExporterTest.java Package: at.hochschule.burgenland.bswe.algo.metrics Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.Test;
+
+class MetricsHttpExporterTest {
+
+  @Test
+  void testRendersOneLinePerMetric() {
+    MetricRegistry registry = new MetricRegistry();
+    registry.counter("dijkstra.edges.relaxed").add(5);
+    registry.gauge("routecache.hit.rate", () -> 0.5);
+
+    assertEquals(
+        "dijkstra_edges_relaxed 5\nroutecache_hit_rate 0.5\n",
+        MetricsHttpExporter.render(registry));
+  }
+
+  @Test
+  void testServesMetricsOnLoopback() throws Exception {
+    MetricRegistry registry = new MetricRegistry();
+    registry.counter("bfs.searches").add(2);
+
+    try (MetricsHttpExporter exporter = MetricsHttpExporter.start(registry, 0)) {
+      HttpClient client = HttpClient.newHttpClient();
+      URI uri = URI.create("http://127.0.0.1:" + exporter.getPort() + MetricsHttpExporter.PATH);
+
+      HttpResponse<String> response =
+          client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+      assertEquals(200, response.statusCode());
+      assertTrue(response.body().contains("bfs_searches 2\n"));
+
+      HttpResponse<String> post =
+          client.send(
+              HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.noBody()).build(),
+              HttpResponse.BodyHandlers.ofString());
+      assertEquals(405, post.statusCode());
+    }
+  }
+}
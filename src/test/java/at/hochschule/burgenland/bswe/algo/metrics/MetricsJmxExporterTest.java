@@ -0,0 +1,51 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * MetricsJmxExporterTest.java Package: at.hochschule.burgenland.bswe.algo.metrics Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+class MetricsJmxExporterTest {
+
+  @Test
+  void testExposesMetricsAsAttributes() throws Exception {
+    MetricRegistry registry = new MetricRegistry();
+    registry.counter("dijkstra.nodes.settled").add(42);
+    MBeanServer server = MBeanServerFactory.newMBeanServer();
+    ObjectName name = new ObjectName("test:type=Metrics");
+    server.registerMBean(new MetricsJmxExporter(registry), name);
+
+    assertEquals(42L, server.getAttribute(name, "dijkstra.nodes.settled"));
+
+    // Metrics created after registration show up as well
+    registry.histogram("bfs.latency").record(10);
+    assertTrue(
+        Arrays.stream(server.getMBeanInfo(name).getAttributes())
+            .map(MBeanAttributeInfo::getName)
+            .anyMatch("bfs.latency.p99"::equals));
+    assertEquals(1L, server.getAttribute(name, "bfs.latency.count"));
+  }
+
+  @Test
+  void testResetOperationAndUnknownAttribute() throws Exception {
+    MetricRegistry registry = new MetricRegistry();
+    registry.counter("routecache.hits").add(3);
+    MetricsJmxExporter exporter = new MetricsJmxExporter(registry);
+
+    exporter.invoke("reset", new Object[0], new String[0]);
+
+    assertEquals(0L, exporter.getAttribute("routecache.hits"));
+    assertThrows(AttributeNotFoundException.class, () -> exporter.getAttribute("missing"));
+  }
+}
@@ -0,0 +1,101 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * MetricsTest.java Package: at.hochschule.burgenland.bswe.algo.metrics Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.CachingRoutingCalculator;
+import at.hochschule.burgenland.bswe.algo.algorithm.sort.MergeSortAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Airport;
+import at.hochschule.burgenland.bswe.algo.model.Flight;
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RoutePriceComparator;
+import at.hochschule.burgenland.bswe.algo.model.enums.RouteType;
+import at.hochschule.burgenland.bswe.algo.structure.Graph;
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Checks the instrumented code; the build runs this class in its own fork with metrics on. */
+class MetricsTest {
+
+  private Graph graph;
+
+  @BeforeEach
+  void setUp() {
+    assumeTrue(Metrics.ENABLED, "Run with -Drouting.metrics=true");
+    List<Airport> airports =
+        List.of(
+            new Airport(1, "VIE", "Vienna", "Austria", 48.1103, 16.5697),
+            new Airport(2, "LHR", "London", "United Kingdom", 51.4700, -0.4543),
+            new Airport(3, "JFK", "New York", "United States", 40.6413, -73.7781));
+    List<Flight> flights =
+        List.of(
+            new Flight(1, "VIE", "LHR", "Austrian", "OS45", 90, 120.0, LocalTime.of(8, 0)),
+            new Flight(2, "LHR", "JFK", "British", "BA1", 420, 380.0, LocalTime.of(11, 0)),
+            new Flight(3, "VIE", "JFK", "Austrian", "OS35", 480, 900.0, LocalTime.of(10, 0)));
+    graph = new Graph(airports, flights);
+  }
+
+  @Test
+  void testRoutingRecordsSearchWorkAndCacheHits() {
+    Map<String, Number> before = Metrics.registry().snapshot();
+    CachingRoutingCalculator calculator = new CachingRoutingCalculator();
+
+    assertNotNull(calculator.findRoute(graph, "VIE", "JFK", RouteType.CHEAPEST));
+    assertNotNull(calculator.findRoute(graph, "VIE", "JFK", RouteType.CHEAPEST));
+    assertNotNull(calculator.findRoute(graph, "VIE", "JFK", RouteType.FEWEST_STOPOVERS));
+
+    Map<String, Number> after = Metrics.registry().snapshot();
+    assertEquals(1, delta(before, after, "routing.cheapest.latency.count"));
+    assertEquals(1, delta(before, after, "routing.fewest_stopovers.latency.count"));
+    assertEquals(1, delta(before, after, "dijkstra.searches"));
+    assertEquals(3, delta(before, after, "dijkstra.nodes.settled"));
+    assertEquals(3, delta(before, after, "dijkstra.edges.scanned"));
+    assertEquals(3, delta(before, after, "dijkstra.edges.relaxed"));
+    assertEquals(4, delta(before, after, "dijkstra.heap.pushes"));
+    assertEquals(1, delta(before, after, "bfs.searches"));
+    assertEquals(1, delta(before, after, "routecache.hits"));
+    assertEquals(2, delta(before, after, "routecache.misses"));
+    assertTrue(after.get("routecache.hit.rate").doubleValue() > 0.0);
+  }
+
+  @Test
+  void testSortersRecordLatency() {
+    List<Route> routes = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      routes.add(new Route(i, String.valueOf(i), 60, 10.0 * (10 - i), 0));
+    }
+    Map<String, Number> before = Metrics.registry().snapshot();
+
+    new MergeSortAlgorithm().sort(routes, new RoutePriceComparator());
+
+    Map<String, Number> after = Metrics.registry().snapshot();
+    assertEquals(1, delta(before, after, "sort.MergeSortAlgorithm.latency.count"));
+  }
+
+  @Test
+  void testStartExportersRegistersMBean() throws Exception {
+    ObjectName name = new ObjectName(Metrics.OBJECT_NAME);
+    try (Closeable exporters = Metrics.startExporters()) {
+      assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+    assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+  }
+
+  private static long delta(Map<String, Number> before, Map<String, Number> after, String name) {
+    assertTrue(after.containsKey(name), name);
+    return after.get(name).longValue() - before.getOrDefault(name, 0L).longValue();
+  }
+}
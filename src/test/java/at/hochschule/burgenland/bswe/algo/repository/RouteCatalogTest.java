@@ -0,0 +1,150 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteCatalogTest.java Package: at.hochschule.burgenland.bswe.algo.repository Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RouteCatalogTest {
+
+  private RouteCatalog catalog;
+
+  @BeforeEach
+  void setUp() {
+    catalog =
+        new RouteCatalog(
+            List.of(
+                new Route(7, "1", 480, 450.0, 0),
+                new Route(3, "2-3", 510, 500.0, 1),
+                new Route(12, "2-4-5", 600, 600.0, 2),
+                new Route(5, "6-7", 540, 520.0, 1)));
+  }
+
+  @Test
+  void testFindById() {
+    assertEquals("2-3", catalog.findById(3).getFlights());
+    assertEquals("2-4-5", catalog.findById(12).getFlights());
+    assertNull(catalog.findById(4));
+    assertNull(catalog.findById(-1));
+  }
+
+  @Test
+  void testFindAllByIdKeepsRequestOrderAndSkipsUnknownIds() {
+    List<Integer> ids = catalog.findAllById(12, 99, 7, 3).stream().map(Route::getId).toList();
+
+    assertEquals(List.of(12, 7, 3), ids);
+  }
+
+  @Test
+  void testFindByStopovers() {
+    assertEquals(List.of(3, 5), ids(catalog.findByStopovers(1)));
+    assertEquals(List.of(7), ids(catalog.findByStopovers(0)));
+    assertTrue(catalog.findByStopovers(3).isEmpty());
+  }
+
+  @Test
+  void testFindByPriceRange() {
+    assertEquals(List.of(3, 5), ids(catalog.findByPriceRange(500.0, 520.0)));
+    assertEquals(List.of(7, 3, 5, 12), ids(catalog.findByPriceRange(0.0, 1000.0)));
+    assertTrue(catalog.findByPriceRange(700.0, 800.0).isEmpty());
+    assertTrue(catalog.findByPriceRange(600.0, 400.0).isEmpty());
+  }
+
+  @Test
+  void testFindByDurationRange() {
+    assertEquals(List.of(3, 5, 12), ids(catalog.findByDurationRange(500, 600)));
+    assertEquals(List.of(7), ids(catalog.findByDurationRange(480, 480)));
+  }
+
+  @Test
+  void testLargeCatalog() {
+    List<Route> routes = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      routes.add(new Route(i * 31, String.valueOf(i), i % 600, i, i % 4));
+    }
+    Collections.shuffle(routes);
+    RouteCatalog large = new RouteCatalog(routes);
+
+    assertEquals(10_000, large.size());
+    for (int i = 0; i < 10_000; i++) {
+      assertEquals(String.valueOf(i), large.findById(i * 31).getFlights());
+    }
+    assertNull(large.findById(1));
+    assertEquals(2_500, large.findByStopovers(3).size());
+    assertEquals(101, large.findByPriceRange(100.0, 200.0).size());
+
+    List<Integer> stopoverIds = ids(large.findByStopovers(3));
+    assertEquals(stopoverIds.stream().sorted().toList(), stopoverIds);
+    List<Route> byDuration = new ArrayList<>(routes);
+    byDuration.sort(
+        Comparator.comparingInt(Route::getTotalDuration).thenComparingInt(Route::getId));
+    assertEquals(ids(byDuration), ids(large.findByDurationRange(0, 600)));
+  }
+
+  @Test
+  void testEmptyCatalog() {
+    RouteCatalog empty = new RouteCatalog(List.of());
+
+    assertEquals(0, empty.size());
+    assertNull(empty.findById(1));
+    assertTrue(empty.findByPriceRange(0.0, 100.0).isEmpty());
+  }
+
+  @Test
+  void testStoreCatalogIsRebuiltAfterChanges(@TempDir Path directory) throws IOException {
+    try (RouteStore store = new RouteStore(directory)) {
+      store.save(new Route(0, "1", 60, 100.0, 0));
+      RouteCatalog first = store.getCatalog();
+      assertSame(first, store.getCatalog());
+
+      store.save(new Route(0, "2", 90, 150.0, 0));
+      RouteCatalog second = store.getCatalog();
+      assertNotSame(first, second);
+      assertEquals(2, second.size());
+      assertNull(first.findById(2));
+      assertNotNull(second.findById(2));
+    }
+  }
+
+  @Test
+  void testStoreCatalogIsNeverStaleAfterConcurrentChanges(@TempDir Path directory)
+      throws Exception {
+    try (RouteStore store = new RouteStore(directory)) {
+      Thread reader =
+          new Thread(
+              () -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                  store.getCatalog();
+                }
+              });
+      reader.start();
+      try {
+        for (int i = 1; i <= 500; i++) {
+          store.save(new Route(0, String.valueOf(i), 60, i, 0));
+          assertEquals(i, store.getCatalog().size());
+        }
+      } finally {
+        reader.interrupt();
+        reader.join();
+      }
+    }
+  }
+
+  private static List<Integer> ids(List<Route> routes) {
+    return routes.stream().map(Route::getId).toList();
+  }
+}
@@ -10,11 +10,16 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import at.hochschule.burgenland.bswe.algo.model.Route;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class RouteRepositoryTest {
 
@@ -104,73 +109,83 @@ class RouteRepositoryTest {
   }
 
   @Test
-  void testSaveRoutesWithValidData() {
+  void testWriteRoutesWithValidData(@TempDir Path directory) {
+    Path file = directory.resolve("routes.csv");
     List<Route> routes = new ArrayList<>();
     routes.add(new Route(1, "1-2-3", 180, 300.0, 2));
     routes.add(new Route(2, "4-5", 120, 200.0, 1));
 
-    // This should not throw an exception
-    assertDoesNotThrow(() -> repository.saveRoutes(routes));
+    assertDoesNotThrow(() -> repository.writeRoutes(file, routes));
+    assertDoesNotThrow(() -> assertEquals(routes, repository.loadRoutes(file)));
   }
 
   @Test
-  void testSaveRoutesWithNullList() {
-    // Should handle null list gracefully
-    assertDoesNotThrow(() -> repository.saveRoutes(null));
+  void testWriteRoutesWithNullList(@TempDir Path directory) {
+    Path file = directory.resolve("routes.csv");
+    assertThrows(
+        NullPointerException.class, () -> repository.writeRoutes(file, (List<Route>) null));
+    assertFalse(Files.exists(file));
   }
 
   @Test
-  void testSaveRoutesWithEmptyList() {
-    // Should handle empty list gracefully
-    assertDoesNotThrow(() -> repository.saveRoutes(Collections.emptyList()));
+  void testWriteRoutesWithEmptyList(@TempDir Path directory) {
+    Path file = directory.resolve("routes.csv");
+    assertDoesNotThrow(() -> repository.writeRoutes(file, Collections.emptyList()));
+    assertDoesNotThrow(() -> assertTrue(repository.loadRoutes(file).isEmpty()));
   }
 
   @Test
-  void testSaveRoutesWithSingleRoute() {
+  void testWriteRoutesWithSingleRoute(@TempDir Path directory) {
+    Path file = directory.resolve("routes.csv");
     List<Route> routes = new ArrayList<>();
     routes.add(new Route(1, "1", 60, 100.0, 0));
 
-    assertDoesNotThrow(() -> repository.saveRoutes(routes));
+    assertDoesNotThrow(() -> repository.writeRoutes(file, routes));
   }
 
   @Test
-  void testSaveRoutesWithMultipleRoutes() {
+  void testWriteRoutesWithMultipleRoutes(@TempDir Path directory) {
+    Path file = directory.resolve("routes.csv");
     List<Route> routes = new ArrayList<>();
     routes.add(new Route(1, "1-2-3", 180, 300.0, 2));
     routes.add(new Route(2, "4-5", 120, 200.0, 1));
     routes.add(new Route(3, "6-7-8-9", 240, 400.0, 3));
 
-    assertDoesNotThrow(() -> repository.saveRoutes(routes));
+    assertDoesNotThrow(() -> repository.writeRoutes(file, routes));
   }
 
   @Test
-  void testSaveRoutesWithZeroValues() {
+  void testWriteRoutesWithZeroValues(@TempDir Path directory) {
+    Path file = directory.resolve("routes.csv");
     List<Route> routes = new ArrayList<>();
     routes.add(new Route(0, "", 0, 0.0, 0));
 
-    assertDoesNotThrow(() -> repository.saveRoutes(routes));
+    assertDoesNotThrow(() -> repository.writeRoutes(file, routes));
   }
 
   @Test
-  void testSaveRoutesWithNegativeValues() {
+  void testWriteRoutesWithNegativeValues(@TempDir Path directory) {
+    Path file = directory.resolve("routes.csv");
     List<Route> routes = new ArrayList<>();
     routes.add(new Route(-1, "1-2", -60, -100.0, -1));
 
-    assertDoesNotThrow(() -> repository.saveRoutes(routes));
+    assertDoesNotThrow(() -> repository.writeRoutes(file, routes));
   }
 
   @Test
-  void testSaveRoutesWithLargeValues() {
+  void testWriteRoutesWithLargeValues(@TempDir Path directory) {
+    Path file = directory.resolve("routes.csv");
     List<Route> routes = new ArrayList<>();
     routes.add(
         new Route(
             Integer.MAX_VALUE, "1-2-3", Integer.MAX_VALUE, Double.MAX_VALUE, Integer.MAX_VALUE));
 
-    assertDoesNotThrow(() -> repository.saveRoutes(routes));
+    assertDoesNotThrow(() -> repository.writeRoutes(file, routes));
   }
 
   @Test
-  void testSaveRoutesWithNullFlights() {
+  void testWriteRoutesWithNullFlights(@TempDir Path directory) {
+    Path file = directory.resolve("routes.csv");
     List<Route> routes = new ArrayList<>();
     Route route = new Route();
     route.setId(1);
@@ -180,35 +195,38 @@ class RouteRepositoryTest {
     route.setStopovers(0);
     routes.add(route);
 
-    assertDoesNotThrow(() -> repository.saveRoutes(routes));
+    assertDoesNotThrow(() -> repository.writeRoutes(file, routes));
   }
 
   @Test
-  void testSaveRoutesWithEmptyFlights() {
+  void testWriteRoutesWithEmptyFlights(@TempDir Path directory) {
+    Path file = directory.resolve("routes.csv");
     List<Route> routes = new ArrayList<>();
     routes.add(new Route(1, "", 60, 100.0, 0));
 
-    assertDoesNotThrow(() -> repository.saveRoutes(routes));
+    assertDoesNotThrow(() -> repository.writeRoutes(file, routes));
   }
 
   @Test
-  void testSaveRoutesWithSpecialCharacters() {
+  void testWriteRoutesWithSpecialCharacters(@TempDir Path directory) {
+    Path file = directory.resolve("routes.csv");
     List<Route> routes = new ArrayList<>();
     routes.add(new Route(1, "1-2-3-4-5", 180, 300.0, 4));
     routes.add(new Route(2, "10-20-30", 240, 400.0, 2));
 
-    assertDoesNotThrow(() -> repository.saveRoutes(routes));
+    assertDoesNotThrow(() -> repository.writeRoutes(file, routes));
   }
 
   @Test
-  void testSaveRoutesPerformance() {
+  void testWriteRoutesPerformance(@TempDir Path directory) {
+    Path file = directory.resolve("routes.csv");
     List<Route> routes = new ArrayList<>();
     for (int i = 0; i < 1000; i++) {
       routes.add(new Route(i, "1-2-3", 180, 300.0, 2));
     }
 
     long startTime = System.currentTimeMillis();
-    assertDoesNotThrow(() -> repository.saveRoutes(routes));
+    assertDoesNotThrow(() -> repository.writeRoutes(file, routes));
     long endTime = System.currentTimeMillis();
 
     long duration = endTime - startTime;
@@ -218,13 +236,14 @@ class RouteRepositoryTest {
   }
 
   @Test
-  void testSaveRoutesMemoryUsage() {
+  void testWriteRoutesMemoryUsage(@TempDir Path directory) {
+    Path file = directory.resolve("routes.csv");
     List<Route> routes = new ArrayList<>();
     for (int i = 0; i < 100; i++) {
       routes.add(new Route(i, "1-2-3", 180, 300.0, 2));
     }
 
-    assertDoesNotThrow(() -> repository.saveRoutes(routes));
+    assertDoesNotThrow(() -> repository.writeRoutes(file, routes));
 
     // Verify that all routes are properly initialized
     for (Route route : routes) {
@@ -232,4 +251,41 @@ class RouteRepositoryTest {
       assertTrue(route.getId() >= 0);
     }
   }
+
+  @Test
+  void testStreamRoutesThroughIterator(@TempDir Path directory) throws IOException {
+    Path file = directory.resolve("routes.csv");
+    List<Route> routes = List.of(new Route(1, "1-2", 120, 99.5, 1), new Route(2, "3", 60, 45.0, 0));
+
+    repository.writeRoutes(file, routes.iterator());
+    List<Route> streamed = new ArrayList<>();
+    long count = repository.forEachRoute(file, streamed::add);
+
+    assertEquals(2, count);
+    assertEquals(routes, streamed);
+    assertEquals(0, repository.forEachRoute(directory.resolve("missing.csv"), streamed::add));
+  }
+
+  @Test
+  void testWriteRoutesIteratorFailureKeepsExistingFile(@TempDir Path directory)
+      throws IOException {
+    Path file = directory.resolve("routes.csv");
+    repository.writeRoutes(file, List.of(new Route(1, "1", 60, 10.0, 0)));
+    Iterator<Route> failing =
+        new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return true;
+          }
+
+          @Override
+          public Route next() {
+            throw new UncheckedIOException(new IOException("run file lost"));
+          }
+        };
+
+    assertThrows(IOException.class, () -> repository.writeRoutes(file, failing));
+    assertEquals(1, repository.loadRoutes(file).size());
+    assertFalse(Files.exists(directory.resolve("routes.csv.tmp")));
+  }
 }
@@ -0,0 +1,213 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * RouteStoreTest.java Package: at.hochschule.burgenland.bswe.algo.repository Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.enums.RouteSortCriterion;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RouteStoreTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void testSaveAssignsIncreasingIds() throws IOException {
+    try (RouteStore store = new RouteStore(directory)) {
+      Route first = store.save(new Route(99, "1-2", 120, 200.0, 1));
+      Route second = store.save(new Route(99, "3", 60, 80.0, 0));
+
+      assertEquals(1, first.getId());
+      assertEquals(2, second.getId());
+      assertEquals("1-2", store.findById(1).getFlights());
+      assertEquals(List.of(1, 2), store.findAll().stream().map(Route::getId).toList());
+    }
+  }
+
+  @Test
+  void testSavedRoutesSurviveReopen() throws IOException {
+    try (RouteStore store = new RouteStore(directory)) {
+      store.save(new Route(0, "1-2", 120, 200.5, 1));
+      store.save(new Route(0, null, 60, 80.0, 0));
+      store.save(new Route(0, "4", 30, 50.0, 0));
+      assertTrue(store.delete(2));
+    }
+
+    try (RouteStore reopened = new RouteStore(directory)) {
+      assertEquals(2, reopened.size());
+      assertEquals(new Route(1, "1-2", 120, 200.5, 1), reopened.findById(1));
+      assertNull(reopened.findById(2));
+      assertEquals(4, reopened.save(new Route(0, "5", 10, 10.0, 0)).getId());
+    }
+  }
+
+  @Test
+  void testCompactWritesSnapshotAndTruncatesJournal() throws IOException {
+    try (RouteStore store = new RouteStore(directory)) {
+      store.save(new Route(0, "1", 60, 100.0, 0));
+      store.save(new Route(0, "2", 90, 150.0, 0));
+      store.compact();
+
+      assertEquals(0, store.getJournalEntries());
+      assertEquals(0, Files.size(directory.resolve(RouteStore.JOURNAL_FILE)));
+      store.save(new Route(0, "3", 30, 50.0, 0));
+    }
+
+    List<Route> snapshot =
+        new RouteRepository().loadRoutes(directory.resolve(RouteStore.SNAPSHOT_FILE));
+    assertEquals(2, snapshot.size());
+
+    try (RouteStore reopened = new RouteStore(directory)) {
+      assertEquals(3, reopened.size());
+      assertEquals("3", reopened.findById(3).getFlights());
+    }
+  }
+
+  @Test
+  void testTornJournalLineIsIgnored() throws IOException {
+    try (RouteStore store = new RouteStore(directory)) {
+      store.save(new Route(0, "1", 60, 100.0, 0));
+    }
+    Files.writeString(
+        directory.resolve(RouteStore.JOURNAL_FILE), "PUT,2,\"2-", StandardOpenOption.APPEND);
+
+    try (RouteStore reopened = new RouteStore(directory)) {
+      assertEquals(1, reopened.size());
+      assertNotNull(reopened.findById(1));
+      assertEquals(2, reopened.save(new Route(0, "3", 30, 50.0, 0)).getId());
+    }
+
+    try (RouteStore reopened = new RouteStore(directory)) {
+      assertEquals(2, reopened.size());
+      assertEquals(new Route(2, "3", 30, 50.0, 0), reopened.findById(2));
+      assertEquals(2, reopened.getJournalEntries());
+    }
+  }
+
+  @Test
+  void testConcurrentSavesGetUniqueIds() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try (RouteStore store = new RouteStore(directory)) {
+      List<Future<Integer>> futures =
+          IntStream.range(0, 400)
+              .mapToObj(
+                  i -> executor.submit(() -> store.save(new Route(0, "1-2", i, i, 1)).getId()))
+              .toList();
+
+      Set<Integer> ids = new HashSet<>();
+      for (Future<Integer> future : futures) {
+        ids.add(future.get());
+      }
+      assertEquals(400, ids.size());
+      assertEquals(400, store.size());
+    } finally {
+      executor.shutdown();
+    }
+
+    try (RouteStore reopened = new RouteStore(directory)) {
+      assertEquals(400, reopened.size());
+    }
+  }
+
+  @Test
+  void testRejectsLineBreaksInFlights() throws IOException {
+    try (RouteStore store = new RouteStore(directory)) {
+      assertThrows(IllegalArgumentException.class, () -> store.save(new Route(0, "1\n2", 1, 1, 0)));
+      assertEquals(0, store.size());
+    }
+  }
+
+  @Test
+  void testSaveAllIsDurableAsOneBatch() throws IOException {
+    List<Route> invalid = List.of(new Route(0, "1", 1, 1, 0), new Route(0, "2\r3", 1, 1, 0));
+    try (RouteStore store = new RouteStore(directory)) {
+      assertThrows(IllegalArgumentException.class, () -> store.saveAll(invalid));
+      assertEquals(0, store.size());
+
+      store.saveAll(List.of(new Route(0, "1", 60, 10.0, 0), new Route(0, "2", 90, 20.0, 0)));
+      assertEquals(2, store.getJournalEntries());
+    }
+
+    try (RouteStore reopened = new RouteStore(directory)) {
+      assertEquals(List.of(1, 2), reopened.findAll().stream().map(Route::getId).toList());
+    }
+  }
+
+  @Test
+  void testFindAllSortedMatchesStableSortForEveryCriterion() throws IOException {
+    try (RouteStore store = new RouteStore(directory)) {
+      saveSampleRoutes(store);
+      store.findAllSorted(RouteSortCriterion.PRICE);
+      store.save(new Route(0, "9", 45, 100.0, 0));
+      store.save(new Route(0, "10", 500, 10.0, 3));
+      assertTrue(store.delete(2));
+
+      for (RouteSortCriterion criterion : RouteSortCriterion.values()) {
+        assertEquals(
+            expectedOrder(store, criterion), store.findAllSorted(criterion), criterion.name());
+      }
+    }
+  }
+
+  @Test
+  void testSortOrdersArePersistedAndExtendedAfterReopen() throws IOException {
+    try (RouteStore store = new RouteStore(directory)) {
+      saveSampleRoutes(store);
+    }
+    assertTrue(Files.size(directory.resolve(RouteStore.ORDER_FILE)) > 0);
+
+    try (RouteStore reopened = new RouteStore(directory)) {
+      reopened.save(new Route(0, "9", 1, 1.0, 0));
+      assertTrue(reopened.delete(1));
+      for (RouteSortCriterion criterion : RouteSortCriterion.values()) {
+        assertEquals(expectedOrder(reopened, criterion), reopened.findAllSorted(criterion));
+      }
+    }
+  }
+
+  @Test
+  void testCorruptOrderFileIsRebuilt() throws IOException {
+    try (RouteStore store = new RouteStore(directory)) {
+      saveSampleRoutes(store);
+    }
+    Files.write(directory.resolve(RouteStore.ORDER_FILE), new byte[] {1, 2, 3});
+
+    try (RouteStore reopened = new RouteStore(directory)) {
+      assertEquals(
+          expectedOrder(reopened, RouteSortCriterion.DURATION),
+          reopened.findAllSorted(RouteSortCriterion.DURATION));
+    }
+  }
+
+  private static void saveSampleRoutes(RouteStore store) {
+    store.save(new Route(0, "1", 90, 300.0, 1));
+    store.save(new Route(0, "2", 60, 100.0, 0));
+    store.save(new Route(0, "3", 60, 300.0, 2));
+    store.save(new Route(0, "4", 120, 100.0, 1));
+    store.save(new Route(0, "5", 30, 250.0, 0));
+  }
+
+  private static List<Route> expectedOrder(RouteStore store, RouteSortCriterion criterion) {
+    List<Route> expected = new ArrayList<>(store.findAll());
+    expected.sort(criterion.getComparator());
+    return expected;
+  }
+}
@@ -0,0 +1,148 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * SortedRouteViewTest.java Package: at.hochschule.burgenland.bswe.algo.repository Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Route;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RouteDurationComparator;
+import at.hochschule.burgenland.bswe.algo.model.comparator.RoutePriceComparator;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SortedRouteViewTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void testViewContainsExistingRoutesInOrder() throws IOException {
+    try (RouteStore store = new RouteStore(directory)) {
+      store.save(new Route(0, "1", 90, 300.0, 0));
+      store.save(new Route(0, "2", 60, 100.0, 0));
+      store.save(new Route(0, "3", 120, 100.0, 1));
+
+      try (SortedRouteView view = new SortedRouteView(store, new RoutePriceComparator())) {
+        assertEquals(List.of(2, 3, 1), ids(view.findAll()));
+      }
+    }
+  }
+
+  @Test
+  void testViewFollowsSavesAndDeletes() throws IOException {
+    try (RouteStore store = new RouteStore(directory);
+        SortedRouteView view = new SortedRouteView(store, new RouteDurationComparator())) {
+      store.save(new Route(0, "1", 90, 300.0, 0));
+      store.save(new Route(0, "2", 30, 100.0, 0));
+      store.save(new Route(0, "3", 60, 100.0, 1));
+      assertEquals(List.of(2, 3, 1), ids(view.findAll()));
+
+      assertTrue(store.delete(3));
+      assertEquals(List.of(2, 1), ids(view.findAll()));
+      assertEquals(2, view.size());
+    }
+  }
+
+  @Test
+  void testViewKeepsContentAfterClose() throws IOException {
+    try (RouteStore store = new RouteStore(directory)) {
+      store.save(new Route(0, "1", 90, 300.0, 0));
+      SortedRouteView view = new SortedRouteView(store, new RoutePriceComparator());
+      view.close();
+
+      store.save(new Route(0, "2", 30, 100.0, 0));
+      assertEquals(List.of(1), ids(view.findAll()));
+    }
+  }
+
+  @Test
+  void testFindRangeIncludesEqualKeysOnBothBounds() throws IOException {
+    try (RouteStore store = new RouteStore(directory);
+        SortedRouteView view = new SortedRouteView(store, new RoutePriceComparator())) {
+      for (double price : new double[] {50.0, 100.0, 100.0, 200.0, 300.0, 300.0, 400.0}) {
+        store.save(new Route(0, null, 60, price, 0));
+      }
+
+      assertEquals(List.of(2, 3, 4, 5, 6), ids(view.findRange(price(100.0), price(300.0))));
+      assertEquals(List.of(1, 2, 3), ids(view.findRange(null, price(100.0))));
+      assertEquals(List.of(5, 6, 7), ids(view.findRange(price(250.0), null)));
+      assertTrue(view.findRange(price(500.0), null).isEmpty());
+    }
+  }
+
+  @Test
+  void testFindWhereReturnsFirstMatchesInViewOrder() throws IOException {
+    try (RouteStore store = new RouteStore(directory);
+        SortedRouteView view = new SortedRouteView(store, new RouteDurationComparator())) {
+      store.save(new Route(0, "1", 30, 450.0, 0));
+      store.save(new Route(0, "2", 60, 250.0, 0));
+      store.save(new Route(0, "3", 90, 120.0, 1));
+      store.save(new Route(0, "4", 120, 299.0, 2));
+
+      assertEquals(
+          List.of(2, 3, 4), ids(view.findWhere(route -> route.getTotalPrice() < 300.0, 10)));
+      assertEquals(List.of(2, 3), ids(view.findWhere(route -> route.getTotalPrice() < 300.0, 2)));
+      assertEquals(List.of(1), ids(view.findFirst(1)));
+      assertTrue(view.findWhere(route -> true, 0).isEmpty());
+    }
+  }
+
+  @Test
+  void testConcurrentSavesAndReads() throws Exception {
+    try (RouteStore store = new RouteStore(directory);
+        SortedRouteView view = new SortedRouteView(store, new RoutePriceComparator())) {
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 3; thread++) {
+          futures.add(
+              executor.submit(
+                  () -> {
+                    for (int i = 0; i < 200; i++) {
+                      store.save(new Route(0, null, 60, (i * 37) % 500, 0));
+                    }
+                  }));
+        }
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 200; i++) {
+                    assertSortedByPrice(view.findAll());
+                  }
+                }));
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      } finally {
+        executor.shutdown();
+      }
+
+      assertEquals(600, view.size());
+      assertSortedByPrice(view.findAll());
+    }
+  }
+
+  private static void assertSortedByPrice(List<Route> routes) {
+    for (int i = 1; i < routes.size(); i++) {
+      assertTrue(routes.get(i - 1).getTotalPrice() <= routes.get(i).getTotalPrice());
+    }
+  }
+
+  private static Route price(double price) {
+    return new Route(0, null, 0, price, 0);
+  }
+
+  private static List<Integer> ids(List<Route> routes) {
+    return routes.stream().map(Route::getId).toList();
+  }
+}
@@ -0,0 +1,85 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * AutocompleteIndexTest.java Package: at.hochschule.burgenland.bswe.algo.service Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Airport;
+import at.hochschule.burgenland.bswe.algo.model.Flight;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AutocompleteIndexTest {
+
+  private AutocompleteIndex index;
+
+  @BeforeEach
+  void setUp() {
+    List<Airport> airports =
+        List.of(
+            new Airport(1, "VIE", "Vienna", "Austria", 48.1103, 16.5697),
+            new Airport(2, "JFK", "New York", "United States", 40.6413, -73.7781),
+            new Airport(3, "LHR", "London", "United Kingdom", 51.4700, -0.4543),
+            new Airport(4, "LGW", "London", "United Kingdom", 51.1537, -0.1821));
+    List<Flight> flights =
+        List.of(
+            new Flight(
+                1, "VIE", "JFK", "Austrian Airlines", "OS35", 480, 450.0, LocalTime.of(10, 35)),
+            new Flight(
+                2, "LHR", "JFK", "British Airways", "BA123", 420, 380.0, LocalTime.of(16, 30)));
+    index = new AutocompleteIndex(airports, flights);
+  }
+
+  @Test
+  void testFindAirportByIata() {
+    assertEquals("Vienna", index.findAirport("vie").getCity());
+    assertNull(index.findAirport("XXX"));
+  }
+
+  @Test
+  void testSuggestAirportsByPrefix() {
+    assertEquals(List.of("VIE"), iatas(index.suggestAirports("vien", 5)));
+    assertEquals(List.of("LHR", "LGW"), iatas(index.suggestAirports("London", 5)));
+    assertEquals(List.of("JFK"), iatas(index.suggestAirports("york", 5)));
+    assertEquals(List.of("LHR", "LGW"), iatas(index.suggestAirports("kingdom", 5)));
+  }
+
+  @Test
+  void testSuggestAirportsWithTypo() {
+    assertEquals(List.of("VIE"), iatas(index.suggestAirports("Viena", 5)));
+    assertEquals(List.of("VIE"), iatas(index.suggestAirports("Austira", 5)));
+    assertTrue(index.suggestAirports("Tokyo", 5).isEmpty());
+    assertTrue(index.suggestAirports(" ", 5).isEmpty());
+  }
+
+  @Test
+  void testSuggestAirlines() {
+    assertEquals(List.of("British Airways"), index.suggestAirlines("airways", 5));
+    assertEquals(List.of("Austrian Airlines"), index.suggestAirlines("Austrain Airlines", 5));
+    assertEquals(List.of("Austrian Airlines", "British Airways"), index.suggestAirlines("a", 5));
+  }
+
+  @Test
+  void testLargeIndex() {
+    List<Airport> airports = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      airports.add(new Airport(i, "A" + i, "City" + i, "Country" + (i % 100), 0.0, 0.0));
+    }
+    AutocompleteIndex large = new AutocompleteIndex(airports, List.of());
+
+    assertEquals(5, large.suggestAirports("city12", 5).size());
+    assertEquals("City1234", large.suggestAirports("city1234", 1).get(0).getCity());
+    assertEquals("A9999", large.findAirport("a9999").getIata());
+  }
+
+  private static List<String> iatas(List<Airport> airports) {
+    return airports.stream().map(Airport::getIata).toList();
+  }
+}
@@ -0,0 +1,83 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * FlightIndexTest.java Package: at.hochschule.burgenland.bswe.algo.service Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Flight;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FlightIndexTest {
+
+  private FlightIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index =
+        new FlightIndex(
+            List.of(
+                new Flight(
+                    1, "VIE", "JFK", "Austrian Airlines", "OS35", 480, 450.0, LocalTime.of(10, 35)),
+                new Flight(
+                    2, "VIE", "LHR", "Austrian Airlines", "OS45", 90, 120.0, LocalTime.of(14, 20)),
+                new Flight(
+                    3, "LHR", "JFK", "British Airways", "BA123", 420, 380.0, LocalTime.of(16, 30)),
+                new Flight(
+                    4, "VIE", "JFK", "Lufthansa", "LH400", 540, 420.0, LocalTime.of(12, 0)),
+                new Flight(5, null, "CDG", null, null, 60, 80.0, LocalTime.of(18, 45))));
+  }
+
+  @Test
+  void testFindBySingleKeyIsCaseInsensitive() {
+    assertEquals(List.of(1, 2, 4), ids(index.findByOrigin("vie")));
+    assertEquals(List.of(1, 3, 4), ids(index.findByDestination("Jfk")));
+    assertEquals(List.of(1, 2), ids(index.findByAirline("AUSTRIAN AIRLINES")));
+    assertEquals(List.of(3), ids(index.findByFlightNumber("ba123")));
+  }
+
+  @Test
+  void testFindByCompositeKeys() {
+    assertEquals(List.of(1, 4), ids(index.findByOriginAndDestination("VIE", "jfk")));
+    assertEquals(List.of(1, 2), ids(index.findByAirlineAndOrigin("austrian airlines", "VIE")));
+    assertEquals(List.of(4), ids(index.findByAirlineAndOrigin("Lufthansa", "vie")));
+    assertTrue(index.findByOriginAndDestination("JFK", "VIE").isEmpty());
+  }
+
+  @Test
+  void testUnknownAndNullKeysReturnEmptyLists() {
+    assertTrue(index.findByOrigin("XXX").isEmpty());
+    assertTrue(index.findByOrigin(null).isEmpty());
+    assertTrue(index.findByAirlineAndOrigin(null, "VIE").isEmpty());
+    assertEquals(List.of(5), ids(index.findByDestination("CDG")));
+  }
+
+  @Test
+  void testCompositeKeysRejectValuesContainingTheSeparator() {
+    FlightIndex quoted =
+        new FlightIndex(
+            List.of(new Flight(1, "B\0C", "JFK", "A", "X1", 60, 80.0, LocalTime.of(8, 0))));
+
+    assertTrue(quoted.findByAirlineAndOrigin("A\0B", "C").isEmpty());
+    assertTrue(quoted.findByAirlineAndOrigin("A", "B\0C").isEmpty());
+    assertEquals(List.of(1), ids(quoted.findByOrigin("b\0c")));
+  }
+
+  @Test
+  void testResultsAreUnmodifiable() {
+    List<Flight> flights = index.findByOrigin("VIE");
+
+    assertThrows(UnsupportedOperationException.class, () -> flights.remove(0));
+    assertThrows(UnsupportedOperationException.class, () -> index.findByOrigin("XXX").add(null));
+  }
+
+  private static List<Integer> ids(List<Flight> flights) {
+    return flights.stream().map(Flight::getId).toList();
+  }
+}
@@ -12,13 +12,27 @@ import at.hochschule.burgenland.bswe.algo.model.Airport;
 import at.hochschule.burgenland.bswe.algo.model.Flight;
 import at.hochschule.burgenland.bswe.algo.model.Route;
 import at.hochschule.burgenland.bswe.algo.structure.Graph;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class RoutingDataServiceTest {
 
+  @BeforeEach
+  void setUp(@TempDir Path directory) {
+    RoutingDataService.setRoutesDirectory(directory);
+  }
+
+  @AfterEach
+  void tearDown() {
+    RoutingDataService.setRoutesDirectory(RoutingDataService.DEFAULT_ROUTES_DIRECTORY);
+  }
+
   @Test
   void testBuildGraph() {
     assertDoesNotThrow(
@@ -0,0 +1,121 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * AirportSpatialIndexTest.java Package: at.hochschule.burgenland.bswe.algo.structure Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Airport;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AirportSpatialIndexTest {
+
+  private AirportSpatialIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index =
+        new AirportSpatialIndex(
+            List.of(
+                new Airport(1, "VIE", "Vienna", "Austria", 48.1103, 16.5697),
+                new Airport(2, "BTS", "Bratislava", "Slovakia", 48.1702, 17.2127),
+                new Airport(3, "BUD", "Budapest", "Hungary", 47.4298, 19.2611),
+                new Airport(4, "LHR", "London", "United Kingdom", 51.4700, -0.4543),
+                new Airport(5, "JFK", "New York", "United States", 40.6413, -73.7781),
+                new Airport(6, "SUV", "Suva", "Fiji", -18.0433, 178.5592),
+                new Airport(7, "TVU", "Taveuni", "Fiji", -16.6906, -179.8770)));
+  }
+
+  @Test
+  void testFindNearest() {
+    Airport vienna = index.getAirport("VIE");
+
+    assertEquals(
+        List.of("VIE", "BTS", "BUD"),
+        iatas(index.findNearest(vienna.getLatitude(), vienna.getLongitude(), 3)));
+    assertEquals(7, index.findNearest(0, 0, 20).size());
+    assertTrue(index.findNearest(0, 0, 0).isEmpty());
+  }
+
+  @Test
+  void testFindWithinRadius() {
+    Airport vienna = index.getAirport("VIE");
+
+    assertEquals(List.of("VIE", "BTS"), iatas(index.findWithinRadius(vienna, 100)));
+    assertEquals(List.of("VIE", "BTS", "BUD"), iatas(index.findWithinRadius(vienna, 250)));
+    assertEquals(List.of("VIE"), iatas(index.findWithinRadius(vienna, 0)));
+  }
+
+  @Test
+  void testFindWithinRadiusAcrossDateLine() {
+    Airport suva = index.getAirport("SUV");
+
+    assertEquals(List.of("SUV", "TVU"), iatas(index.findWithinRadius(suva, 300)));
+  }
+
+  @Test
+  void testDistanceKm() {
+    double distance = AirportSpatialIndex.distanceKm(48.1103, 16.5697, 51.4700, -0.4543);
+
+    assertEquals(1275, distance, 10);
+    assertEquals(0.0, AirportSpatialIndex.distanceKm(10, 20, 10, 20), 1e-9);
+  }
+
+  @Test
+  void testQueriesMatchBruteForce() {
+    Random random = new Random(42);
+    List<Airport> airports = new ArrayList<>();
+    for (int i = 0; i < 2_000; i++) {
+      airports.add(
+          new Airport(
+              i,
+              "A" + i,
+              "City",
+              "Country",
+              random.nextDouble() * 180 - 90,
+              random.nextDouble() * 360 - 180));
+    }
+    AirportSpatialIndex large = new AirportSpatialIndex(airports);
+
+    for (int query = 0; query < 20; query++) {
+      double latitude = random.nextDouble() * 180 - 90;
+      double longitude = random.nextDouble() * 360 - 180;
+      Comparator<Airport> byDistance =
+          Comparator.comparingDouble(
+              airport ->
+                  AirportSpatialIndex.distanceKm(
+                      latitude, longitude, airport.getLatitude(), airport.getLongitude()));
+
+      List<String> expectedNearest =
+          iatas(airports.stream().sorted(byDistance).limit(10).toList());
+      assertEquals(expectedNearest, iatas(large.findNearest(latitude, longitude, 10)));
+
+      List<String> expectedRadius =
+          iatas(
+              airports.stream()
+                  .filter(
+                      airport ->
+                          AirportSpatialIndex.distanceKm(
+                                  latitude,
+                                  longitude,
+                                  airport.getLatitude(),
+                                  airport.getLongitude())
+                              <= 800)
+                  .sorted(byDistance)
+                  .toList());
+      assertEquals(expectedRadius, iatas(large.findWithinRadius(latitude, longitude, 800)));
+    }
+  }
+
+  private static List<String> iatas(List<Airport> airports) {
+    return airports.stream().map(Airport::getIata).toList();
+  }
+}
@@ -205,4 +205,11 @@ class GraphTest {
     assertEquals(1, singleFlightGraph.getOutgoingEdges("VIE").size());
     assertTrue(singleFlightGraph.getOutgoingEdges("JFK").isEmpty());
   }
+
+  @Test
+  void testGraphVersionIncreasesWithEveryGraph() {
+    Graph rebuilt = new Graph(airports, flights);
+
+    assertTrue(rebuilt.getVersion() > graph.getVersion());
+  }
 }
@@ -0,0 +1,67 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * PrefixTrieTest.java Package: at.hochschule.burgenland.bswe.algo.structure Authors: Alexander R.
+ * Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrefixTrieTest {
+
+  private PrefixTrie<String> trie;
+
+  @BeforeEach
+  void setUp() {
+    trie = new PrefixTrie<>();
+    trie.put("Vienna", "VIE");
+    trie.put("Venice", "VCE");
+    trie.put("Valencia", "VLC");
+    trie.put("London", "LHR");
+    trie.put("London", "LGW");
+    trie.put("Paris", "CDG");
+  }
+
+  @Test
+  void testFindByPrefixReturnsValuesInKeyOrder() {
+    assertEquals(List.of("VLC", "VCE", "VIE"), trie.findByPrefix("v", 10));
+    assertEquals(List.of("VIE"), trie.findByPrefix("VIEN", 10));
+    assertEquals(List.of("LHR", "LGW"), trie.findByPrefix("london", 10));
+  }
+
+  @Test
+  void testFindByPrefixRespectsLimit() {
+    assertEquals(2, trie.findByPrefix("v", 2).size());
+    assertTrue(trie.findByPrefix("v", 0).isEmpty());
+    assertTrue(trie.findByPrefix("x", 10).isEmpty());
+  }
+
+  @Test
+  void testFindFuzzyToleratesTypos() {
+    assertEquals(List.of("VIE"), trie.findFuzzy("Viena", 1, 10));
+    assertEquals(List.of("LHR", "LGW"), trie.findFuzzy("Lodnon", 2, 10));
+    assertEquals(List.of("CDG"), trie.findFuzzy("paris", 0, 10));
+    assertTrue(trie.findFuzzy("Berlin", 2, 10).isEmpty());
+  }
+
+  @Test
+  void testFindFuzzyOrdersByDistance() {
+    trie.put("Parma", "PMF");
+
+    assertEquals(List.of("CDG", "PMF"), trie.findFuzzy("Paris", 2, 10));
+  }
+
+  @Test
+  void testDuplicateAndBlankKeysAreIgnored() {
+    trie.put("Paris", "CDG");
+    trie.put(" ", "X");
+    trie.put(null, "Y");
+
+    assertEquals(6, trie.size());
+  }
+}
@@ -0,0 +1,85 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * ReachabilityIndexTest.java Package: at.hochschule.burgenland.bswe.algo.structure Authors:
+ * Alexander R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.model.Airport;
+import at.hochschule.burgenland.bswe.algo.model.Flight;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReachabilityIndexTest {
+
+  private Graph graph;
+
+  @BeforeEach
+  void setUp() {
+    // Chain A -> B -> C -> D -> E -> F plus an isolated airport X
+    List<Airport> airports = new ArrayList<>();
+    List<Flight> flights = new ArrayList<>();
+    String[] codes = {"A", "B", "C", "D", "E", "F"};
+    for (int i = 0; i < codes.length; i++) {
+      airports.add(new Airport(i + 1, codes[i], "City", "Country", 0.0, 0.0));
+      if (i > 0) {
+        flights.add(
+            new Flight(i, codes[i - 1], codes[i], "Airline", "F" + i, 30, 10.0, LocalTime.NOON));
+      }
+    }
+    airports.add(new Airport(7, "X", "City", "Country", 0.0, 0.0));
+    graph = new Graph(airports, flights);
+  }
+
+  @Test
+  void testReachableWithinHops() {
+    ReachabilityIndex index = new ReachabilityIndex(graph, 4);
+
+    assertTrue(index.canReach("A", "B"));
+    assertTrue(index.canReach("A", "E"));
+    assertTrue(index.canReach("B", "F"));
+  }
+
+  @Test
+  void testNotReachableBeyondHops() {
+    ReachabilityIndex index = new ReachabilityIndex(graph, 4);
+
+    assertFalse(index.canReach("A", "F"));
+  }
+
+  @Test
+  void testNotReachableAgainstDirection() {
+    ReachabilityIndex index = new ReachabilityIndex(graph, 4);
+
+    assertFalse(index.canReach("F", "A"));
+    assertFalse(index.canReach("A", "X"));
+    assertFalse(index.canReach("X", "A"));
+  }
+
+  @Test
+  void testUnknownAirports() {
+    ReachabilityIndex index = new ReachabilityIndex(graph, 4);
+
+    assertFalse(index.contains("INVALID"));
+    assertFalse(index.contains(null));
+    assertTrue(index.contains("X"));
+    assertFalse(index.canReach("INVALID", "A"));
+    assertFalse(index.canReach("A", null));
+  }
+
+  @Test
+  void testIndexRemembersGraphVersion() {
+    ReachabilityIndex index = new ReachabilityIndex(graph, 2);
+
+    assertEquals(graph.getVersion(), index.getGraphVersion());
+    assertEquals(2, index.getMaxHops());
+    assertTrue(index.canReach("A", "C"));
+    assertFalse(index.canReach("A", "D"));
+  }
+}
@@ -0,0 +1,149 @@
+/**
+ * ----------------------------------------------------------------------------- File:
+ * ScheduleGeneratorTest.java Package: at.hochschule.burgenland.bswe.algo.util Authors: Alexander
+ * R. Brenner, Raja Abdulhadi, Julia Michler BSWE3B, Hochschule Burgenland
+ * -----------------------------------------------------------------------------
+ */
+package at.hochschule.burgenland.bswe.algo.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import at.hochschule.burgenland.bswe.algo.algorithm.path.BreadthFirstSearchAlgorithm;
+import at.hochschule.burgenland.bswe.algo.model.Airport;
+import at.hochschule.burgenland.bswe.algo.model.Flight;
+import at.hochschule.burgenland.bswe.algo.structure.AirportSpatialIndex;
+import at.hochschule.burgenland.bswe.algo.structure.Graph;
+import com.opencsv.bean.CsvToBeanBuilder;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ScheduleGeneratorTest {
+
+  @Test
+  void testSameSeedGivesSameSchedule() {
+    ScheduleGenerator first = generator(7L, 200, 8, 3000);
+    ScheduleGenerator second = generator(7L, 200, 8, 3000);
+
+    assertEquals(first.generateAirports(), second.generateAirports());
+    assertEquals(flights(first), flights(second));
+    assertNotEquals(flights(first), flights(generator(8L, 200, 8, 3000)));
+  }
+
+  @Test
+  void testGeneratesRequestedCountsWithUniqueIds() {
+    ScheduleGenerator generator = generator(1L, 500, 10, 12345);
+    List<Airport> airports = generator.generateAirports();
+    List<Flight> flights = flights(generator);
+
+    assertEquals(500, airports.size());
+    assertEquals(500, airports.stream().map(Airport::getIata).distinct().count());
+    assertEquals(12345, flights.size());
+    for (int i = 0; i < flights.size(); i++) {
+      assertEquals(i + 1, flights.get(i).getId());
+    }
+  }
+
+  @Test
+  void testFlightsAreConsistentWithAirports() {
+    ScheduleGenerator generator = generator(3L, 300, 6, 5000);
+    Map<String, Airport> airports = new HashMap<>();
+    for (Airport airport : generator.generateAirports()) {
+      assertTrue(Math.abs(airport.getLatitude()) <= 80.0);
+      assertTrue(Math.abs(airport.getLongitude()) <= 180.0);
+      airports.put(airport.getIata(), airport);
+    }
+
+    for (Flight flight : flights(generator)) {
+      Airport origin = airports.get(flight.getOrigin());
+      Airport destination = airports.get(flight.getDestination());
+      assertNotNull(origin);
+      assertNotNull(destination);
+      assertNotEquals(origin, destination);
+      double distanceKm =
+          AirportSpatialIndex.distanceKm(
+              origin.getLatitude(),
+              origin.getLongitude(),
+              destination.getLatitude(),
+              destination.getLongitude());
+      assertEquals(30 + distanceKm / 800.0 * 60, flight.getDuration(), 3.0);
+      assertEquals(0, flight.getDuration() % 5);
+      assertTrue(flight.getPrice() > 0);
+      assertEquals(0, flight.getDepartureTime().getMinute() % 5);
+    }
+  }
+
+  @Test
+  void testEverySpokeIsConnectedToAHub() {
+    ScheduleGenerator generator = generator(5L, 120, 4, 2000);
+    List<Airport> airports = generator.generateAirports();
+    Set<String> hubs = new HashSet<>();
+    for (int i = 0; i < 4; i++) {
+      hubs.add(airports.get(i).getIata());
+    }
+
+    Set<String> connectedSpokes = new HashSet<>();
+    for (Flight flight : flights(generator)) {
+      if (hubs.contains(flight.getDestination())) {
+        connectedSpokes.add(flight.getOrigin());
+      }
+      assertTrue(hubs.contains(flight.getOrigin()) || hubs.contains(flight.getDestination()));
+    }
+    for (Airport airport : airports.subList(4, airports.size())) {
+      assertTrue(connectedSpokes.contains(airport.getIata()), airport.getIata());
+    }
+  }
+
+  @Test
+  void testWrittenFilesCanBeLoadedAndRouted(@TempDir Path directory) throws IOException {
+    ScheduleGenerator generator = generator(11L, 50, 5, 2000);
+    generator.write(directory);
+
+    List<Airport> airports = parse(directory.resolve("airports.csv"), Airport.class);
+    List<Flight> flights = parse(directory.resolve("flights.csv"), Flight.class);
+    assertEquals(generator.generateAirports(), airports);
+    assertEquals(flights(generator), flights);
+
+    Graph graph = new Graph(airports, flights);
+    assertNotNull(
+        new BreadthFirstSearchAlgorithm()
+            .findRoute(graph, airports.get(0).getIata(), airports.get(1).getIata()));
+  }
+
+  @Test
+  void testRejectsInvalidSettings() {
+    assertThrows(IllegalArgumentException.class, () -> generator(1L, 1, 1, 10));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> generator(1L, ScheduleGenerator.MAX_AIRPORTS + 1, 1, 10));
+    assertThrows(IllegalArgumentException.class, () -> generator(1L, 10, 0, 10));
+    assertThrows(IllegalArgumentException.class, () -> generator(1L, 10, 11, 10));
+    assertThrows(IllegalArgumentException.class, () -> generator(1L, 10, 2, -1));
+  }
+
+  private static ScheduleGenerator generator(long seed, int airports, int hubs, int flights) {
+    return new ScheduleGenerator(
+        seed, airports, hubs, flights, ScheduleGenerator.DepartureProfile.DIURNAL);
+  }
+
+  private static List<Flight> flights(ScheduleGenerator generator) {
+    List<Flight> flights = new ArrayList<>();
+    generator.generateFlights(generator.generateAirports(), flights::add);
+    return flights;
+  }
+
+  private static <T> List<T> parse(Path file, Class<T> type) throws IOException {
+    try (Reader reader = Files.newBufferedReader(file)) {
+      return new CsvToBeanBuilder<T>(reader).withType(type).build().parse();
+    }
+  }
+}